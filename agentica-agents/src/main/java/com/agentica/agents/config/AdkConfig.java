@@ -22,6 +22,12 @@ public class AdkConfig {
    */
   private String defaultModel = "gemini-2.0-flash";
 
+  /**
+   * The model backend agents run against.
+   * Use LOCAL to run the whole pipeline without network access.
+   */
+  private ModelBackend modelBackend = ModelBackend.GEMINI;
+
   /**
    * Whether to enable the ADK development UI.
    */
@@ -38,4 +44,24 @@ public class AdkConfig {
    */
   private boolean autoApproveReview = false;
 
+  /**
+   * Idle time after which an unreleased workflow session is evicted.
+   */
+  private long sessionTtlMs = 1_800_000;
+
+  /**
+   * Interval between sweeps for expired workflow sessions.
+   */
+  private long sessionSweepIntervalMs = 60_000;
+
+  /**
+   * Price in USD per 1,000 prompt tokens, used for cost accounting.
+   */
+  private double inputCostPer1kTokens = 0.0001;
+
+  /**
+   * Price in USD per 1,000 response tokens, used for cost accounting.
+   */
+  private double outputCostPer1kTokens = 0.0004;
+
 }
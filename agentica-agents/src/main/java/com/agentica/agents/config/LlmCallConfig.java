@@ -0,0 +1,50 @@
+package com.agentica.agents.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for LLM call deadlines and hedged requests.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.llm.call")
+public class LlmCallConfig {
+
+  /**
+   * Upper bound for a single LLM call, regardless of the workflow deadline.
+   */
+  private long timeoutMs = 60_000;
+
+  /**
+   * Time budget of a whole workflow, planning and replans included.
+   */
+  private long workflowTimeoutMs = 300_000;
+
+  /**
+   * Whether slow tool-free calls get a second, hedged attempt.
+   */
+  private boolean hedgingEnabled = false;
+
+  /**
+   * Latency quantile after which the hedged attempt is fired.
+   */
+  private double hedgeQuantile = 0.95;
+
+  /**
+   * Latency samples an agent type needs before its calls are hedged.
+   */
+  private int hedgeMinSamples = 20;
+
+  /**
+   * Lower bound for the hedge delay, so fast calls are never doubled.
+   */
+  private long hedgeMinDelayMs = 100;
+
+  /**
+   * Number of recent latencies kept per agent type to estimate the quantile.
+   */
+  private int latencyWindowSize = 256;
+
+}
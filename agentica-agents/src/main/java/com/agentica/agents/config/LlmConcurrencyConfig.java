@@ -0,0 +1,62 @@
+package com.agentica.agents.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for adaptive LLM concurrency limits.
+ * Each model and each agent type gets its own limiter.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.llm.concurrency")
+public class LlmConcurrencyConfig {
+
+  /**
+   * Whether LLM calls are admitted through the limiters.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Starting concurrency limit of a model.
+   */
+  private int initialLimit = 8;
+
+  /**
+   * Lowest concurrency limit a model can shrink to.
+   */
+  private int minLimit = 1;
+
+  /**
+   * Highest concurrency limit a model can grow to.
+   */
+  private int maxLimit = 64;
+
+  /**
+   * Starting concurrency limit of an agent type.
+   */
+  private int agentTypeInitialLimit = 4;
+
+  /**
+   * Highest concurrency limit of an agent type; keeps one agent type,
+   * e.g. the planner, from taking every model slot.
+   */
+  private int agentTypeMaxLimit = 32;
+
+  /**
+   * Maximum time a call waits in the queue for a slot before it is rejected.
+   */
+  private long acquireTimeoutMs = 30_000;
+
+  /**
+   * Latency, relative to the observed baseline, above which the limit shrinks.
+   */
+  private double latencyTolerance = 2.0;
+
+  /**
+   * Factor the limit is multiplied by on a rate limit or overload response.
+   */
+  private double backoffRatio = 0.9;
+
+}
@@ -0,0 +1,51 @@
+package com.agentica.agents.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the LLM request and token rate governor.
+ * Quotas should match the provider's per-minute limits for the project.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.llm.rate")
+public class LlmRateConfig {
+
+  /**
+   * Whether LLM calls are paced against the configured quotas.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Model requests allowed per minute.
+   */
+  private int requestsPerMinute = 1_000;
+
+  /**
+   * Prompt plus response tokens allowed per minute.
+   */
+  private long tokensPerMinute = 1_000_000;
+
+  /**
+   * Response tokens assumed per call before the actual usage is known.
+   */
+  private int expectedOutputTokens = 500;
+
+  /**
+   * Share of each quota only high-priority events may use.
+   */
+  private double reservedFraction = 0.2;
+
+  /**
+   * Event priority at or above which calls may use the reserved share.
+   */
+  private int highPriorityThreshold = 4;
+
+  /**
+   * Maximum time a call waits for quota before it is rejected.
+   */
+  private long maxWaitMs = 60_000;
+
+}
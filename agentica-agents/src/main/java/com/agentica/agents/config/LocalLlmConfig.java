@@ -0,0 +1,57 @@
+package com.agentica.agents.config;
+
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local model backend.
+ * Only used when {@code agentica.adk.model-backend} is {@code local}.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.local-llm")
+public class LocalLlmConfig {
+
+  /**
+   * Seed for simulated latency and failures, so runs are reproducible.
+   */
+  private long seed = 42;
+
+  /**
+   * Median simulated model latency. Zero disables simulated latency.
+   */
+  private long latencyMedianMs = 40;
+
+  /**
+   * Spread of the log-normal latency distribution; zero gives a constant latency.
+   */
+  private double latencySigma = 0.5;
+
+  /**
+   * Upper bound for a single simulated latency sample.
+   */
+  private long latencyMaxMs = 2_000;
+
+  /**
+   * Fraction of calls that fail with a 429 rate limit error.
+   */
+  private double rateLimitRate = 0.0;
+
+  /**
+   * Fraction of calls that fail with a 503 server error.
+   */
+  private double errorRate = 0.0;
+
+  /**
+   * Simulated latency of Facebook tool calls.
+   */
+  private long toolLatencyMs = 5;
+
+  /**
+   * Comment keywords that make the scripted agents choose deletion over a reply.
+   */
+  private List<String> deleteKeywords = List.of("spam", "scam", "buy now", "http://", "free money");
+
+}
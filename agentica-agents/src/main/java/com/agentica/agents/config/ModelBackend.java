@@ -0,0 +1,18 @@
+package com.agentica.agents.config;
+
+/**
+ * Model backends agents can run against.
+ */
+public enum ModelBackend {
+
+  /**
+   * Google Gemini, resolved by ADK from the configured model name.
+   */
+  GEMINI,
+
+  /**
+   * In-process scripted model for load and regression testing.
+   */
+  LOCAL
+
+}
@@ -0,0 +1,36 @@
+package com.agentica.agents.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for agent prompt assembly.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.prompt")
+public class PromptConfig {
+
+  /**
+   * Token budget for the previous node outputs section of a prompt.
+   * Older outputs are summarized, then omitted, until the section fits.
+   */
+  private int nodeOutputsTokenBudget = 1500;
+
+  /**
+   * Number of most recent node outputs that are never summarized.
+   */
+  private int keepRecentOutputs = 1;
+
+  /**
+   * Maximum characters kept when an older node output is summarized.
+   */
+  private int summaryChars = 400;
+
+  /**
+   * Average characters per token used for token estimation.
+   */
+  private int charsPerToken = 4;
+
+}
@@ -0,0 +1,41 @@
+package com.agentica.agents.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local replan policy that resolves well-known escalations
+ * without an LLM round trip.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.replan.policy")
+public class ReplanPolicyConfig {
+
+  /**
+   * Whether well-known escalation reasons are resolved locally instead of by the LLM.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Retries of a node for transient failures before the workflow is parked.
+   */
+  private int maxRetries = 3;
+
+  /**
+   * Backoff before the first retry; doubled for each further retry.
+   */
+  private long initialBackoffMs = 1_000;
+
+  /**
+   * Upper bound for the backoff before a retry.
+   */
+  private long maxBackoffMs = 30_000;
+
+  /**
+   * Random fraction added to each backoff so retries of parallel workflows spread out.
+   */
+  private double jitter = 0.2;
+
+}
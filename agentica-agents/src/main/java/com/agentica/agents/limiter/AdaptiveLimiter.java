@@ -0,0 +1,237 @@
+package com.agentica.agents.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter whose limit adapts to observed latency and overload signals.
+ *
+ * <p>The limit grows additively while latency stays within a tolerance of the baseline
+ * (the smallest recently observed latency) and the limiter is actually used. It shrinks
+ * by the latency gradient when calls slow down and multiplicatively when the provider
+ * signals overload, e.g. with a 429. Waiting callers are served in arrival order and
+ * give up after a timeout.
+ */
+public class AdaptiveLimiter {
+
+  private static final double BASELINE_DRIFT = 0.01;
+
+  private final String name;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double latencyTolerance;
+
+  private final double backoffRatio;
+
+  private final ReentrantLock lock = new ReentrantLock(true);
+
+  private final Condition slotAvailable = lock.newCondition();
+
+  private double limit;
+
+  private int inFlight;
+
+  private int queued;
+
+  private long baselineNanos;
+
+  public AdaptiveLimiter(final String name, final int initialLimit, final int minLimit,
+      final int maxLimit, final double latencyTolerance, final double backoffRatio) {
+
+    this.name = name;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTolerance = latencyTolerance;
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Waits for a slot.
+   *
+   * @param timeoutMs maximum time to wait
+   * @return true if a slot was acquired, false if the wait timed out
+   * @throws InterruptedException if the caller is interrupted while waiting
+   */
+  public boolean acquire(final long timeoutMs) throws InterruptedException {
+
+    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+    lock.lockInterruptibly();
+
+    try {
+
+      queued++;
+
+      try {
+
+        while (inFlight >= (int) limit) {
+
+          if (remainingNanos <= 0) {
+
+            return false;
+          }
+
+          remainingNanos = slotAvailable.awaitNanos(remainingNanos);
+        }
+
+      } finally {
+
+        queued--;
+      }
+
+      inFlight++;
+
+      return true;
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a slot after a successful call and adapts the limit to its latency.
+   *
+   * @param latencyNanos latency of the call
+   */
+  public void onSuccess(final long latencyNanos) {
+
+    lock.lock();
+
+    try {
+
+      final boolean saturated = inFlight >= limit / 2;
+
+      inFlight--;
+
+      if (baselineNanos == 0 || latencyNanos < baselineNanos) {
+
+        baselineNanos = latencyNanos;
+
+      } else {
+
+        baselineNanos += (long) ((latencyNanos - baselineNanos) * BASELINE_DRIFT);
+      }
+
+      if (latencyNanos <= baselineNanos * latencyTolerance) {
+
+        if (saturated) {
+
+          limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+
+      } else {
+
+        final double gradient = baselineNanos * latencyTolerance / latencyNanos;
+
+        limit = Math.max(minLimit, limit * Math.max(backoffRatio, gradient));
+      }
+
+      signalWaiters();
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a slot after the provider rejected the call as overloaded and backs off.
+   */
+  public void onDropped() {
+
+    lock.lock();
+
+    try {
+
+      inFlight--;
+
+      limit = Math.max(minLimit, limit * backoffRatio);
+
+      signalWaiters();
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a slot without adapting the limit, e.g. after an unrelated failure.
+   */
+  public void onIgnore() {
+
+    lock.lock();
+
+    try {
+
+      inFlight--;
+
+      signalWaiters();
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+
+    lock.lock();
+
+    try {
+
+      return (int) limit;
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+
+    lock.lock();
+
+    try {
+
+      return inFlight;
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  public int getQueued() {
+
+    lock.lock();
+
+    try {
+
+      return queued;
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  private void signalWaiters() {
+
+    for (int free = (int) limit - inFlight; free > 0; free--) {
+
+      slotAvailable.signal();
+    }
+  }
+
+}
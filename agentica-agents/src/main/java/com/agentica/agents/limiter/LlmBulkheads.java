@@ -0,0 +1,241 @@
+package com.agentica.agents.limiter;
+
+import com.agentica.agents.config.LlmConcurrencyConfig;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.exception.LlmCapacityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkheads for LLM calls: one adaptive limiter per model and one per agent type.
+ *
+ * <p>A call first takes a slot of its agent type, then a slot of its model, so an agent type
+ * that is queueing (e.g. the planner during a burst) holds none of the shared model slots,
+ * and a slow agent type cannot take more model slots than its own limit allows.
+ */
+@Slf4j
+@Component
+public class LlmBulkheads {
+
+  private final LlmConcurrencyConfig config;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, AdaptiveLimiter> modelLimiters = new ConcurrentHashMap<>();
+
+  private final Map<AgentType, AdaptiveLimiter> agentTypeLimiters = new ConcurrentHashMap<>();
+
+  public LlmBulkheads(final LlmConcurrencyConfig config, final MeterRegistry meterRegistry) {
+
+    this.config = config;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Waits for a slot of the given agent type and model.
+   *
+   * @param model     the model the call targets
+   * @param agentType the agent type issuing the call (may be null)
+   * @param maxWaitMs the longest the caller can wait, e.g. the rest of its workflow budget;
+   *                  the configured acquire timeout applies if it is shorter
+   * @return the acquired permit, which must be released exactly once
+   * @throws LlmCapacityException if no slot became free within the acquire timeout
+   */
+  public Permit acquire(final String model, final AgentType agentType, final long maxWaitMs) {
+
+    if (!config.isEnabled()) {
+
+      return Permit.NONE;
+    }
+
+    final AdaptiveLimiter agentTypeLimiter = agentType != null
+        ? agentTypeLimiters.computeIfAbsent(agentType, this::createAgentTypeLimiter)
+        : null;
+
+    final AdaptiveLimiter modelLimiter = modelLimiters.computeIfAbsent(model,
+        this::createModelLimiter);
+
+    final long timeoutMs = Math.max(0, Math.min(config.getAcquireTimeoutMs(), maxWaitMs));
+
+    final long deadline = System.currentTimeMillis() + timeoutMs;
+
+    if (agentTypeLimiter != null) {
+
+      acquire(agentTypeLimiter, timeoutMs);
+    }
+
+    try {
+
+      acquire(modelLimiter, Math.max(0, deadline - System.currentTimeMillis()));
+
+    } catch (final RuntimeException e) {
+
+      if (agentTypeLimiter != null) {
+
+        agentTypeLimiter.onIgnore();
+      }
+
+      throw e;
+    }
+
+    return new Permit(modelLimiter, agentTypeLimiter);
+  }
+
+  /**
+   * Returns all limiters created so far.
+   *
+   * @return model and agent type limiters
+   */
+  public Collection<AdaptiveLimiter> limiters() {
+
+    return Stream.concat(
+        modelLimiters.values().stream(),
+        agentTypeLimiters.values().stream()
+    ).toList();
+  }
+
+  private void acquire(final AdaptiveLimiter limiter, final long timeoutMs) {
+
+    final boolean acquired;
+
+    try {
+
+      acquired = limiter.acquire(timeoutMs);
+
+    } catch (final InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+
+      throw new LlmCapacityException(limiter.getName(),
+          "Interrupted while waiting for LLM capacity: " + limiter.getName());
+    }
+
+    if (!acquired) {
+
+      Counter.builder("agentica.llm.concurrency.rejected")
+          .description("LLM calls rejected after waiting for a concurrency slot")
+          .tag("limiter", limiter.getName())
+          .register(meterRegistry)
+          .increment();
+
+      log.warn("LLM call rejected, limiter: {}, limit: {}, inFlight: {}, queued: {}",
+          limiter.getName(), limiter.getLimit(), limiter.getInFlight(), limiter.getQueued());
+
+      throw new LlmCapacityException(limiter.getName(),
+          "No LLM capacity within " + timeoutMs + "ms: " + limiter.getName());
+    }
+  }
+
+  private AdaptiveLimiter createModelLimiter(final String model) {
+
+    return register(new AdaptiveLimiter("model:" + model, config.getInitialLimit(),
+        config.getMinLimit(), config.getMaxLimit(), config.getLatencyTolerance(),
+        config.getBackoffRatio()));
+  }
+
+  private AdaptiveLimiter createAgentTypeLimiter(final AgentType agentType) {
+
+    return register(new AdaptiveLimiter("agent:" + agentType.name(),
+        config.getAgentTypeInitialLimit(), config.getMinLimit(), config.getAgentTypeMaxLimit(),
+        config.getLatencyTolerance(), config.getBackoffRatio()));
+  }
+
+  private AdaptiveLimiter register(final AdaptiveLimiter limiter) {
+
+    Gauge.builder("agentica.llm.concurrency.limit", limiter, AdaptiveLimiter::getLimit)
+        .description("Current adaptive concurrency limit")
+        .tag("limiter", limiter.getName())
+        .register(meterRegistry);
+
+    Gauge.builder("agentica.llm.concurrency.inflight", limiter, AdaptiveLimiter::getInFlight)
+        .description("LLM calls currently holding a concurrency slot")
+        .tag("limiter", limiter.getName())
+        .register(meterRegistry);
+
+    Gauge.builder("agentica.llm.concurrency.queued", limiter, AdaptiveLimiter::getQueued)
+        .description("LLM calls waiting for a concurrency slot")
+        .tag("limiter", limiter.getName())
+        .register(meterRegistry);
+
+    log.info("LLM limiter created, limiter: {}, initialLimit: {}",
+        limiter.getName(), limiter.getLimit());
+
+    return limiter;
+  }
+
+  /**
+   * Slots held by one LLM call.
+   */
+  public static final class Permit {
+
+    static final Permit NONE = new Permit(null, null);
+
+    private final AdaptiveLimiter modelLimiter;
+
+    private final AdaptiveLimiter agentTypeLimiter;
+
+    private Permit(final AdaptiveLimiter modelLimiter, final AdaptiveLimiter agentTypeLimiter) {
+
+      this.modelLimiter = modelLimiter;
+      this.agentTypeLimiter = agentTypeLimiter;
+    }
+
+    /**
+     * Releases the slots after a successful call.
+     *
+     * @param latencyNanos latency of the call
+     */
+    public void onSuccess(final long latencyNanos) {
+
+      if (modelLimiter != null) {
+
+        modelLimiter.onSuccess(latencyNanos);
+      }
+
+      if (agentTypeLimiter != null) {
+
+        agentTypeLimiter.onSuccess(latencyNanos);
+      }
+    }
+
+    /**
+     * Releases the slots after the provider reported overload.
+     */
+    public void onDropped() {
+
+      if (modelLimiter != null) {
+
+        modelLimiter.onDropped();
+      }
+
+      if (agentTypeLimiter != null) {
+
+        agentTypeLimiter.onDropped();
+      }
+    }
+
+    /**
+     * Releases the slots without adapting the limits.
+     */
+    public void onIgnore() {
+
+      if (modelLimiter != null) {
+
+        modelLimiter.onIgnore();
+      }
+
+      if (agentTypeLimiter != null) {
+
+        agentTypeLimiter.onIgnore();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+package com.agentica.agents.limiter;
+
+import com.agentica.core.exception.LlmCapacityException;
+import com.agentica.core.exception.LlmDeadlineExceededException;
+import com.google.genai.errors.ApiException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classifies failures of LLM calls.
+ */
+public final class LlmErrors {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private static final int INTERNAL_SERVER_ERROR = 500;
+
+  private LlmErrors() {
+  }
+
+  /**
+   * Returns the HTTP status code of the provider error in the cause chain, if any.
+   *
+   * @param error the failure
+   * @return the provider status code
+   */
+  public static Optional<Integer> statusCode(final Throwable error) {
+
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+
+      if (cause instanceof ApiException apiException) {
+
+        return Optional.of(apiException.code());
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Checks if the failure means the provider or a local limiter is out of capacity.
+   *
+   * @param error the failure
+   * @return true for rate limit, overload and capacity failures
+   */
+  public static boolean isOverload(final Throwable error) {
+
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+
+      if (cause instanceof LlmCapacityException) {
+
+        return true;
+      }
+    }
+
+    return statusCode(error)
+        .map(code -> code == TOO_MANY_REQUESTS || code == SERVICE_UNAVAILABLE)
+        .orElse(false);
+  }
+
+  /**
+   * Whether the failure says the model provider is unhealthy: rate limits, server errors,
+   * timeouts and I/O errors. Local admission failures are not counted, nor are calls cut short
+   * because their workflow ran out of budget, so a burst of late workflows cannot open the
+   * circuit of a healthy provider.
+   *
+   * @param error the failure
+   * @return true if the failure should count against the model's circuit breaker
+   */
+  public static boolean isDependencyFailure(final Throwable error) {
+
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+
+      if (cause instanceof LlmCapacityException) {
+
+        return false;
+      }
+
+      if (cause instanceof LlmDeadlineExceededException deadlineExceeded) {
+
+        return !deadlineExceeded.isWorkflowDeadline();
+      }
+
+      if (cause instanceof IOException || cause instanceof TimeoutException) {
+
+        return true;
+      }
+    }
+
+    return statusCode(error)
+        .map(code -> code == TOO_MANY_REQUESTS || code >= INTERNAL_SERVER_ERROR)
+        .orElse(false);
+  }
+
+}
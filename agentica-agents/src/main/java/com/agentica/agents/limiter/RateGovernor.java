@@ -0,0 +1,269 @@
+package com.agentica.agents.limiter;
+
+import com.agentica.agents.config.LlmRateConfig;
+import com.agentica.core.domain.Event;
+import com.agentica.core.exception.LlmCapacityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Paces LLM calls against per-minute request and token quotas shared by the orchestrator
+ * and all agent nodes.
+ *
+ * <p>Both quotas are token buckets refilled continuously. A call is charged one request and
+ * its estimated tokens up front and waits until both buckets cover the charge; once the
+ * actual usage is known the difference is settled. The last {@code reservedFraction} of each
+ * bucket is only available to high-priority events, so a burst of routine events cannot
+ * delay urgent ones.
+ */
+@Slf4j
+@Component
+public class RateGovernor {
+
+  private static final long MAX_SLEEP_MS = 250;
+
+  private final LlmRateConfig config;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Bucket requests;
+
+  private final Bucket tokens;
+
+  public RateGovernor(final LlmRateConfig config, final MeterRegistry meterRegistry) {
+
+    this.config = config;
+    this.meterRegistry = meterRegistry;
+    this.requests = new Bucket(config.getRequestsPerMinute());
+    this.tokens = new Bucket(config.getTokensPerMinute());
+
+    Gauge.builder("agentica.llm.rate.available", requests, Bucket::available)
+        .description("Quota currently available")
+        .tag("quota", "requests")
+        .register(meterRegistry);
+
+    Gauge.builder("agentica.llm.rate.available", tokens, Bucket::available)
+        .description("Quota currently available")
+        .tag("quota", "tokens")
+        .baseUnit("tokens")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Waits until the request and token quotas cover a call.
+   *
+   * @param event           the event the call is made for, used for its priority
+   * @param estimatedTokens estimated prompt plus response tokens
+   * @param maxWaitMs       the longest the caller can wait, e.g. the rest of its workflow
+   *                        budget; the configured maximum wait applies if it is shorter
+   * @return the grant to settle once the actual usage is known
+   * @throws LlmCapacityException if the quota did not cover the call within the maximum wait
+   */
+  public Grant acquire(final Event event, final long estimatedTokens, final long maxWaitMs) {
+
+    if (!config.isEnabled()) {
+
+      return new Grant(0);
+    }
+
+    final boolean highPriority = event.priority() != null
+        && event.priority() >= config.getHighPriorityThreshold();
+
+    final String lane = highPriority ? "priority" : "standard";
+
+    final long charge = (long) Math.min(estimatedTokens,
+        tokens.capacity * (1 - floor(highPriority)));
+
+    final long startedAt = System.nanoTime();
+
+    final long waitLimitMs = Math.max(0, Math.min(config.getMaxWaitMs(), maxWaitMs));
+
+    final long deadline = System.currentTimeMillis() + waitLimitMs;
+
+    while (true) {
+
+      final long waitMs = tryCharge(charge, highPriority);
+
+      if (waitMs == 0) {
+
+        Timer.builder("agentica.llm.rate.wait")
+            .description("Time LLM calls waited for request and token quota")
+            .tag("lane", lane)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return new Grant(charge);
+      }
+
+      final long remainingMs = deadline - System.currentTimeMillis();
+
+      if (remainingMs <= 0) {
+
+        Counter.builder("agentica.llm.rate.rejected")
+            .description("LLM calls rejected after waiting for quota")
+            .tag("lane", lane)
+            .register(meterRegistry)
+            .increment();
+
+        log.warn("LLM call rejected by rate governor, eventId: {}, lane: {}, estimatedTokens: {}",
+            event.id(), lane, estimatedTokens);
+
+        throw new LlmCapacityException("rate:" + lane,
+            "LLM quota not available within " + waitLimitMs + "ms");
+      }
+
+      try {
+
+        Thread.sleep(Math.min(Math.min(waitMs, remainingMs), MAX_SLEEP_MS));
+
+      } catch (final InterruptedException e) {
+
+        Thread.currentThread().interrupt();
+
+        throw new LlmCapacityException("rate:" + lane, "Interrupted while waiting for LLM quota");
+      }
+    }
+  }
+
+  /**
+   * Returns the response tokens assumed per call when estimating its cost.
+   *
+   * @return expected response tokens
+   */
+  public int expectedOutputTokens() {
+
+    return config.getExpectedOutputTokens();
+  }
+
+  /**
+   * Charges the buckets if both can cover the call above the lane's floor.
+   *
+   * @return zero if charged, otherwise the estimated wait until the charge would fit
+   */
+  private synchronized long tryCharge(final long tokenCharge, final boolean highPriority) {
+
+    final double requestFloor = requests.capacity * floor(highPriority);
+
+    final double tokenFloor = tokens.capacity * floor(highPriority);
+
+    final long requestWait = requests.waitMs(1 + requestFloor);
+
+    final long tokenWait = tokens.waitMs(tokenCharge + tokenFloor);
+
+    if (requestWait == 0 && tokenWait == 0) {
+
+      requests.take(1);
+
+      tokens.take(tokenCharge);
+
+      return 0;
+    }
+
+    return Math.max(1, Math.max(requestWait, tokenWait));
+  }
+
+  private double floor(final boolean highPriority) {
+
+    return highPriority ? 0 : config.getReservedFraction();
+  }
+
+  private synchronized void settle(final long estimatedTokens, final long actualTokens,
+      final int actualRequests) {
+
+    tokens.take(actualTokens - estimatedTokens);
+
+    if (actualRequests > 1) {
+
+      requests.take(actualRequests - 1);
+    }
+  }
+
+  /**
+   * Quota charged for one call.
+   */
+  public final class Grant {
+
+    private final long estimatedTokens;
+
+    private Grant(final long estimatedTokens) {
+
+      this.estimatedTokens = estimatedTokens;
+    }
+
+    /**
+     * Settles the charge against the actual usage. Underestimates are taken from the
+     * bucket (possibly into debt), overestimates are returned.
+     *
+     * @param actualTokens   prompt plus response tokens reported by the model
+     * @param actualRequests model requests made, e.g. more than one when tools were called
+     */
+    public void settle(final long actualTokens, final int actualRequests) {
+
+      if (config.isEnabled()) {
+
+        RateGovernor.this.settle(estimatedTokens, actualTokens, actualRequests);
+      }
+    }
+  }
+
+  /**
+   * Token bucket refilled continuously up to its per-minute capacity. Updates are guarded
+   * by the governor; the level is volatile so gauges can read it without locking.
+   */
+  private static final class Bucket {
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private volatile double level;
+
+    private long refilledAt = System.nanoTime();
+
+    private Bucket(final double perMinute) {
+
+      this.capacity = perMinute;
+      this.refillPerNano = perMinute / TimeUnit.MINUTES.toNanos(1);
+      this.level = perMinute;
+    }
+
+    private long waitMs(final double needed) {
+
+      refill();
+
+      if (level >= needed) {
+
+        return 0;
+      }
+
+      return (long) Math.ceil((needed - level) / refillPerNano / 1_000_000);
+    }
+
+    private void take(final double amount) {
+
+      refill();
+
+      level = Math.min(capacity, level - amount);
+    }
+
+    private double available() {
+
+      return level;
+    }
+
+    private void refill() {
+
+      final long now = System.nanoTime();
+
+      level = Math.min(capacity, level + (now - refilledAt) * refillPerNano);
+
+      refilledAt = now;
+    }
+  }
+
+}
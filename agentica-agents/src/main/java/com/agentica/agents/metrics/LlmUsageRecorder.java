@@ -0,0 +1,268 @@
+package com.agentica.agents.metrics;
+
+import com.agentica.agents.config.AdkConfig;
+import com.agentica.agents.runner.LlmCall;
+import com.agentica.agents.runner.LlmCallResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accounts LLM token usage, latency and cost.
+ *
+ * <p>Every call is recorded per agent type, model and tenant. Calls are also rolled up per
+ * workflow execution and per node; the rollup is published as distributions when the
+ * workflow is closed.
+ */
+@Slf4j
+@Component
+public class LlmUsageRecorder {
+
+  private static final String UNKNOWN = "unknown";
+
+  private final AdkConfig adkConfig;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, WorkflowUsage> workflows = new ConcurrentHashMap<>();
+
+  public LlmUsageRecorder(final AdkConfig adkConfig, final MeterRegistry meterRegistry) {
+
+    this.adkConfig = adkConfig;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Records a completed LLM call.
+   *
+   * @param call   the call that was issued
+   * @param model  the model that served it
+   * @param result the call outcome with token usage and latency
+   */
+  public void recordSuccess(final LlmCall call, final String model, final LlmCallResult result) {
+
+    final String agent = agentTag(call);
+
+    final String tenant = tenantTag(call);
+
+    final double cost = cost(result.inputTokens(), result.outputTokens());
+
+    tokens(agent, model, tenant, "input").increment(result.inputTokens());
+
+    tokens(agent, model, tenant, "output").increment(result.outputTokens());
+
+    Counter.builder("agentica.llm.cost")
+        .description("Estimated LLM spend")
+        .baseUnit("usd")
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("tenant", tenant)
+        .register(meterRegistry)
+        .increment(cost);
+
+    latency(agent, model, "success").record(result.latencyMs(), TimeUnit.MILLISECONDS);
+
+    workflows.computeIfAbsent(call.event().id(), eventId -> new WorkflowUsage(tenant))
+        .add(call.nodeId(), result.inputTokens(), result.outputTokens(), cost,
+            result.latencyMs());
+
+    log.debug("LLM call recorded, agent: {}, nodeId: {}, inputTokens: {}, outputTokens: {}, "
+            + "latencyMs: {}", agent, call.nodeId(), result.inputTokens(), result.outputTokens(),
+        result.latencyMs());
+  }
+
+  /**
+   * Records a failed LLM call.
+   *
+   * @param call      the call that was issued
+   * @param model     the model that was targeted
+   * @param latencyMs time spent before the call failed
+   */
+  public void recordFailure(final LlmCall call, final String model, final long latencyMs) {
+
+    latency(agentTag(call), model, "error").record(latencyMs, TimeUnit.MILLISECONDS);
+
+    workflows.computeIfAbsent(call.event().id(), eventId -> new WorkflowUsage(tenantTag(call)))
+        .add(call.nodeId(), 0, 0, 0, latencyMs);
+  }
+
+  /**
+   * Records that a replanned workflow resumed without re-running the given completed nodes.
+   * The LLM calls and tokens those nodes used are counted as saved.
+   *
+   * @param eventId        the event whose workflow resumed
+   * @param skippedNodeIds completed nodes that will not run again
+   */
+  public void recordResume(final String eventId, final Collection<String> skippedNodeIds) {
+
+    final WorkflowUsage usage = workflows.get(eventId);
+
+    if (usage != null) {
+
+      usage.resume(skippedNodeIds);
+    }
+  }
+
+  /**
+   * Publishes the usage rollup of a finished workflow and forgets it.
+   * Safe to call when the workflow made no LLM calls.
+   *
+   * @param eventId the event whose workflow finished
+   */
+  public void closeWorkflow(final String eventId) {
+
+    final WorkflowUsage usage = workflows.remove(eventId);
+
+    if (usage == null) {
+
+      return;
+    }
+
+    DistributionSummary.builder("agentica.llm.workflow.tokens")
+        .description("LLM tokens consumed per workflow execution")
+        .baseUnit("tokens")
+        .tag("tenant", usage.tenant)
+        .register(meterRegistry)
+        .record(usage.inputTokens.sum() + usage.outputTokens.sum());
+
+    DistributionSummary.builder("agentica.llm.workflow.cost")
+        .description("Estimated LLM spend per workflow execution")
+        .baseUnit("usd")
+        .tag("tenant", usage.tenant)
+        .register(meterRegistry)
+        .record(usage.cost.sum());
+
+    Timer.builder("agentica.llm.workflow.latency")
+        .description("Time spent waiting on LLM calls per workflow execution")
+        .tag("tenant", usage.tenant)
+        .register(meterRegistry)
+        .record(usage.latencyMs.sum(), TimeUnit.MILLISECONDS);
+
+    if (usage.resumes.sum() > 0) {
+
+      DistributionSummary.builder("agentica.llm.workflow.saved.calls")
+          .description("LLM calls avoided per replanned workflow by resuming at the "
+              + "escalating node")
+          .baseUnit("calls")
+          .tag("tenant", usage.tenant)
+          .register(meterRegistry)
+          .record(usage.savedCalls.sum());
+    }
+
+    log.info("Workflow LLM usage, eventId: {}, calls: {}, inputTokens: {}, outputTokens: {}, "
+            + "costUsd: {}, llmLatencyMs: {}, byNode: {}, resumes: {}, savedCalls: {}, "
+            + "savedTokens: {}", eventId, usage.calls.sum(), usage.inputTokens.sum(),
+        usage.outputTokens.sum(), String.format("%.6f", usage.cost.sum()), usage.latencyMs.sum(),
+        usage.nodeTokens, usage.resumes.sum(), usage.savedCalls.sum(), usage.savedTokens.sum());
+  }
+
+  private double cost(final long inputTokens, final long outputTokens) {
+
+    return inputTokens / 1000.0 * adkConfig.getInputCostPer1kTokens()
+        + outputTokens / 1000.0 * adkConfig.getOutputCostPer1kTokens();
+  }
+
+  private Counter tokens(final String agent, final String model, final String tenant,
+      final String direction) {
+
+    return Counter.builder("agentica.llm.tokens")
+        .description("LLM tokens reported by the model")
+        .baseUnit("tokens")
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("tenant", tenant)
+        .tag("direction", direction)
+        .register(meterRegistry);
+  }
+
+  private Timer latency(final String agent, final String model, final String outcome) {
+
+    return Timer.builder("agentica.llm.latency")
+        .description("Wall-clock latency of LLM calls")
+        .tag("agent", agent)
+        .tag("model", model)
+        .tag("outcome", outcome)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+  }
+
+  private static String agentTag(final LlmCall call) {
+
+    return call.agentType() != null ? call.agentType().name() : UNKNOWN;
+  }
+
+  private static String tenantTag(final LlmCall call) {
+
+    return call.event().tenantId() != null ? call.event().tenantId() : UNKNOWN;
+  }
+
+  /**
+   * Running LLM totals of a single workflow execution.
+   */
+  private static final class WorkflowUsage {
+
+    private final String tenant;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder inputTokens = new LongAdder();
+
+    private final LongAdder outputTokens = new LongAdder();
+
+    private final DoubleAdder cost = new DoubleAdder();
+
+    private final LongAdder latencyMs = new LongAdder();
+
+    private final Map<String, Long> nodeTokens = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> nodeCalls = new ConcurrentHashMap<>();
+
+    private final LongAdder resumes = new LongAdder();
+
+    private final LongAdder savedCalls = new LongAdder();
+
+    private final LongAdder savedTokens = new LongAdder();
+
+    private WorkflowUsage(final String tenant) {
+
+      this.tenant = tenant;
+    }
+
+    private void add(final String nodeId, final long input, final long output, final double spend,
+        final long latency) {
+
+      calls.increment();
+      inputTokens.add(input);
+      outputTokens.add(output);
+      cost.add(spend);
+      latencyMs.add(latency);
+
+      final String node = nodeId != null ? nodeId : "orchestrator";
+
+      nodeTokens.merge(node, input + output, Long::sum);
+
+      nodeCalls.merge(node, 1L, Long::sum);
+    }
+
+    private void resume(final Collection<String> skippedNodeIds) {
+
+      resumes.increment();
+
+      for (final String nodeId : skippedNodeIds) {
+
+        savedCalls.add(nodeCalls.getOrDefault(nodeId, 0L));
+        savedTokens.add(nodeTokens.getOrDefault(nodeId, 0L));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,154 @@
+package com.agentica.agents.model;
+
+import com.agentica.agents.config.LocalLlmConfig;
+import com.google.adk.models.BaseLlm;
+import com.google.adk.models.BaseLlmConnection;
+import com.google.adk.models.LlmRequest;
+import com.google.adk.models.LlmResponse;
+import com.google.genai.errors.ClientException;
+import com.google.genai.errors.ServerException;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import com.google.genai.types.Part;
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process model that answers with scripted responses instead of calling Gemini.
+ *
+ * <p>Each agent gets its own instance so responses can be chosen by agent name. Latency is
+ * sampled from a seeded log-normal distribution and a configurable fraction of calls fails
+ * with 429 or 503 errors, so the pipeline can be load- and regression-tested without network.
+ *
+ * <p>Live (bidirectional streaming) connections are out of scope: the pipeline only uses
+ * {@link #generateContent}, and {@link ModelResolver} refuses to build agents on this backend
+ * when the ADK development UI, the only live client, is enabled.
+ */
+@Slf4j
+public class LocalLlm extends BaseLlm {
+
+  public static final String MODEL_NAME = "agentica-local";
+
+  private final String agentName;
+
+  private final LocalLlmConfig config;
+
+  private final LocalResponseScript script;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  public LocalLlm(final String agentName, final LocalLlmConfig config) {
+
+    super(MODEL_NAME);
+
+    this.agentName = agentName;
+    this.config = config;
+    this.script = new LocalResponseScript(config);
+  }
+
+  @Override
+  public Flowable<LlmResponse> generateContent(final LlmRequest llmRequest, final boolean stream) {
+
+    final SplittableRandom random = new SplittableRandom(
+        config.getSeed() * 31 + agentName.hashCode() + sequence.getAndIncrement());
+
+    final long latencyMs = sampleLatency(random);
+
+    final double roll = random.nextDouble();
+
+    final Flowable<LlmResponse> outcome;
+
+    if (roll < config.getRateLimitRate()) {
+
+      outcome = Flowable.error(new ClientException(429, "RESOURCE_EXHAUSTED",
+          "Simulated rate limit from local model"));
+
+    } else if (roll < config.getRateLimitRate() + config.getErrorRate()) {
+
+      outcome = Flowable.error(new ServerException(503, "UNAVAILABLE",
+          "Simulated failure from local model"));
+
+    } else {
+
+      outcome = Flowable.fromCallable(() -> respond(llmRequest));
+    }
+
+    if (latencyMs <= 0) {
+
+      return outcome;
+    }
+
+    return Flowable.timer(latencyMs, TimeUnit.MILLISECONDS).flatMap(tick -> outcome);
+  }
+
+  /**
+   * Not supported; see the class documentation.
+   */
+  @Override
+  public BaseLlmConnection connect(final LlmRequest llmRequest) {
+
+    throw new UnsupportedOperationException("Live connections are not supported by " + MODEL_NAME);
+  }
+
+  private LlmResponse respond(final LlmRequest llmRequest) {
+
+    final List<Content> contents = llmRequest.contents();
+
+    final Content last = contents.isEmpty() ? null : contents.get(contents.size() - 1);
+
+    final Part part = script.respond(agentName, last, !llmRequest.tools().isEmpty());
+
+    final int promptTokens = contents.stream()
+        .mapToInt(LocalLlm::estimateTokens)
+        .sum();
+
+    final Content content = Content.builder()
+        .role("model")
+        .parts(List.of(part))
+        .build();
+
+    final int responseTokens = estimateTokens(content);
+
+    log.trace("Local model responded, agent: {}, promptTokens: {}, responseTokens: {}",
+        agentName, promptTokens, responseTokens);
+
+    return LlmResponse.builder()
+        .content(content)
+        .usageMetadata(GenerateContentResponseUsageMetadata.builder()
+            .promptTokenCount(promptTokens)
+            .candidatesTokenCount(responseTokens)
+            .totalTokenCount(promptTokens + responseTokens)
+            .build())
+        .build();
+  }
+
+  private long sampleLatency(final SplittableRandom random) {
+
+    if (config.getLatencyMedianMs() <= 0) {
+
+      return 0;
+    }
+
+    final double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble()))
+        * Math.cos(2 * Math.PI * random.nextDouble());
+
+    final double sample = config.getLatencyMedianMs() * Math.exp(config.getLatencySigma() * gaussian);
+
+    return Math.min(config.getLatencyMaxMs(), Math.round(sample));
+  }
+
+  private static int estimateTokens(final Content content) {
+
+    return content.parts().orElse(List.of()).stream()
+        .mapToInt(part -> part.text().map(String::length).orElse(0)
+            + part.functionCall().map(Object::toString).map(String::length).orElse(0)
+            + part.functionResponse().map(Object::toString).map(String::length).orElse(0))
+        .map(chars -> (chars + 3) / 4)
+        .sum();
+  }
+
+}
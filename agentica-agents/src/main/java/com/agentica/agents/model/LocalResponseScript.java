@@ -0,0 +1,232 @@
+package com.agentica.agents.model;
+
+import com.agentica.agents.config.LocalLlmConfig;
+import com.agentica.common.util.JsonUtils;
+import com.google.genai.types.Content;
+import com.google.genai.types.Part;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rule-based responses of the local model, chosen by agent name.
+ * Reads only the latest request content, which is the prompt built by the agent node
+ * or, for tool-using agents, the tool response.
+ */
+final class LocalResponseScript {
+
+  private static final Pattern MESSAGE = Pattern.compile("\"message\":\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+  private static final Pattern FROM_NAME = Pattern.compile("\"fromName\":\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+  private static final Pattern ESCALATING_NODE = Pattern.compile("- Escalating Node: (\\S+)");
+
+  private static final Pattern REASON = Pattern.compile("- Reason: (\\S+)");
+
+  private static final Pattern POST_ID = Pattern.compile("Post ID: (\\S+)");
+
+  private static final Pattern COMMENT_ID = Pattern.compile("Comment ID: (\\S+)");
+
+  private static final List<String> NEGATIVE_WORDS = List.of(
+      "bad", "terrible", "worst", "awful", "broken", "refund", "angry", "disappointed");
+
+  private static final List<String> POSITIVE_WORDS = List.of(
+      "love", "great", "awesome", "thanks", "thank you", "amazing", "excellent");
+
+  private static final String RESPOND_PLAN = """
+      {"workflowId":"fb_workflow","workflowName":"Facebook Comment Handler",\
+      "description":"Analyzes and responds to Facebook comments","entryPoint":"analyze",\
+      "nodes":[\
+      {"id":"analyze","agentType":"MARKETING","description":"Analyze sentiment",\
+      "instruction":"Analyze comment. Set routing_decision to respond or delete."},\
+      {"id":"review","agentType":"REVIEW","description":"Approve response","instruction":"Review response."},\
+      {"id":"reply","agentType":"FACEBOOK","description":"Post reply","instruction":"Reply to comment."}],\
+      "edges":[\
+      {"from":"START","to":"analyze","type":"DIRECT"},\
+      {"from":"analyze","to":"review","type":"DIRECT"},\
+      {"from":"review","to":"reply","type":"DIRECT"},\
+      {"from":"reply","to":"END","type":"DIRECT"}]}""";
+
+  private static final String DELETE_PLAN = """
+      {"workflowId":"fb_workflow","workflowName":"Facebook Spam Removal",\
+      "description":"Analyzes and removes unwanted Facebook comments","entryPoint":"analyze",\
+      "nodes":[\
+      {"id":"analyze","agentType":"MARKETING","description":"Analyze sentiment",\
+      "instruction":"Analyze comment. Set routing_decision to respond or delete."},\
+      {"id":"delete","agentType":"FACEBOOK","description":"Delete spam","instruction":"Delete comment."}],\
+      "edges":[\
+      {"from":"START","to":"analyze","type":"DIRECT"},\
+      {"from":"analyze","to":"delete","type":"DIRECT"},\
+      {"from":"delete","to":"END","type":"DIRECT"}]}""";
+
+  private final LocalLlmConfig config;
+
+  LocalResponseScript(final LocalLlmConfig config) {
+
+    this.config = config;
+  }
+
+  /**
+   * Produces the response part for the given agent.
+   *
+   * @param agentName the agent the model serves
+   * @param request   the latest request content (may be null)
+   * @param hasTools  whether the agent has tools available
+   * @return a text or function call part
+   */
+  Part respond(final String agentName, final Content request, final boolean hasTools) {
+
+    final String prompt = text(request);
+
+    final String agent = agentName.endsWith("_custom")
+        ? agentName.substring(0, agentName.length() - "_custom".length())
+        : agentName;
+
+    return switch (agent) {
+
+      case "orchestrator_planner" -> Part.fromText(shouldDelete(prompt) ? DELETE_PLAN : RESPOND_PLAN);
+
+      case "orchestrator_replanner" -> Part.fromText(replan(prompt));
+
+      case "marketing_agent" -> Part.fromText(analysis(prompt));
+
+      case "review_agent" -> Part.fromText(
+          "Review summary: the planned action matches the comment and carries no brand risk. "
+              + "Recommendation: approve.");
+
+      case "facebook_agent" -> facebookAction(request, prompt, hasTools);
+
+      default -> Part.fromText("Acknowledged.");
+    };
+  }
+
+  private String replan(final String prompt) {
+
+    final String nodeId = find(ESCALATING_NODE, prompt, null);
+
+    final String reason = find(REASON, prompt, "UNKNOWN");
+
+    final Map<String, Object> decision = new LinkedHashMap<>();
+
+    if ("RATE_LIMITED".equals(reason) || "EXCEPTION".equals(reason)
+        || "TRANSIENT_ERROR".equals(reason)) {
+
+      decision.put("action", "RETRY_WITH_GUIDANCE");
+      decision.put("guidance", "Transient failure, retry the step unchanged.");
+      decision.put("resumeFrom", nodeId);
+
+    } else {
+
+      decision.put("action", "ABORT");
+      decision.put("reason", "Escalation " + reason + " at node " + nodeId
+          + " requires manual handling");
+    }
+
+    return JsonUtils.toCompactJson(decision).orElse("{\"action\":\"ABORT\"}");
+  }
+
+  private String analysis(final String prompt) {
+
+    final String message = find(MESSAGE, prompt, prompt).toLowerCase(Locale.ROOT);
+
+    final boolean delete = shouldDelete(prompt);
+
+    final String sentiment = delete || containsAny(message, NEGATIVE_WORDS)
+        ? "negative"
+        : containsAny(message, POSITIVE_WORDS) ? "positive" : "neutral";
+
+    final String intent = delete
+        ? "spam"
+        : message.contains("?") ? "question" : "negative".equals(sentiment) ? "complaint" : "feedback";
+
+    final Map<String, Object> analysis = new LinkedHashMap<>();
+
+    analysis.put("sentiment", sentiment);
+    analysis.put("intent", intent);
+    analysis.put("urgency", "complaint".equals(intent) ? "high" : "low");
+    analysis.put("recommendedAction", delete ? "delete" : "reply");
+    analysis.put("routing_decision", delete ? "delete" : "respond");
+    analysis.put("suggestedResponse", delete ? "" : suggestedReply(prompt, intent));
+    analysis.put("escalationNeeded", false);
+
+    return JsonUtils.toCompactJson(analysis).orElse("{}");
+  }
+
+  private Part facebookAction(final Content request, final String prompt, final boolean hasTools) {
+
+    final boolean toolAnswered = request != null && request.parts().orElse(List.of()).stream()
+        .anyMatch(part -> part.functionResponse().isPresent());
+
+    if (toolAnswered || !hasTools) {
+
+      return Part.fromText(toolAnswered
+          ? "Facebook action completed."
+          : "No Facebook tools available, planned action: reply to comment.");
+    }
+
+    final Map<String, Object> args = new LinkedHashMap<>();
+
+    args.put("post_id", find(POST_ID, prompt, "unknown"));
+    args.put("comment_id", find(COMMENT_ID, prompt, "unknown"));
+
+    if (shouldDelete(prompt) || prompt.contains("\"recommendedAction\":\"delete\"")) {
+
+      return Part.fromFunctionCall("delete_comment", args);
+    }
+
+    args.put("message", suggestedReply(prompt, "feedback"));
+
+    return Part.fromFunctionCall("reply_to_comment", args);
+  }
+
+  private boolean shouldDelete(final String prompt) {
+
+    final String message = find(MESSAGE, prompt, prompt).toLowerCase(Locale.ROOT);
+
+    return containsAny(message, config.getDeleteKeywords());
+  }
+
+  private String suggestedReply(final String prompt, final String intent) {
+
+    final String name = find(FROM_NAME, prompt, "there");
+
+    return switch (intent) {
+
+      case "question" -> "Hi " + name + ", thanks for asking! We'll send you the details shortly.";
+
+      case "complaint" -> "Hi " + name + ", we're sorry to hear that. Please message us so we can help.";
+
+      default -> "Thanks for your comment, " + name + "!";
+    };
+  }
+
+  private static boolean containsAny(final String text, final List<String> words) {
+
+    return words.stream().anyMatch(word -> text.contains(word.toLowerCase(Locale.ROOT)));
+  }
+
+  private static String find(final Pattern pattern, final String text, final String fallback) {
+
+    final Matcher matcher = pattern.matcher(text);
+
+    return matcher.find() ? matcher.group(1) : fallback;
+  }
+
+  private static String text(final Content content) {
+
+    if (content == null) {
+
+      return "";
+    }
+
+    final StringBuilder text = new StringBuilder();
+
+    content.parts().orElse(List.of()).forEach(part -> part.text().ifPresent(text::append));
+
+    return text.toString();
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.agentica.agents.model;
+
+import com.agentica.agents.config.AdkConfig;
+import com.agentica.agents.config.LocalLlmConfig;
+import com.agentica.agents.config.ModelBackend;
+import com.google.adk.agents.LlmAgent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the model agents run against from the configured backend.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelResolver {
+
+  private final AdkConfig adkConfig;
+
+  private final LocalLlmConfig localLlmConfig;
+
+  /**
+   * Sets the model of an agent being built.
+   *
+   * @param builder   the agent builder
+   * @param agentName the name of the agent, used by the local backend to pick its script
+   * @return the same builder
+   * @throws IllegalStateException if the local backend is combined with the ADK development UI,
+   *                               which needs live connections the local model does not support
+   */
+  public LlmAgent.Builder withModel(final LlmAgent.Builder builder, final String agentName) {
+
+    if (isLocal()) {
+
+      if (adkConfig.isDevUiEnabled()) {
+
+        throw new IllegalStateException("The local model backend does not support live "
+            + "connections, disable agentica.adk.dev-ui-enabled, agent: " + agentName);
+      }
+
+      log.debug("Using local model backend, agent: {}", agentName);
+
+      return builder.model(new LocalLlm(agentName, localLlmConfig));
+    }
+
+    return builder.model(adkConfig.getDefaultModel());
+  }
+
+  /**
+   * Returns the name of the model calls are served by, for accounting.
+   *
+   * @return the model name
+   */
+  public String modelName() {
+
+    return isLocal() ? LocalLlm.MODEL_NAME : adkConfig.getDefaultModel();
+  }
+
+  /**
+   * Checks if the local model backend is selected.
+   *
+   * @return true if agents run against the local model
+   */
+  public boolean isLocal() {
+
+    return adkConfig.getModelBackend() == ModelBackend.LOCAL;
+  }
+
+}
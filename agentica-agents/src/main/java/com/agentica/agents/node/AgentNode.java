@@ -1,8 +1,10 @@
 package com.agentica.agents.node;
 
+import com.agentica.core.enums.AgentType;
 import com.agentica.core.state.AgenticaState;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for agent nodes that can be executed as part of a LangGraph4j workflow.
@@ -11,14 +13,32 @@ import java.util.Map;
 public interface AgentNode {
 
     /**
-     * Executes the agent with the given state and configuration.
+     * Executes the agent with the given state and configuration, blocking until it finishes.
      *
      * @param state the current workflow state
+     * @param nodeId the id of the workflow node being executed
      * @param instruction optional instruction override (may be null)
      * @param config optional configuration parameters (may be null)
      * @return the result of execution, including output or escalation info
      */
-    AgentNodeResult execute(AgenticaState state, String instruction, Map<String, Object> config);
+    default AgentNodeResult execute(AgenticaState state, String nodeId, String instruction,
+                                    Map<String, Object> config) {
+
+        return executeAsync(state, nodeId, instruction, config).join();
+    }
+
+    /**
+     * Executes the agent without blocking the calling thread.
+     * Failures are reported as escalation results, so the future never completes exceptionally.
+     *
+     * @param state the current workflow state
+     * @param nodeId the id of the workflow node being executed
+     * @param instruction optional instruction override (may be null)
+     * @param config optional configuration parameters (may be null)
+     * @return a future of the result of execution, including output or escalation info
+     */
+    CompletableFuture<AgentNodeResult> executeAsync(AgenticaState state, String nodeId,
+                                                    String instruction, Map<String, Object> config);
 
     /**
      * Gets the name of this agent node.
@@ -34,4 +54,11 @@ public interface AgentNode {
      */
     String getDescription();
 
+    /**
+     * Gets the agent type this node executes.
+     *
+     * @return the agent type
+     */
+    AgentType getAgentType();
+
 }
@@ -1,5 +1,9 @@
 package com.agentica.agents.node;
 
+import com.agentica.agents.limiter.LlmErrors;
+import com.agentica.core.exception.CircuitOpenException;
+import com.agentica.core.exception.LlmDeadlineExceededException;
+
 import lombok.Builder;
 
 /**
@@ -32,6 +36,18 @@ public record AgentNodeResult(
 
 ) {
 
+    /**
+     * Escalation reason for nodes whose dependency is behind an open circuit breaker.
+     * Such workflows are deferred rather than replanned.
+     */
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+
+    /**
+     * Escalation reason for I/O errors, timeouts and provider server errors, which are
+     * likely to pass on a retry.
+     */
+    public static final String TRANSIENT_ERROR = "TRANSIENT_ERROR";
+
     /**
      * Creates a successful result with output.
      *
@@ -57,6 +73,11 @@ public record AgentNodeResult(
 
     /**
      * Creates an escalation result from an exception.
+     * Rate limit and capacity failures escalate as RATE_LIMITED so the orchestrator
+     * can tell them apart from other errors; calls cut off by the workflow deadline
+     * escalate as DEADLINE_EXCEEDED, since retrying them cannot succeed, and calls
+     * rejected by an open circuit breaker escalate as CIRCUIT_OPEN. Network errors,
+     * timeouts and provider server errors escalate as TRANSIENT_ERROR.
      *
      * @param exception the exception that occurred
      * @return an escalation AgentNodeResult
@@ -66,9 +87,29 @@ public record AgentNodeResult(
         return new AgentNodeResult(
             null,
             true,
-            "EXCEPTION",
+            reason(exception),
             exception.getMessage()
         );
     }
 
+    private static String reason(Exception exception) {
+
+        if (CircuitOpenException.find(exception) != null) {
+
+            return CIRCUIT_OPEN;
+        }
+
+        if (exception instanceof LlmDeadlineExceededException) {
+
+            return "DEADLINE_EXCEEDED";
+        }
+
+        if (LlmErrors.isOverload(exception)) {
+
+            return "RATE_LIMITED";
+        }
+
+        return LlmErrors.isDependencyFailure(exception) ? TRANSIENT_ERROR : "EXCEPTION";
+    }
+
 }
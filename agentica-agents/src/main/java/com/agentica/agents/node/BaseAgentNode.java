@@ -1,22 +1,22 @@
 package com.agentica.agents.node;
 
 import com.agentica.agents.config.AdkConfig;
-import com.agentica.agents.session.AdkSessionManager;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.runner.LlmCall;
+import com.agentica.agents.runner.LlmCallResult;
+import com.agentica.agents.runner.LlmInvoker;
 import com.agentica.core.domain.Event;
+import com.agentica.core.jfr.NodeExecutionEvent;
 import com.agentica.core.state.AgenticaState;
 
-import com.agentica.agents.runner.AgenticaRunner;
-
 import com.google.adk.agents.LlmAgent;
-import com.google.adk.runner.Runner;
-import com.google.adk.sessions.Session;
-import com.google.genai.types.Content;
-import com.google.genai.types.Part;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Base implementation for agent nodes providing common execution logic.
@@ -27,79 +27,158 @@ public abstract class BaseAgentNode implements AgentNode {
 
     protected final AdkConfig adkConfig;
 
-    protected final AdkSessionManager sessionManager;
+    protected final PromptAssembler promptAssembler;
+
+    protected final LlmInvoker llmInvoker;
+
+    protected final ModelResolver modelResolver;
 
     protected LlmAgent agent;
 
-    protected BaseAgentNode(AdkConfig adkConfig, AdkSessionManager sessionManager) {
+    protected BaseAgentNode(AdkConfig adkConfig, PromptAssembler promptAssembler,
+                            LlmInvoker llmInvoker, ModelResolver modelResolver) {
 
         this.adkConfig = adkConfig;
-        this.sessionManager = sessionManager;
+        this.promptAssembler = promptAssembler;
+        this.llmInvoker = llmInvoker;
+        this.modelResolver = modelResolver;
     }
 
     @Override
-    public AgentNodeResult execute(AgenticaState state, String instruction, Map<String, Object> config) {
+    public CompletableFuture<AgentNodeResult> executeAsync(AgenticaState state, String nodeId,
+                                                           String instruction,
+                                                           Map<String, Object> config) {
+
+        log.info("Executing agent node, name: {}, nodeId: {}, instruction: {}",
+            getName(), nodeId, instruction != null ? "custom" : "default");
+
+        NodeExecutionEvent jfrEvent = new NodeExecutionEvent();
+
+        jfrEvent.begin();
 
-        log.info("Executing agent node, name: {}, instruction: {}",
-            getName(), instruction != null ? "custom" : "default");
+        return execute(state, nodeId, instruction, config)
+            .whenComplete((result, error) -> commit(jfrEvent, state, nodeId, result));
+    }
+
+    private CompletableFuture<AgentNodeResult> execute(AgenticaState state, String nodeId,
+                                                       String instruction,
+                                                       Map<String, Object> config) {
 
         try {
 
             Event event = state.event()
                 .orElseThrow(() -> new IllegalStateException("Event not found in state"));
 
-            String sessionId = UUID.randomUUID().toString();
+            LlmAgent executionAgent = getExecutionAgent(instruction);
 
-            Session session = sessionManager.createSession(sessionId, event);
+            String prompt = buildPrompt(state, config);
 
-            LlmAgent executionAgent = getExecutionAgent(instruction);
+            promptAssembler.recordPromptTokens(getName(), nodeId, prompt);
 
-            Runner runner = new AgenticaRunner(
-                executionAgent,
-                "agentica",
-                sessionManager.getSessionService()
-            );
+            return invoke(state, event, nodeId, executionAgent, instruction, config, prompt)
+                .thenApply(response -> {
 
-            String prompt = buildPrompt(state, config);
+                    log.debug("Agent node execution completed, name: {}, result length: {}",
+                        getName(), response.text().length());
 
-            Content userMessage = Content.fromParts(Part.fromText(prompt));
+                    return processResult(response, state);
+                })
+                .exceptionally(this::onFailure);
 
-            StringBuilder responseText = new StringBuilder();
+        } catch (Exception e) {
+
+            return CompletableFuture.completedFuture(onFailure(e));
+        }
+    }
+
+    private void commit(NodeExecutionEvent jfrEvent, AgenticaState state, String nodeId,
+                        AgentNodeResult result) {
+
+        jfrEvent.end();
 
-            for (com.google.adk.events.Event agentEvent :
-                    runner.runAsync(event.tenantId(), session.id(), userMessage).blockingIterable()) {
+        if (jfrEvent.shouldCommit()) {
 
-                if (agentEvent.content().isPresent()) {
+            jfrEvent.setEventId(state.eventId().orElse(null));
+            jfrEvent.setNodeId(nodeId);
+            jfrEvent.setAgentType(String.valueOf(getAgentType()));
 
-                    Content content = agentEvent.content().get();
+            if (result == null) {
 
-                    if (content.parts().isPresent()) {
+                jfrEvent.setOutcome("failed");
 
-                        for (Part part : content.parts().get()) {
+            } else if (result.needsEscalation()) {
 
-                            if (part.text().isPresent()) {
+                jfrEvent.setOutcome("escalated");
+                jfrEvent.setEscalationReason(result.escalationReason());
 
-                                responseText.append(part.text().get());
-                            }
-                        }
-                    }
-                }
+            } else {
+
+                jfrEvent.setOutcome("success");
             }
 
-            String result = responseText.toString().trim();
+            jfrEvent.commit();
+        }
+    }
+
+    /**
+     * Converts a failed execution into an escalation result.
+     *
+     * @param error the failure, possibly wrapped by the future
+     * @return an escalation AgentNodeResult
+     */
+    protected AgentNodeResult onFailure(Throwable error) {
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
 
-            log.debug("Agent node execution completed, name: {}, result length: {}",
-                getName(), result.length());
+        log.error("Agent node execution failed, name: {}, error: {}",
+            getName(), cause.getMessage(), cause);
 
-            return processResult(result, state);
+        return AgentNodeResult.fromException(
+            cause instanceof Exception exception ? exception : new RuntimeException(cause));
+    }
 
-        } catch (Exception e) {
+    /**
+     * Runs the agent through the shared invoker so the call is instrumented and bounded
+     * by the workflow deadline carried in the state.
+     *
+     * @param state the current workflow state
+     * @param event the event being processed
+     * @param nodeId the workflow node issuing the call
+     * @param executionAgent the agent to run
+     * @param instruction optional custom instruction
+     * @param config optional configuration
+     * @param prompt the assembled prompt
+     * @return a future of the call result
+     */
+    protected CompletableFuture<LlmCallResult> invoke(AgenticaState state, Event event,
+                                                      String nodeId, LlmAgent executionAgent,
+                                                      String instruction,
+                                                      Map<String, Object> config, String prompt) {
+
+        return llmInvoker.invokeAsync(LlmCall.builder()
+            .agent(executionAgent)
+            .event(event)
+            .nodeId(nodeId)
+            .agentType(getAgentType())
+            .instruction(instruction)
+            .config(config)
+            .prompt(prompt)
+            .deadline(state.deadline().orElse(null))
+            .hedgeable(isHedgeable())
+            .build());
+    }
 
-            log.error("Agent node execution failed, name: {}, error: {}",
-                getName(), e.getMessage(), e);
+    /**
+     * Whether a slow call of this node may be duplicated by a hedged attempt.
+     * Nodes whose tools have side effects must return false.
+     *
+     * @return true if the node's LLM calls are safe to repeat
+     */
+    protected boolean isHedgeable() {
 
-            return AgentNodeResult.fromException(e);
-        }
+        return true;
     }
 
     /**
@@ -116,10 +195,9 @@ public abstract class BaseAgentNode implements AgentNode {
             return agent;
         }
 
-        return LlmAgent.builder()
+        return modelResolver.withModel(LlmAgent.builder(), agent.name() + "_custom")
             .name(agent.name() + "_custom")
             .description(agent.description())
-            .model(adkConfig.getDefaultModel())
             .instruction(instruction)
             .build();
     }
@@ -146,4 +224,17 @@ public abstract class BaseAgentNode implements AgentNode {
         return AgentNodeResult.success(result);
     }
 
+    /**
+     * Processes the full call result, including tool calls.
+     * Defaults to {@link #processResult(String, AgenticaState)} on the response text.
+     *
+     * @param response the call result
+     * @param state the current workflow state
+     * @return the processed AgentNodeResult
+     */
+    protected AgentNodeResult processResult(LlmCallResult response, AgenticaState state) {
+
+        return processResult(response.text(), state);
+    }
+
 }
@@ -1,21 +1,24 @@
 package com.agentica.agents.node;
 
 import com.agentica.agents.config.AdkConfig;
-import com.agentica.agents.session.AdkSessionManager;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.runner.LlmCallResult;
+import com.agentica.agents.runner.LlmInvoker;
 import com.agentica.agents.specialized.facebook.FacebookAgentImpl;
-import com.agentica.common.util.JsonUtils;
 import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.event.workflow.AgentExecutionEvent.ToolCall;
+import com.agentica.core.exception.CircuitOpenException;
+import com.agentica.core.resilience.CircuitBreaker;
+import com.agentica.core.resilience.CircuitBreakerRegistry;
 import com.agentica.core.state.AgenticaState;
-import com.agentica.agents.runner.AgenticaRunner;
-
-import com.google.adk.runner.Runner;
-import com.google.adk.sessions.Session;
-import com.google.genai.types.Content;
-import com.google.genai.types.Part;
+import com.google.adk.agents.LlmAgent;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -27,16 +30,30 @@ import org.springframework.stereotype.Component;
 @Component
 public class FacebookAgentNode extends BaseAgentNode {
 
+  private static final String TOOL_NOT_AVAILABLE = "TOOL_NOT_AVAILABLE";
+
+  private static final String TOOL_FAILED = "TOOL_FAILED";
+
+  private static final String MCP_UNAVAILABLE = "MCP_UNAVAILABLE";
+
+  private static final String MCP_PACKAGE = "io.modelcontextprotocol.";
+
   private final FacebookAgentImpl facebookAgent;
 
+  private final CircuitBreaker mcpCircuit;
+
   public FacebookAgentNode(
       final AdkConfig adkConfig,
-      final AdkSessionManager sessionManager,
-      final FacebookAgentImpl facebookAgent) {
+      final PromptAssembler promptAssembler,
+      final LlmInvoker llmInvoker,
+      final ModelResolver modelResolver,
+      final FacebookAgentImpl facebookAgent,
+      final CircuitBreakerRegistry circuitBreakers) {
 
-    super(adkConfig, sessionManager);
+    super(adkConfig, promptAssembler, llmInvoker, modelResolver);
 
     this.facebookAgent = facebookAgent;
+    this.mcpCircuit = circuitBreakers.get("mcp:facebook");
   }
 
   @PostConstruct
@@ -69,82 +86,140 @@ public class FacebookAgentNode extends BaseAgentNode {
   }
 
   @Override
-  public AgentNodeResult execute(final AgenticaState state, final String instruction,
-      final Map<String, Object> config) {
+  public AgentType getAgentType() {
 
-    log.info("Executing Facebook agent node");
+    return AgentType.FACEBOOK;
+  }
+
+  /**
+   * Facebook calls post or delete comments, so a duplicate attempt would repeat the action.
+   */
+  @Override
+  protected boolean isHedgeable() {
+
+    return false;
+  }
+
+  /**
+   * Runs the node behind the MCP toolset circuit breaker. Only transport failures of the MCP
+   * client count against it; tool errors and missing tool calls come from the model's output,
+   * and failures of the model call itself are left to the model's breaker.
+   */
+  @Override
+  public CompletableFuture<AgentNodeResult> executeAsync(final AgenticaState state,
+      final String nodeId, final String instruction, final Map<String, Object> config) {
 
     try {
 
-      final Event event = state.event()
-          .orElseThrow(() -> new IllegalStateException("Event not found in state"));
+      mcpCircuit.acquirePermission();
 
-      final String sessionId = UUID.randomUUID().toString();
+    } catch (final CircuitOpenException e) {
 
-      final Session session = sessionManager.createSession(sessionId, event);
+      log.warn("Facebook MCP circuit open, nodeId: {}, retryAt: {}", nodeId, e.getRetryAt());
 
-      final Runner runner = new AgenticaRunner(
-          agent,
-          "agentica",
-          sessionManager.getSessionService()
-      );
+      return CompletableFuture.completedFuture(AgentNodeResult.fromException(e));
+    }
 
-      final String prompt = buildPrompt(state, config);
+    return super.executeAsync(state, nodeId, instruction, config)
+        .whenComplete((result, error) -> recordOutcome(result));
+  }
 
-      final Content userMessage = Content.fromParts(Part.fromText(prompt));
+  private void recordOutcome(final AgentNodeResult result) {
 
-      final StringBuilder responseText = new StringBuilder();
+    if (result == null) {
 
-      boolean toolExecuted = false;
+      mcpCircuit.onIgnore();
 
-      for (final com.google.adk.events.Event agentEvent :
-          runner.runAsync(event.tenantId(), session.id(), userMessage).blockingIterable()) {
+      return;
+    }
 
-        if (agentEvent.content().isPresent()) {
+    final String reason = result.needsEscalation() ? result.escalationReason() : null;
 
-          final Content content = agentEvent.content().get();
+    if (reason == null) {
 
-          if (content.parts().isPresent()) {
+      mcpCircuit.onSuccess();
 
-            for (final Part part : content.parts().get()) {
+    } else if (MCP_UNAVAILABLE.equals(reason)) {
 
-              if (part.functionCall().isPresent()) {
+      mcpCircuit.onFailure();
 
-                toolExecuted = true;
+    } else {
 
-                log.debug("Facebook tool called: {}",
-                    part.functionCall().get().name().orElse("unknown"));
-              }
+      mcpCircuit.onIgnore();
+    }
+  }
 
-              if (part.text().isPresent()) {
+  /**
+   * Reports failures raised by the MCP client as {@code MCP_UNAVAILABLE}, so they can be told
+   * apart from failures of the model call.
+   */
+  @Override
+  protected AgentNodeResult onFailure(final Throwable error) {
 
-                responseText.append(part.text().get());
-              }
-            }
-          }
-        }
-      }
+    final Throwable transportError = findMcpError(error);
 
-      final String result = responseText.toString().trim();
+    if (transportError == null) {
 
-      if (!toolExecuted) {
+      return super.onFailure(error);
+    }
+
+    log.warn("Facebook MCP call failed, error: {}", transportError.getMessage());
+
+    return AgentNodeResult.escalate(MCP_UNAVAILABLE,
+        "Facebook MCP server unreachable: " + transportError.getMessage());
+  }
+
+  private static Throwable findMcpError(final Throwable error) {
+
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
 
-        log.warn("No Facebook tool was executed - may be in fallback mode");
+      if (cause.getClass().getName().startsWith(MCP_PACKAGE)) {
 
-        return AgentNodeResult.escalate(
-            "TOOL_NOT_AVAILABLE",
-            "Facebook MCP tools not available. Manual action required. Planned action: " + result
-        );
+        return cause;
       }
+    }
 
-      return AgentNodeResult.success(result);
+    return null;
+  }
 
-    } catch (final Exception e) {
+  /**
+   * The Facebook agent carries its own tool instructions, so custom instructions are ignored.
+   */
+  @Override
+  protected LlmAgent getExecutionAgent(final String instruction) {
 
-      log.error("Facebook agent execution failed, error: {}", e.getMessage(), e);
+    return agent;
+  }
 
-      return AgentNodeResult.fromException(e);
+  @Override
+  protected AgentNodeResult processResult(final LlmCallResult response,
+      final AgenticaState state) {
+
+    if (!response.toolExecuted()) {
+
+      log.warn("No Facebook tool was executed - may be in fallback mode");
+
+      return AgentNodeResult.escalate(
+          TOOL_NOT_AVAILABLE,
+          "Facebook MCP tools not available. Manual action required. Planned action: "
+              + response.text()
+      );
+    }
+
+    final List<ToolCall> failedCalls = response.toolCalls().stream()
+        .filter(toolCall -> !toolCall.success())
+        .toList();
+
+    if (failedCalls.size() == response.toolCalls().size()) {
+
+      log.warn("All Facebook tool calls failed, errors: {}",
+          failedCalls.stream().map(ToolCall::error).toList());
+
+      return AgentNodeResult.escalate(TOOL_FAILED,
+          "Facebook tool calls failed: " + failedCalls.get(0).error());
     }
+
+    return AgentNodeResult.success(response.text());
   }
 
   @Override
@@ -153,19 +228,19 @@ public class FacebookAgentNode extends BaseAgentNode {
     final Event event = state.event()
         .orElseThrow(() -> new IllegalStateException("Event not found in state"));
 
-    final String payloadJson = JsonUtils.toPrettyJson(event.payload())
-        .orElse("{}");
+    final String payloadJson = promptAssembler.payloadJson(AgentType.FACEBOOK, event.payload());
 
-    final String nodeOutputsJson = JsonUtils.toPrettyJson(state.nodeOutputs())
-        .orElse("{}");
+    final String nodeOutputsJson = promptAssembler.nodeOutputsJson(state.nodeOutputs());
 
     final Map<String, Object> payload = event.payload();
 
-    final String postId = Optional.ofNullable(payload.get("post_id"))
+    final String postId = Optional.ofNullable(payload.get("postId"))
+        .or(() -> Optional.ofNullable(payload.get("post_id")))
         .map(Object::toString)
         .orElse("unknown");
 
-    final String commentId = Optional.ofNullable(payload.get("comment_id"))
+    final String commentId = Optional.ofNullable(payload.get("commentId"))
+        .or(() -> Optional.ofNullable(payload.get("comment_id")))
         .map(Object::toString)
         .orElse("unknown");
 
@@ -176,7 +251,7 @@ public class FacebookAgentNode extends BaseAgentNode {
             Post ID: %s
             Comment ID: %s
 
-            Full Event Payload:
+            Event Payload:
             %s
 
             Previous Analysis (from Marketing Agent):
@@ -1,9 +1,11 @@
 package com.agentica.agents.node;
 
 import com.agentica.agents.config.AdkConfig;
-import com.agentica.agents.session.AdkSessionManager;
-import com.agentica.common.util.JsonUtils;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.runner.LlmInvoker;
 import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
 import com.agentica.core.state.AgenticaState;
 
 import com.google.adk.agents.LlmAgent;
@@ -43,9 +45,10 @@ public class MarketingAgentNode extends BaseAgentNode {
         Be professional and customer-focused in all recommendations.
         """;
 
-    public MarketingAgentNode(AdkConfig adkConfig, AdkSessionManager sessionManager) {
+    public MarketingAgentNode(AdkConfig adkConfig, PromptAssembler promptAssembler,
+                              LlmInvoker llmInvoker, ModelResolver modelResolver) {
 
-        super(adkConfig, sessionManager);
+        super(adkConfig, promptAssembler, llmInvoker, modelResolver);
     }
 
     @PostConstruct
@@ -53,10 +56,9 @@ public class MarketingAgentNode extends BaseAgentNode {
 
         log.info("Initializing MarketingAgentNode...");
 
-        this.agent = LlmAgent.builder()
+        this.agent = modelResolver.withModel(LlmAgent.builder(), "marketing_agent")
             .name("marketing_agent")
             .description("Analyzes customer sentiment and plans marketing responses")
-            .model(adkConfig.getDefaultModel())
             .instruction(MARKETING_INSTRUCTION)
             .build();
 
@@ -75,14 +77,19 @@ public class MarketingAgentNode extends BaseAgentNode {
         return "Analyzes customer sentiment and plans marketing responses";
     }
 
+    @Override
+    public AgentType getAgentType() {
+
+        return AgentType.MARKETING;
+    }
+
     @Override
     protected String buildPrompt(AgenticaState state, Map<String, Object> config) {
 
         Event event = state.event()
             .orElseThrow(() -> new IllegalStateException("Event not found in state"));
 
-        String payloadJson = JsonUtils.toPrettyJson(event.payload())
-            .orElse("{}");
+        String payloadJson = promptAssembler.payloadJson(AgentType.MARKETING, event.payload());
 
         return String.format("""
             Analyze this customer interaction:
@@ -102,7 +109,7 @@ public class MarketingAgentNode extends BaseAgentNode {
             event.eventType(),
             event.source(),
             payloadJson,
-            JsonUtils.toPrettyJson(state.nodeOutputs()).orElse("{}")
+            promptAssembler.nodeOutputsJson(state.nodeOutputs())
         );
     }
 
@@ -1,9 +1,11 @@
 package com.agentica.agents.node;
 
 import com.agentica.agents.config.AdkConfig;
-import com.agentica.agents.session.AdkSessionManager;
-import com.agentica.common.util.JsonUtils;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.runner.LlmInvoker;
 import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
 import com.agentica.core.state.AgenticaState;
 
 import com.google.adk.agents.LlmAgent;
@@ -43,9 +45,10 @@ public class ReviewAgentNode extends BaseAgentNode {
         This agent ALWAYS escalates for human approval.
         """;
 
-    public ReviewAgentNode(AdkConfig adkConfig, AdkSessionManager sessionManager) {
+    public ReviewAgentNode(AdkConfig adkConfig, PromptAssembler promptAssembler,
+                           LlmInvoker llmInvoker, ModelResolver modelResolver) {
 
-        super(adkConfig, sessionManager);
+        super(adkConfig, promptAssembler, llmInvoker, modelResolver);
     }
 
     @PostConstruct
@@ -53,10 +56,9 @@ public class ReviewAgentNode extends BaseAgentNode {
 
         log.info("Initializing ReviewAgentNode...");
 
-        this.agent = LlmAgent.builder()
+        this.agent = modelResolver.withModel(LlmAgent.builder(), "review_agent")
             .name("review_agent")
             .description("Human-in-the-loop approval step")
-            .model(adkConfig.getDefaultModel())
             .instruction(REVIEW_INSTRUCTION)
             .build();
 
@@ -75,20 +77,24 @@ public class ReviewAgentNode extends BaseAgentNode {
         return "Human-in-the-loop approval step";
     }
 
+    @Override
+    public AgentType getAgentType() {
+
+        return AgentType.REVIEW;
+    }
+
     @Override
     protected String buildPrompt(AgenticaState state, Map<String, Object> config) {
 
         Event event = state.event()
             .orElseThrow(() -> new IllegalStateException("Event not found in state"));
 
-        String payloadJson = JsonUtils.toPrettyJson(event.payload())
-            .orElse("{}");
+        String payloadJson = promptAssembler.payloadJson(AgentType.REVIEW, event.payload());
 
-        String nodeOutputsJson = JsonUtils.toPrettyJson(state.nodeOutputs())
-            .orElse("{}");
+        String nodeOutputsJson = promptAssembler.nodeOutputsJson(state.nodeOutputs());
 
         String planJson = state.currentPlan()
-            .map(plan -> JsonUtils.toPrettyJson(plan).orElse("{}"))
+            .map(promptAssembler::compactJson)
             .orElse("{}");
 
         return String.format("""
@@ -5,6 +5,10 @@ import com.agentica.core.workflow.ReplanRequest;
 import com.agentica.core.workflow.ReplanResult;
 import com.agentica.core.workflow.WorkflowPlan;
 
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Agent responsible for designing dynamic workflow plans for incoming events.
  * Uses structured output to generate WorkflowPlan JSON that is validated and
@@ -20,7 +24,20 @@ public interface OrchestratorAgent {
      * @param event the event to design a workflow for
      * @return the designed WorkflowPlan
      */
-    WorkflowPlan planWorkflow(Event event);
+    default WorkflowPlan planWorkflow(Event event) {
+
+        return planWorkflow(event, null);
+    }
+
+    /**
+     * Designs a workflow plan for the given event within the workflow deadline.
+     * The planning call is cancelled if it has not finished when the deadline passes.
+     *
+     * @param event the event to design a workflow for
+     * @param deadline the workflow deadline (may be null for the per-call timeout only)
+     * @return the designed WorkflowPlan
+     */
+    WorkflowPlan planWorkflow(Event event, Instant deadline);
 
     /**
      * Replans a workflow based on agent escalation.
@@ -30,6 +47,31 @@ public interface OrchestratorAgent {
      * @param request the replan request containing current state and escalation context
      * @return the replan result containing decision and LLM interaction details
      */
-    ReplanResult replan(ReplanRequest request);
+    default ReplanResult replan(ReplanRequest request) {
+
+        try {
+
+            return replanAsync(request).join();
+
+        } catch (CompletionException e) {
+
+            if (e.getCause() instanceof RuntimeException cause) {
+
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Replans a workflow based on agent escalation without blocking the calling thread,
+     * so a burst of escalations during an outage does not hold a thread per workflow.
+     *
+     * @param request the replan request containing current state and escalation context
+     * @return a future of the replan result, completed exceptionally if the call or the
+     *     parsing of its decision failed
+     */
+    CompletableFuture<ReplanResult> replanAsync(ReplanRequest request);
 
 }
@@ -1,9 +1,9 @@
 package com.agentica.agents.orchestrator;
 
-import com.agentica.agents.config.AdkConfig;
-import com.agentica.agents.runner.AgenticaRunner;
-import com.agentica.agents.session.AdkSessionManager;
-import com.agentica.common.util.JsonUtils;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.runner.LlmCall;
+import com.agentica.agents.runner.LlmInvoker;
 import com.agentica.core.domain.Event;
 import com.agentica.core.enums.AgentType;
 import com.agentica.core.workflow.ReplanDecision;
@@ -13,13 +13,12 @@ import com.agentica.core.workflow.WorkflowPlan;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.adk.agents.LlmAgent;
-import com.google.adk.runner.Runner;
-import com.google.adk.sessions.Session;
-import com.google.genai.types.Content;
-import com.google.genai.types.Part;
 import jakarta.annotation.PostConstruct;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +46,8 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
       2. CONDITIONAL edges MUST have routes array with ALL targets
       3. Every node must connect to END eventually
       4. entryPoint must match the START edge target
+      5. Independent nodes may run concurrently: a PARALLEL edge lists them in "branches" and
+         continues to its "to" node once all finished; branch nodes have no edges of their own
 
       USE THIS EXACT TEMPLATE (modify instructions only):
 
@@ -84,6 +85,7 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
       - APPROVAL_NEEDED: Action requires additional approval
       - MISSING_INFO: Required information is missing
       - RATE_LIMITED: External API rate limit hit
+      - TRANSIENT_ERROR: Network error, timeout or server error that may pass on retry
 
       Replan Actions you can take:
       - MODIFY_PLAN: Replace the entire workflow with a new plan
@@ -94,14 +96,16 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
       Analyze the escalation context and current workflow state, then output a ReplanDecision.
       """;
 
-  private final AdkConfig adkConfig;
+  private final ModelResolver modelResolver;
 
-  private final AdkSessionManager sessionManager;
+  private final LlmInvoker llmInvoker;
 
   private final WorkflowPlanSchema schemaBuilder;
 
   private final ObjectMapper objectMapper;
 
+  private final PromptAssembler promptAssembler;
+
   private LlmAgent planningAgent;
 
   private LlmAgent replanAgent;
@@ -111,65 +115,40 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
 
     log.info("Initializing OrchestratorAgent with structured output...");
 
-    this.planningAgent = LlmAgent.builder()
+    this.planningAgent = modelResolver.withModel(LlmAgent.builder(), "orchestrator_planner")
         .name("orchestrator_planner")
         .description("Designs workflow plans for incoming events using structured output")
-        .model(adkConfig.getDefaultModel())
         .instruction(ORCHESTRATOR_INSTRUCTION)
         .outputSchema(schemaBuilder.buildWorkflowPlanSchema())
         .build();
 
-    this.replanAgent = LlmAgent.builder()
+    this.replanAgent = modelResolver.withModel(LlmAgent.builder(), "orchestrator_replanner")
         .name("orchestrator_replanner")
         .description("Handles workflow replanning when agents escalate")
-        .model(adkConfig.getDefaultModel())
         .instruction(REPLAN_INSTRUCTION)
         .outputSchema(schemaBuilder.buildReplanDecisionSchema())
         .build();
   }
 
   @Override
-  public WorkflowPlan planWorkflow(final Event event) {
+  public WorkflowPlan planWorkflow(final Event event, final Instant deadline) {
 
     try {
 
       final String workflowId = UUID.randomUUID().toString();
 
-      final Session session = sessionManager.createSession(workflowId, event);
-
-      final Runner runner = new AgenticaRunner(
-          planningAgent,
-          "agentica",
-          sessionManager.getSessionService()
-      );
-
       final String prompt = buildPlanningPrompt(event);
 
-      final Content userMessage = Content.fromParts(Part.fromText(prompt));
-
-      final StringBuilder responseJson = new StringBuilder();
-
-      for (final com.google.adk.events.Event agentEvent :
-          runner.runAsync(event.tenantId(), session.id(), userMessage).blockingIterable()) {
-
-        if (agentEvent.content().isPresent()) {
-
-          final Content content = agentEvent.content().get();
-
-          if (content.parts().isPresent()) {
-
-            for (final Part part : content.parts().get()) {
-
-              if (part.text().isPresent()) {
-
-                responseJson.append(part.text().get());
-              }
-            }
-          }
-        }
-      }
+      promptAssembler.recordPromptTokens(planningAgent.name(), null, prompt);
 
-      final String json = responseJson.toString().trim();
+      final String json = llmInvoker.invoke(LlmCall.builder()
+          .agent(planningAgent)
+          .event(event)
+          .agentType(AgentType.ORCHESTRATOR)
+          .prompt(prompt)
+          .deadline(deadline)
+          .hedgeable(true)
+          .build()).text();
 
       log.info("Orchestrator raw response: {}", json);
 
@@ -184,78 +163,81 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
   }
 
   @Override
-  public ReplanResult replan(final ReplanRequest request) {
+  public CompletableFuture<ReplanResult> replanAsync(final ReplanRequest request) {
 
     log.info("Replanning workflow, eventId: {}, escalatingNode: {}, reason: {}",
         request.event().id(), request.escalatingNodeId(), request.escalationReason());
 
-    try {
+    final String prompt;
 
-      final String sessionId = UUID.randomUUID().toString();
+    try {
 
-      final Session session = sessionManager.createSession(sessionId, request.event());
+      prompt = buildReplanPrompt(request);
 
-      final Runner runner = new AgenticaRunner(
-          replanAgent,
-          "agentica",
-          sessionManager.getSessionService()
-      );
+      promptAssembler.recordPromptTokens(replanAgent.name(), request.escalatingNodeId(), prompt);
 
-      final String prompt = buildReplanPrompt(request);
+    } catch (final RuntimeException e) {
 
-      final Content userMessage = Content.fromParts(Part.fromText(prompt));
+      return CompletableFuture.failedFuture(replanFailure(request, e));
+    }
 
-      final StringBuilder responseJson = new StringBuilder();
+    return llmInvoker.invokeAsync(LlmCall.builder()
+            .agent(replanAgent)
+            .event(request.event())
+            .agentType(AgentType.ORCHESTRATOR)
+            .prompt(prompt)
+            .deadline(request.deadline())
+            .hedgeable(true)
+            .build())
+        .handle((result, error) -> {
+
+          if (error != null) {
+
+            throw replanFailure(request,
+                error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error);
+          }
 
-      for (final com.google.adk.events.Event agentEvent :
-          runner.runAsync(request.event().tenantId(), session.id(), userMessage)
-              .blockingIterable()) {
+          final String llmResponse = result.text();
 
-        if (agentEvent.content().isPresent()) {
+          log.debug("Replan raw response: {}", llmResponse);
 
-          final Content content = agentEvent.content().get();
+          final ReplanDecision decision;
 
-          if (content.parts().isPresent()) {
+          try {
 
-            for (final Part part : content.parts().get()) {
+            decision = parseReplanDecision(llmResponse);
 
-              if (part.text().isPresent()) {
+          } catch (final JsonProcessingException e) {
 
-                responseJson.append(part.text().get());
-              }
-            }
+            throw replanFailure(request, e);
           }
-        }
-      }
-
-      final String llmResponse = responseJson.toString().trim();
 
-      log.debug("Replan raw response: {}", llmResponse);
+          log.info("Replan decision made, action: {}, resumeFrom: {}",
+              decision.action(), decision.resumeFrom());
 
-      final ReplanDecision decision = parseReplanDecision(llmResponse);
-
-      log.info("Replan decision made, action: {}, resumeFrom: {}",
-          decision.action(), decision.resumeFrom());
-
-      return ReplanResult.builder()
-          .decision(decision)
-          .llmPrompt(prompt)
-          .llmResponse(llmResponse)
-          .build();
+          return ReplanResult.builder()
+              .decision(decision)
+              .llmPrompt(prompt)
+              .llmResponse(llmResponse)
+              .build();
+        });
+  }
 
-    } catch (final Exception e) {
+  private static RuntimeException replanFailure(final ReplanRequest request,
+      final Throwable error) {
 
-      log.error("Failed to replan workflow, eventId: {}, error: {}",
-          request.event().id(), e.getMessage(), e);
+    log.error("Failed to replan workflow, eventId: {}, error: {}",
+        request.event().id(), error.getMessage(), error);
 
-      throw new RuntimeException("Failed to replan workflow for event: " + request.event().id(), e);
-    }
+    return new RuntimeException("Failed to replan workflow for event: " + request.event().id(),
+        error);
   }
 
   private String buildPlanningPrompt(final Event event) {
 
-    final String payloadJson = JsonUtils.toPrettyJson(event.payload())
-        .orElse("{}");
+    final String payloadJson = promptAssembler.payloadJson(AgentType.ORCHESTRATOR, event.payload());
 
     final String availableAgents = Arrays.stream(AgentType.values())
         .filter(type -> type != AgentType.ORCHESTRATOR && type != AgentType.FILTER)
@@ -290,11 +272,9 @@ public class OrchestratorAgentImpl implements OrchestratorAgent {
 
   private String buildReplanPrompt(final ReplanRequest request) {
 
-    final String currentPlanJson = JsonUtils.toPrettyJson(request.currentPlan())
-        .orElse("{}");
+    final String currentPlanJson = promptAssembler.compactJson(request.currentPlan());
 
-    final String nodeOutputsJson = JsonUtils.toPrettyJson(request.nodeOutputs())
-        .orElse("{}");
+    final String nodeOutputsJson = promptAssembler.nodeOutputsJson(request.nodeOutputs());
 
     return String.format("""
             A workflow agent has escalated for guidance. Decide how to proceed.
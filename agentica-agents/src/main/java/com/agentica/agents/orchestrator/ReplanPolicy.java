@@ -0,0 +1,161 @@
+package com.agentica.agents.orchestrator;
+
+import com.agentica.agents.config.ReplanPolicyConfig;
+import com.agentica.agents.node.AgentNodeResult;
+import com.agentica.core.workflow.ReplanAction;
+import com.agentica.core.workflow.ReplanDecision;
+import com.agentica.core.workflow.ReplanRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves well-known escalation reasons without asking the orchestrator LLM.
+ *
+ * <p>Transient failures (rate limits, network errors, failed tool calls, an unreachable MCP
+ * server) retry the escalating node after a jittered exponential backoff and park the workflow
+ * once the node used up its retries or the backoff would outlast the workflow deadline.
+ * Missing tools park the workflow straight away, since they come back once the tool server
+ * does. A passed deadline cannot be fixed by a retry and aborts. Everything else is left to
+ * the LLM.
+ * Every escalation is counted by whether the policy or the LLM resolved it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplanPolicy {
+
+  private static final Set<String> RETRYABLE = Set.of(
+      "RATE_LIMITED",
+      AgentNodeResult.TRANSIENT_ERROR,
+      "TOOL_FAILED",
+      "MCP_UNAVAILABLE"
+  );
+
+  private static final Set<String> UNRECOVERABLE = Set.of(
+      "DEADLINE_EXCEEDED"
+  );
+
+  private static final Set<String> UNAVAILABLE = Set.of(
+      "TOOL_NOT_AVAILABLE"
+  );
+
+  private final ReplanPolicyConfig config;
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Resolves the escalation locally if its reason is well known.
+   *
+   * @param request  the replan request
+   * @param attempts retries the policy already granted the escalating node
+   * @return the resolution, or empty if the LLM has to decide
+   */
+  public Optional<Resolution> resolve(final ReplanRequest request, final int attempts) {
+
+    final String reason = request.escalationReason();
+
+    final Optional<Resolution> resolution = config.isEnabled()
+        ? decide(request, reason, attempts)
+        : Optional.empty();
+
+    final String action = resolution.map(r -> r.decision().action().name()).orElse("LLM");
+
+    decisions(resolution.isPresent() ? "policy" : "llm", reason, action).increment();
+
+    resolution.ifPresent(r -> log.info("Replan resolved by policy, eventId: {}, node: {}, "
+            + "reason: {}, action: {}, attempt: {}, delayMs: {}", request.event().id(),
+        request.escalatingNodeId(), reason, action, attempts + 1, r.delayMs()));
+
+    return resolution;
+  }
+
+  private Optional<Resolution> decide(final ReplanRequest request, final String reason,
+      final int attempts) {
+
+    final String nodeId = request.escalatingNodeId();
+
+    if (UNRECOVERABLE.contains(reason)) {
+
+      return Optional.of(new Resolution(ReplanDecision.builder()
+          .action(ReplanAction.ABORT)
+          .reason("Escalation " + reason + " at node " + nodeId + " cannot be fixed by a "
+              + "retry: " + request.escalationContext())
+          .build(), 0));
+    }
+
+    if (UNAVAILABLE.contains(reason)) {
+
+      return Optional.of(park(nodeId, reason, "waiting for the tools to come back"));
+    }
+
+    if (!RETRYABLE.contains(reason)) {
+
+      return Optional.empty();
+    }
+
+    if (attempts >= config.getMaxRetries()) {
+
+      return Optional.of(park(nodeId, reason, "retries exhausted after " + attempts));
+    }
+
+    final long delayMs = backoff(attempts);
+
+    final Instant deadline = request.deadline();
+
+    if (deadline != null && Instant.now().plusMillis(delayMs).isAfter(deadline)) {
+
+      return Optional.of(park(nodeId, reason, "backoff would pass the workflow deadline"));
+    }
+
+    return Optional.of(new Resolution(ReplanDecision.builder()
+        .action(ReplanAction.RETRY_WITH_GUIDANCE)
+        .guidance("Transient " + reason + ", retry " + (attempts + 1) + " of "
+            + config.getMaxRetries() + " unchanged")
+        .resumeFrom(nodeId)
+        .build(), delayMs));
+  }
+
+  private static Resolution park(final String nodeId, final String reason, final String why) {
+
+    return new Resolution(ReplanDecision.builder()
+        .action(ReplanAction.DEFER)
+        .reason("Escalation " + reason + " at node " + nodeId + ", " + why)
+        .build(), 0);
+  }
+
+  private long backoff(final int attempts) {
+
+    final long base = Math.min(config.getMaxBackoffMs(),
+        config.getInitialBackoffMs() << Math.min(attempts, 20));
+
+    return base + (long) (base * config.getJitter() * ThreadLocalRandom.current().nextDouble());
+  }
+
+  private Counter decisions(final String source, final String reason, final String action) {
+
+    return Counter.builder("agentica.replan.decisions")
+        .description("Workflow replans by who resolved them; policy decisions are LLM calls "
+            + "avoided")
+        .tag("source", source)
+        .tag("reason", reason != null ? reason : "unknown")
+        .tag("action", action)
+        .register(meterRegistry);
+  }
+
+  /**
+   * A locally made replan decision.
+   *
+   * @param decision the decision to apply
+   * @param delayMs  time to wait before applying it
+   */
+  public record Resolution(ReplanDecision decision, long delayMs) {
+  }
+
+}
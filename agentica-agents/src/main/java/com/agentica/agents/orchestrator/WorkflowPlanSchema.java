@@ -60,6 +60,7 @@ public class WorkflowPlanSchema {
     public Schema buildReplanDecisionSchema() {
 
         List<String> replanActions = Arrays.stream(ReplanAction.values())
+            .filter(action -> action != ReplanAction.DEFER)
             .map(Enum::name)
             .toList();
 
@@ -146,9 +147,17 @@ public class WorkflowPlanSchema {
                     "type", Schema.builder()
                         .type("STRING")
                         .enum_(edgeTypes)
-                        .description("Type of edge (DIRECT or CONDITIONAL)")
+                        .description("Type of edge (DIRECT, CONDITIONAL or PARALLEL)")
                         .build(),
-                    "condition", buildConditionSchema()
+                    "condition", buildConditionSchema(),
+                    "branches", Schema.builder()
+                        .type("ARRAY")
+                        .description("PARALLEL only: independent node IDs run concurrently "
+                            + "before continuing to 'to'")
+                        .items(Schema.builder()
+                            .type("STRING")
+                            .build())
+                        .build()
                 ))
                 .required(List.of("from", "to", "type"))
                 .build())
@@ -0,0 +1,217 @@
+package com.agentica.agents.prompt;
+
+import com.agentica.agents.config.PromptConfig;
+import com.agentica.common.util.JsonUtils;
+import com.agentica.core.enums.AgentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared prompt assembly for agent nodes and the orchestrator.
+ * Emits compact JSON, projects only the payload fields each agent type needs and keeps the
+ * previous node outputs section within a token budget by summarizing older outputs first.
+ */
+@Slf4j
+@Component
+public class PromptAssembler {
+
+  private static final String OMITTED = "[omitted: token budget]";
+
+  private static final Map<AgentType, Set<String>> PAYLOAD_FIELDS = new EnumMap<>(AgentType.class);
+
+  static {
+
+    PAYLOAD_FIELDS.put(AgentType.ORCHESTRATOR,
+        Set.of("message", "fromName", "isReply", "commentType"));
+
+    PAYLOAD_FIELDS.put(AgentType.MARKETING,
+        Set.of("message", "fromName", "isReply", "pageName", "likeCount", "commentCount",
+            "commentType"));
+
+    PAYLOAD_FIELDS.put(AgentType.FACEBOOK,
+        Set.of("postId", "commentId", "parentCommentId", "pageId", "message", "fromName",
+            "post_id", "comment_id"));
+
+    PAYLOAD_FIELDS.put(AgentType.REVIEW,
+        Set.of("postId", "commentId", "message", "fromName", "pageName"));
+  }
+
+  private final PromptConfig config;
+
+  private final MeterRegistry meterRegistry;
+
+  public PromptAssembler(final PromptConfig config, final MeterRegistry meterRegistry) {
+
+    this.config = config;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Renders the payload fields relevant to the given agent type as compact JSON.
+   * Falls back to the full payload when none of the projected fields are present,
+   * so payloads from other sources are not silently dropped.
+   *
+   * @param agentType the agent the prompt is for
+   * @param payload   the event payload
+   * @return compact JSON of the projected payload
+   */
+  public String payloadJson(final AgentType agentType, final Map<String, Object> payload) {
+
+    if (payload == null || payload.isEmpty()) {
+
+      return "{}";
+    }
+
+    final Set<String> fields = PAYLOAD_FIELDS.get(agentType);
+
+    if (fields == null) {
+
+      return compactJson(payload);
+    }
+
+    final Map<String, Object> projected = new LinkedHashMap<>();
+
+    for (final Map.Entry<String, Object> entry : payload.entrySet()) {
+
+      if (fields.contains(entry.getKey())) {
+
+        projected.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    return compactJson(projected.isEmpty() ? payload : projected);
+  }
+
+  /**
+   * Renders previous node outputs as compact JSON within the configured token budget.
+   * Outputs are expected in execution order; the most recent ones are kept verbatim
+   * while older ones are summarized and, if still over budget, omitted.
+   *
+   * @param nodeOutputs node outputs in execution order
+   * @return compact JSON of the (possibly reduced) node outputs
+   */
+  public String nodeOutputsJson(final Map<String, Object> nodeOutputs) {
+
+    if (nodeOutputs == null || nodeOutputs.isEmpty()) {
+
+      return "{}";
+    }
+
+    final Map<String, Object> rendered = new LinkedHashMap<>(nodeOutputs);
+
+    String json = compactJson(rendered);
+
+    if (estimateTokens(json) <= config.getNodeOutputsTokenBudget()) {
+
+      return json;
+    }
+
+    final List<String> olderNodeIds = new ArrayList<>(rendered.keySet());
+
+    olderNodeIds.subList(Math.max(0, olderNodeIds.size() - config.getKeepRecentOutputs()),
+        olderNodeIds.size()).clear();
+
+    for (final String nodeId : olderNodeIds) {
+
+      rendered.put(nodeId, summarize(rendered.get(nodeId)));
+
+      json = compactJson(rendered);
+
+      if (estimateTokens(json) <= config.getNodeOutputsTokenBudget()) {
+
+        return json;
+      }
+    }
+
+    for (final String nodeId : olderNodeIds) {
+
+      rendered.put(nodeId, OMITTED);
+
+      json = compactJson(rendered);
+
+      if (estimateTokens(json) <= config.getNodeOutputsTokenBudget()) {
+
+        break;
+      }
+    }
+
+    log.debug("Node outputs reduced to fit token budget, outputs: {}, budget: {}, tokens: {}",
+        rendered.size(), config.getNodeOutputsTokenBudget(), estimateTokens(json));
+
+    return json;
+  }
+
+  /**
+   * Renders any value as compact JSON, omitting null and empty fields.
+   *
+   * @param value the value to render
+   * @return compact JSON, or "{}" when the value is null or not serializable
+   */
+  public String compactJson(final Object value) {
+
+    return JsonUtils.toCompactJson(value).orElse("{}");
+  }
+
+  /**
+   * Estimates the number of tokens in the given text.
+   *
+   * @param text the text to estimate
+   * @return estimated token count
+   */
+  public int estimateTokens(final String text) {
+
+    if (text == null || text.isEmpty()) {
+
+      return 0;
+    }
+
+    return (text.length() + config.getCharsPerToken() - 1) / config.getCharsPerToken();
+  }
+
+  /**
+   * Records the estimated prompt size of an agent call.
+   *
+   * @param agentName the agent issuing the prompt
+   * @param nodeId    the workflow node the prompt belongs to (may be null)
+   * @param prompt    the assembled prompt
+   * @return the estimated prompt token count
+   */
+  public int recordPromptTokens(final String agentName, final String nodeId, final String prompt) {
+
+    final int tokens = estimateTokens(prompt);
+
+    DistributionSummary.builder("agentica.prompt.tokens")
+        .description("Estimated prompt tokens per agent call")
+        .baseUnit("tokens")
+        .tag("agent", agentName)
+        .register(meterRegistry)
+        .record(tokens);
+
+    log.debug("Prompt assembled, agent: {}, nodeId: {}, estimatedTokens: {}",
+        agentName, nodeId, tokens);
+
+    return tokens;
+  }
+
+  private Object summarize(final Object output) {
+
+    final String text = output instanceof String string ? string : compactJson(output);
+
+    if (text.length() <= config.getSummaryChars()) {
+
+      return output;
+    }
+
+    return text.substring(0, config.getSummaryChars())
+        + "... [truncated " + (text.length() - config.getSummaryChars()) + " chars]";
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.agentica.agents.runner;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Fixed-size window of recent call latencies used to estimate a latency quantile.
+ */
+class LatencyWindow {
+
+  private final long[] samples;
+
+  private int next;
+
+  private int size;
+
+  LatencyWindow(final int capacity) {
+
+    this.samples = new long[Math.max(1, capacity)];
+  }
+
+  synchronized void record(final long latencyMs) {
+
+    samples[next] = latencyMs;
+
+    next = (next + 1) % samples.length;
+
+    size = Math.min(size + 1, samples.length);
+  }
+
+  /**
+   * Returns the latency at the given quantile, if enough samples were recorded.
+   *
+   * @param quantile   the quantile, e.g. 0.95
+   * @param minSamples samples required for a usable estimate
+   * @return the estimated latency in milliseconds
+   */
+  synchronized OptionalLong quantile(final double quantile, final int minSamples) {
+
+    if (size < minSamples || size == 0) {
+
+      return OptionalLong.empty();
+    }
+
+    final long[] sorted = Arrays.copyOf(samples, size);
+
+    Arrays.sort(sorted);
+
+    final int index = (int) Math.min(size - 1, Math.ceil(quantile * size) - 1);
+
+    return OptionalLong.of(sorted[Math.max(0, index)]);
+  }
+
+}
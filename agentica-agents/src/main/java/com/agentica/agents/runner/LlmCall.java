@@ -0,0 +1,62 @@
+package com.agentica.agents.runner;
+
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.google.adk.agents.LlmAgent;
+import java.time.Instant;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * A single LLM invocation issued by an agent node or the orchestrator.
+ */
+@Builder(toBuilder = true)
+public record LlmCall(
+
+    /**
+     * The ADK agent to run.
+     */
+    LlmAgent agent,
+
+    /**
+     * The event whose workflow this call belongs to.
+     */
+    Event event,
+
+    /**
+     * The workflow node issuing the call.
+     */
+    String nodeId,
+
+    /**
+     * The agent type issuing the call, used for accounting.
+     */
+    AgentType agentType,
+
+    /**
+     * Custom instruction override, if any.
+     */
+    String instruction,
+
+    /**
+     * Node configuration, if any.
+     */
+    Map<String, Object> config,
+
+    /**
+     * The user prompt sent to the agent.
+     */
+    String prompt,
+
+    /**
+     * The workflow deadline the call is bounded by (may be null).
+     */
+    Instant deadline,
+
+    /**
+     * Whether a second attempt may be fired when the call is slow.
+     * Only safe for agents without tools, whose calls have no side effects.
+     */
+    boolean hedgeable
+
+) {}
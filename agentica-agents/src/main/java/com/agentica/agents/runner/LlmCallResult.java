@@ -0,0 +1,50 @@
+package com.agentica.agents.runner;
+
+import com.agentica.core.event.workflow.AgentExecutionEvent.ToolCall;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Outcome of an LLM invocation, including token usage and latency.
+ */
+@Builder(toBuilder = true)
+public record LlmCallResult(
+
+    /**
+     * Concatenated text parts of the agent response.
+     */
+    String text,
+
+    /**
+     * Tool calls made by the agent while producing the response.
+     */
+    List<ToolCall> toolCalls,
+
+    /**
+     * Prompt tokens reported by the model.
+     */
+    int inputTokens,
+
+    /**
+     * Response tokens reported by the model.
+     */
+    int outputTokens,
+
+    /**
+     * Wall-clock latency of the whole invocation.
+     */
+    long latencyMs
+
+) {
+
+  /**
+   * Checks if the agent executed at least one tool.
+   *
+   * @return true if a tool was called
+   */
+  public boolean toolExecuted() {
+
+    return toolCalls != null && !toolCalls.isEmpty();
+  }
+
+}
@@ -0,0 +1,747 @@
+package com.agentica.agents.runner;
+
+import com.agentica.agents.config.LlmCallConfig;
+import com.agentica.agents.limiter.LlmBulkheads;
+import com.agentica.agents.limiter.LlmErrors;
+import com.agentica.agents.limiter.RateGovernor;
+import com.agentica.agents.metrics.LlmUsageRecorder;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.prompt.PromptAssembler;
+import com.agentica.agents.session.AdkSessionManager;
+import com.agentica.common.util.JsonUtils;
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.event.workflow.AgentExecutionEvent.LlmInteraction;
+import com.agentica.core.event.workflow.AgentExecutionEvent.Message;
+import com.agentica.core.event.workflow.AgentExecutionEvent.ToolCall;
+import com.agentica.core.exception.LlmDeadlineExceededException;
+import com.agentica.core.jfr.LlmCallEvent;
+import com.agentica.core.jfr.ToolCallEvent;
+import com.agentica.core.resilience.CircuitBreaker;
+import com.agentica.core.resilience.CircuitBreakerRegistry;
+import com.agentica.core.trace.ActiveSpan;
+import com.agentica.core.trace.Tracer;
+import com.google.adk.runner.Runner;
+import com.google.genai.types.Content;
+import com.google.genai.types.FunctionCall;
+import com.google.genai.types.FunctionResponse;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import com.google.genai.types.Part;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs an ADK agent against the workflow session of an event.
+ *
+ * <p>Every call publishes {@link AgentExecutionEvent}s for the request, each tool call and the
+ * response, with token usage taken from the ADK event metadata and wall-clock latency, and
+ * records the usage through {@link LlmUsageRecorder}. Calls are admitted through
+ * {@link LlmBulkheads}, whose limits adapt to the latency and overload signals seen here,
+ * after being paced by the {@link RateGovernor}, which is settled with the actual usage.
+ * A circuit breaker per model rejects calls up front while the provider keeps failing.
+ *
+ * <p>Each call is bounded by the earlier of the per-call timeout and the workflow deadline;
+ * on expiry the ADK Flowable is cancelled. A hedgeable call still running after the observed
+ * latency quantile of its agent type gets a second attempt, admitted like the first, and the
+ * first attempt to finish wins.
+ *
+ * <p>Calls are asynchronous end to end: nothing blocks a platform thread while a call waits
+ * for admission or for the model, so concurrent workflows are bounded by memory rather than
+ * by thread pools.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmInvoker {
+
+  private static final String APP_NAME = "agentica";
+
+  private static final String CIRCUIT_PREFIX = "llm:";
+
+  private final ModelResolver modelResolver;
+
+  private final AdkSessionManager sessionManager;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final LlmUsageRecorder usageRecorder;
+
+  private final LlmBulkheads bulkheads;
+
+  private final RateGovernor rateGovernor;
+
+  private final PromptAssembler promptAssembler;
+
+  private final LlmCallConfig callConfig;
+
+  private final MeterRegistry meterRegistry;
+
+  private final CircuitBreakerRegistry circuitBreakers;
+
+  private final Tracer tracer;
+
+  private final Map<AgentType, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+  private final ExecutorService admissionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final Scheduler admissionScheduler = Schedulers.from(admissionExecutor);
+
+  /**
+   * Runs the call to completion, blocking the calling thread.
+   *
+   * @param call the call to run
+   * @return the response text, tool calls, token usage and latency
+   * @throws LlmDeadlineExceededException if the call did not finish within its time budget
+   */
+  public LlmCallResult invoke(final LlmCall call) {
+
+    try {
+
+      return invokeAsync(call).join();
+
+    } catch (final CompletionException e) {
+
+      if (e.getCause() instanceof RuntimeException cause) {
+
+        throw cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Runs the call without blocking the calling thread. Waiting for quota and concurrency
+   * slots happens on a virtual thread; the model call itself runs on the ADK Flowable, and
+   * its result is completed on a virtual thread so listeners of the published events never
+   * run on RxJava timer threads.
+   *
+   * @param call the call to run
+   * @return a future completed with the response text, tool calls, token usage and latency,
+   *     or exceptionally with the admission or model failure
+   */
+  public CompletableFuture<LlmCallResult> invokeAsync(final LlmCall call) {
+
+    final String model = modelResolver.modelName();
+
+    final ActiveSpan span = tracer.span(call.event().id(), parentSpanKey(call),
+        "llm " + call.agent().name(), Map.of("model", model, "agent", call.agent().name()));
+
+    final LlmCallEvent jfrEvent = new LlmCallEvent();
+
+    jfrEvent.begin();
+
+    return Single.fromCallable(() -> admit(call, model))
+        .subscribeOn(admissionScheduler)
+        .flatMap(admission -> Single.defer(() -> run(call, model, admission))
+            .observeOn(admissionScheduler)
+            .doOnError(e -> onFailure(call, model, admission, e))
+            .map(attempt -> onSuccess(call, model, attempt)))
+        .doOnSuccess(result -> {
+
+          span.attribute("inputTokens", result.inputTokens())
+              .attribute("outputTokens", result.outputTokens())
+              .end();
+
+          commit(jfrEvent, call, model, "success", result);
+        })
+        .doOnError(e -> {
+
+          span.end(e);
+
+          commit(jfrEvent, call, model, "failed", null);
+        })
+        .doOnDispose(() -> {
+
+          span.end();
+
+          commit(jfrEvent, call, model, "cancelled", null);
+        })
+        .toCompletionStage()
+        .toCompletableFuture();
+  }
+
+  private static void commit(final LlmCallEvent jfrEvent, final LlmCall call,
+      final String model, final String outcome, final LlmCallResult result) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId(call.event().id());
+      jfrEvent.setNodeId(call.nodeId());
+      jfrEvent.setAgent(call.agent().name());
+      jfrEvent.setModel(model);
+      jfrEvent.setOutcome(outcome);
+
+      if (result != null) {
+
+        jfrEvent.setInputTokens(result.inputTokens());
+        jfrEvent.setOutputTokens(result.outputTokens());
+      }
+
+      jfrEvent.commit();
+    }
+  }
+
+  /**
+   * Calls of an agent node nest under the node's span, the orchestrator's planning and
+   * replanning calls under the plan span.
+   */
+  private static String parentSpanKey(final LlmCall call) {
+
+    return call.nodeId() != null ? Tracer.nodeKey(call.nodeId()) : Tracer.PLAN;
+  }
+
+  @PreDestroy
+  void shutdown() {
+
+    admissionExecutor.close();
+  }
+
+  /**
+   * Waits for rate quota and a concurrency slot, then announces the request. The waits are
+   * bounded by the workflow deadline as well as by their own timeouts.
+   */
+  private Admission admit(final LlmCall call, final String model) {
+
+    final Event event = call.event();
+
+    final Admission admission;
+
+    try {
+
+      admission = acquire(call, model, true);
+
+    } catch (final RuntimeException e) {
+
+      eventPublisher.publishEvent(AgentExecutionEvent.failed(
+          event.id(), call.nodeId(), call.agentType(), call.agent().name(), e.getMessage()));
+
+      throw e;
+    }
+
+    eventPublisher.publishEvent(AgentExecutionEvent.llmRequestSent(
+        event.id(),
+        call.nodeId(),
+        call.agentType(),
+        call.agent().name(),
+        call.instruction(),
+        call.config(),
+        LlmInteraction.builder()
+            .model(model)
+            .systemPrompt(call.instruction())
+            .messages(List.of(Message.builder().role("user").content(call.prompt()).build()))
+            .rawRequest(call.prompt())
+            .build()
+    ));
+
+    return admission;
+  }
+
+  /**
+   * Takes a circuit permission, rate quota and a concurrency slot for one attempt. A hedge
+   * does not wait: it is only worth sending if capacity is free right now.
+   */
+  private Admission acquire(final LlmCall call, final String model, final boolean wait) {
+
+    final long estimatedTokens = promptAssembler.estimateTokens(call.prompt())
+        + rateGovernor.expectedOutputTokens();
+
+    final CircuitBreaker circuit = circuitBreakers.get(CIRCUIT_PREFIX + model);
+
+    circuit.acquirePermission();
+
+    RateGovernor.Grant grant = null;
+
+    try {
+
+      grant = rateGovernor.acquire(call.event(), estimatedTokens,
+          wait ? admissionWaitMs(call) : 0);
+
+      final LlmBulkheads.Permit permit = bulkheads.acquire(model, call.agentType(),
+          wait ? admissionWaitMs(call) : 0);
+
+      return new Admission(circuit, grant, permit, System.nanoTime());
+
+    } catch (final RuntimeException e) {
+
+      circuit.onIgnore();
+
+      if (grant != null) {
+
+        grant.settle(0, 1);
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Releases the admission of a successful attempt, settling quota with the actual usage.
+   */
+  private void settle(final Admission admission, final Attempt attempt) {
+
+    admission.circuit().onSuccess();
+
+    admission.permit().onSuccess(System.nanoTime() - admission.startedAt());
+
+    admission.grant().settle(attempt.inputTokens + attempt.outputTokens,
+        Math.max(1, attempt.modelCalls));
+  }
+
+  /**
+   * Releases the admission of a failed attempt, feeding overload and dependency failures
+   * back into the limiters and the circuit.
+   */
+  private void settle(final Admission admission, final Throwable e) {
+
+    if (LlmErrors.isOverload(e)) {
+
+      admission.permit().onDropped();
+
+    } else {
+
+      admission.permit().onIgnore();
+    }
+
+    if (LlmErrors.isDependencyFailure(e)) {
+
+      admission.circuit().onFailure();
+
+    } else {
+
+      admission.circuit().onIgnore();
+    }
+
+    admission.grant().settle(0, 1);
+  }
+
+  private void onCancel(final Admission admission) {
+
+    admission.circuit().onIgnore();
+
+    admission.permit().onIgnore();
+
+    admission.grant().settle(0, 1);
+  }
+
+  private void onFailure(final LlmCall call, final String model, final Admission admission,
+      final Throwable e) {
+
+    usageRecorder.recordFailure(call, model, elapsedMs(admission.startedAt()));
+
+    eventPublisher.publishEvent(AgentExecutionEvent.failed(
+        call.event().id(), call.nodeId(), call.agentType(), call.agent().name(), e.getMessage()));
+  }
+
+  private LlmCallResult onSuccess(final LlmCall call, final String model,
+      final Attempt attempt) {
+
+    final Event event = call.event();
+
+    final String text = attempt.responseText.toString().trim();
+
+    final LlmCallResult result = LlmCallResult.builder()
+        .text(text)
+        .toolCalls(attempt.toolCalls())
+        .inputTokens(attempt.inputTokens)
+        .outputTokens(attempt.outputTokens)
+        .latencyMs(elapsedMs(attempt.admission.startedAt()))
+        .build();
+
+    if (call.agentType() != null) {
+
+      latencies.computeIfAbsent(call.agentType(),
+              agentType -> new LatencyWindow(callConfig.getLatencyWindowSize()))
+          .record(result.latencyMs());
+    }
+
+    usageRecorder.recordSuccess(call, model, result);
+
+    eventPublisher.publishEvent(AgentExecutionEvent.llmResponseReceived(
+        event.id(),
+        call.nodeId(),
+        call.agentType(),
+        call.agent().name(),
+        LlmInteraction.builder()
+            .model(model)
+            .systemPrompt(call.instruction())
+            .rawRequest(call.prompt())
+            .rawResponse(text)
+            .inputTokens(result.inputTokens())
+            .outputTokens(result.outputTokens())
+            .latencyMs(result.latencyMs())
+            .build()
+    ));
+
+    return result;
+  }
+
+  /**
+   * Runs the admitted call on its own session and, when hedging applies, races it against a
+   * delayed second attempt. The hedge is admitted like any other attempt, so it needs its own
+   * circuit permission, quota and concurrency slot, and is skipped if they are not free.
+   */
+  private Single<Attempt> run(final LlmCall call, final String model,
+      final Admission admission) {
+
+    final long timeoutMs = timeoutMs(call);
+
+    if (timeoutMs <= 0) {
+
+      return settled(admission, Single.error(new LlmDeadlineExceededException(
+          "Workflow deadline passed before LLM call, agent: " + call.agent().name(), 0, true)));
+    }
+
+    final long deadlineNanos = admission.startedAt() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+    final Single<Attempt> primary = settled(admission,
+        attempt(call, admission, false, timeoutMs, deadlineNanos));
+
+    final OptionalLong hedgeDelayMs = hedgeDelayMs(call);
+
+    if (hedgeDelayMs.isEmpty() || hedgeDelayMs.getAsLong() >= timeoutMs) {
+
+      return primary;
+    }
+
+    final Single<Attempt> hedge = Single.fromCallable(() -> acquire(call, model, false))
+        .subscribeOn(admissionScheduler)
+        .doOnSuccess(hedgeAdmission -> hedgeCounter(call, "fired").increment())
+        .onErrorResumeNext(e -> {
+
+          hedgeCounter(call, "rejected").increment();
+
+          log.debug("Hedged LLM attempt not admitted, agent: {}, nodeId: {}, reason: {}",
+              call.agent().name(), call.nodeId(), e.getMessage());
+
+          return Single.never();
+        })
+        .flatMap(hedgeAdmission -> settled(hedgeAdmission,
+            attempt(call, hedgeAdmission, true, timeoutMs, deadlineNanos)))
+        .delaySubscription(hedgeDelayMs.getAsLong(), TimeUnit.MILLISECONDS);
+
+    return Single.amb(List.of(primary, hedge))
+        .doOnSuccess(winner -> {
+
+          if (winner.hedge) {
+
+            hedgeCounter(call, "won").increment();
+
+            log.debug("Hedged LLM attempt won, agent: {}, nodeId: {}, hedgeDelayMs: {}",
+                call.agent().name(), call.nodeId(), hedgeDelayMs.getAsLong());
+          }
+        });
+  }
+
+  /**
+   * Releases the admission of an attempt exactly once, whether it succeeds, fails or loses
+   * the race and is cancelled.
+   */
+  private Single<Attempt> settled(final Admission admission, final Single<Attempt> attempt) {
+
+    return attempt
+        .doOnSuccess(result -> settle(admission, result))
+        .doOnError(e -> settle(admission, e))
+        .doOnDispose(() -> onCancel(admission));
+  }
+
+  /**
+   * Runs one attempt of the call on a session of its own. The ADK Flowable is cancelled when
+   * the shared deadline passes, whether it is waiting for the first event or between events.
+   */
+  private Single<Attempt> attempt(final LlmCall call, final Admission admission,
+      final boolean hedge, final long timeoutMs, final long deadlineNanos) {
+
+    final Runner runner = new AgenticaRunner(call.agent(), APP_NAME,
+        sessionManager.getSessionService());
+
+    final Content userMessage = Content.fromParts(Part.fromText(call.prompt()));
+
+    final boolean workflowDeadline = timeoutMs < callConfig.getTimeoutMs();
+
+    return Single.using(
+        () -> sessionManager.createCallSession(call.event()),
+        session -> Flowable.defer(
+                () -> runner.runAsync(call.event().tenantId(), session.id(), userMessage))
+            .timeout(
+                Flowable.defer(
+                    () -> Flowable.timer(remainingMs(deadlineNanos), TimeUnit.MILLISECONDS)),
+                agentEvent -> Flowable.timer(remainingMs(deadlineNanos), TimeUnit.MILLISECONDS),
+                Flowable.error(() -> new LlmDeadlineExceededException(
+                    "LLM call exceeded its time budget, agent: " + call.agent().name(),
+                    timeoutMs, workflowDeadline)))
+            .collect(() -> new Attempt(call, admission, hedge), Attempt::accept),
+        sessionManager::deleteCallSession);
+  }
+
+  /**
+   * Returns how long admission may wait: until the workflow deadline, if the call has one.
+   */
+  private static long admissionWaitMs(final LlmCall call) {
+
+    final Instant deadline = call.deadline();
+
+    if (deadline == null) {
+
+      return Long.MAX_VALUE;
+    }
+
+    return Math.max(0, deadline.toEpochMilli() - System.currentTimeMillis());
+  }
+
+  private long timeoutMs(final LlmCall call) {
+
+    final Instant deadline = call.deadline();
+
+    if (deadline == null) {
+
+      return callConfig.getTimeoutMs();
+    }
+
+    return Math.min(callConfig.getTimeoutMs(),
+        deadline.toEpochMilli() - System.currentTimeMillis());
+  }
+
+  private OptionalLong hedgeDelayMs(final LlmCall call) {
+
+    if (!callConfig.isHedgingEnabled() || !call.hedgeable() || call.agentType() == null) {
+
+      return OptionalLong.empty();
+    }
+
+    final LatencyWindow window = latencies.get(call.agentType());
+
+    if (window == null) {
+
+      return OptionalLong.empty();
+    }
+
+    final OptionalLong quantile = window.quantile(callConfig.getHedgeQuantile(),
+        callConfig.getHedgeMinSamples());
+
+    if (quantile.isEmpty()) {
+
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(Math.max(callConfig.getHedgeMinDelayMs(), quantile.getAsLong()));
+  }
+
+  private Counter hedgeCounter(final LlmCall call, final String outcome) {
+
+    return Counter.builder("agentica.llm.hedge")
+        .description("Hedged LLM attempts fired and won")
+        .tag("agent", call.agentType().name())
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private void onToolCallStarted(final LlmCall call, final FunctionCall functionCall,
+      final Map<String, PendingToolCall> pendingToolCalls) {
+
+    final String toolName = functionCall.name().orElse("unknown");
+
+    final String toolInput = functionCall.args()
+        .flatMap(JsonUtils::toJson)
+        .orElse("{}");
+
+    pendingToolCalls.put(functionCall.id().orElse(toolName),
+        new PendingToolCall(toolName, toolInput, System.nanoTime(), toolCallEvent()));
+
+    log.debug("Tool called, agent: {}, nodeId: {}, tool: {}",
+        call.agent().name(), call.nodeId(), toolName);
+
+    eventPublisher.publishEvent(AgentExecutionEvent.toolCallStarted(
+        call.event().id(), call.nodeId(), call.agentType(), toolName, toolInput));
+  }
+
+  private void onToolCallCompleted(final LlmCall call, final FunctionResponse functionResponse,
+      final Map<String, PendingToolCall> pendingToolCalls, final List<ToolCall> toolCalls) {
+
+    final String toolName = functionResponse.name().orElse("unknown");
+
+    final PendingToolCall pending = pendingToolCalls.remove(
+        functionResponse.id().orElse(toolName));
+
+    final Map<String, Object> response = functionResponse.response().orElse(Map.of());
+
+    final Object error = response.get("error");
+
+    final ToolCall toolCall = ToolCall.builder()
+        .toolName(toolName)
+        .toolInput(pending != null ? pending.toolInput() : null)
+        .toolOutput(JsonUtils.toJson(response).orElse(null))
+        .durationMs(pending != null ? elapsedMs(pending.startedAt()) : 0)
+        .success(error == null)
+        .error(error != null ? error.toString() : null)
+        .build();
+
+    toolCalls.add(toolCall);
+
+    if (pending != null) {
+
+      commit(pending.jfrEvent(), call, toolCall);
+    }
+
+    tracer.record(call.event().id(), parentSpanKey(call), "tool " + toolName,
+        Instant.now().minusMillis(toolCall.durationMs()), Map.of("tool", toolName),
+        toolCall.error());
+
+    eventPublisher.publishEvent(AgentExecutionEvent.toolCallCompleted(
+        call.event().id(), call.nodeId(), call.agentType(), toolCall));
+  }
+
+  private static ToolCallEvent toolCallEvent() {
+
+    final ToolCallEvent jfrEvent = new ToolCallEvent();
+
+    jfrEvent.begin();
+
+    return jfrEvent;
+  }
+
+  private static void commit(final ToolCallEvent jfrEvent, final LlmCall call,
+      final ToolCall toolCall) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId(call.event().id());
+      jfrEvent.setNodeId(call.nodeId());
+      jfrEvent.setTool(toolCall.toolName());
+      jfrEvent.setSuccess(toolCall.success());
+      jfrEvent.commit();
+    }
+  }
+
+  private static long elapsedMs(final long startedAtNanos) {
+
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+  }
+
+  private static long remainingMs(final long deadlineNanos) {
+
+    return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+  }
+
+  /**
+   * Response text, token usage and tool calls collected from the ADK events of one attempt.
+   */
+  private final class Attempt {
+
+    private final LlmCall call;
+
+    private final Admission admission;
+
+    private final boolean hedge;
+
+    private final StringBuilder responseText = new StringBuilder();
+
+    private final List<ToolCall> completedToolCalls = new ArrayList<>();
+
+    private final Map<String, PendingToolCall> pendingToolCalls = new LinkedHashMap<>();
+
+    private int inputTokens;
+
+    private int outputTokens;
+
+    private int modelCalls;
+
+    private Attempt(final LlmCall call, final Admission admission, final boolean hedge) {
+
+      this.call = call;
+      this.admission = admission;
+      this.hedge = hedge;
+    }
+
+    private void accept(final com.google.adk.events.Event agentEvent) {
+
+      if (agentEvent.usageMetadata().isPresent()) {
+
+        final GenerateContentResponseUsageMetadata usage = agentEvent.usageMetadata().get();
+
+        inputTokens += usage.promptTokenCount().orElse(0);
+
+        outputTokens += usage.candidatesTokenCount().orElse(0);
+
+        modelCalls++;
+      }
+
+      if (agentEvent.content().isEmpty() || agentEvent.content().get().parts().isEmpty()) {
+
+        return;
+      }
+
+      for (final Part part : agentEvent.content().get().parts().get()) {
+
+        if (part.functionCall().isPresent()) {
+
+          onToolCallStarted(call, part.functionCall().get(), pendingToolCalls);
+        }
+
+        if (part.functionResponse().isPresent()) {
+
+          onToolCallCompleted(call, part.functionResponse().get(), pendingToolCalls,
+              completedToolCalls);
+        }
+
+        if (part.text().isPresent()) {
+
+          responseText.append(part.text().get());
+        }
+      }
+    }
+
+    private List<ToolCall> toolCalls() {
+
+      final List<ToolCall> toolCalls = new ArrayList<>(completedToolCalls);
+
+      pendingToolCalls.values().forEach(pending -> toolCalls.add(ToolCall.builder()
+          .toolName(pending.toolName())
+          .toolInput(pending.toolInput())
+          .success(false)
+          .error("No tool response received")
+          .build()));
+
+      return List.copyOf(toolCalls);
+    }
+  }
+
+  /**
+   * Circuit permission, quota and concurrency slot held by an admitted call.
+   */
+  private record Admission(CircuitBreaker circuit, RateGovernor.Grant grant,
+      LlmBulkheads.Permit permit, long startedAt) {}
+
+  /**
+   * A tool call that has been issued but not yet answered.
+   */
+  private record PendingToolCall(String toolName, String toolInput, long startedAt,
+      ToolCallEvent jfrEvent) {}
+
+}
@@ -1,17 +1,35 @@
 package com.agentica.agents.session;
 
+import com.agentica.agents.config.AdkConfig;
+import com.agentica.common.util.JsonUtils;
 import com.agentica.core.domain.Event;
 import com.google.adk.sessions.InMemorySessionService;
 import com.google.adk.sessions.Session;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * Manages ADK session lifecycle for workflow orchestration.
  * Uses in-memory session storage for MVP.
+ *
+ * <p>Sessions are scoped to a workflow execution: the planner, every node and every replan
+ * of the same event share one session holding the event state, which is deleted when the
+ * workflow finishes. Sessions that are never released (e.g. planning failed) are evicted by a
+ * TTL sweeper.
+ *
+ * <p>LLM calls never run on the workflow session itself. Each call runs on its own session
+ * seeded from the workflow state, so the runner does not replay earlier calls into every
+ * prompt, agents do not see each other's exchanges and parallel branches never append to the
+ * same history. Prompts already carry the upstream outputs they need.
  */
 @Slf4j
 @Component
@@ -21,43 +39,117 @@ public class AdkSessionManager {
 
   private final InMemorySessionService sessionService;
 
-  public AdkSessionManager() {
+  private final AdkConfig adkConfig;
+
+  private final Map<String, SessionLease> liveSessions = new ConcurrentHashMap<>();
+
+  public AdkSessionManager(final AdkConfig adkConfig, final MeterRegistry meterRegistry) {
+
     this.sessionService = new InMemorySessionService();
+    this.adkConfig = adkConfig;
+
+    Gauge.builder("agentica.adk.sessions.live", liveSessions, Map::size)
+        .description("Number of live ADK sessions")
+        .register(meterRegistry);
+
+    Gauge.builder("agentica.adk.sessions.bytes", this, AdkSessionManager::liveSessionBytes)
+        .description("Estimated size of state held by live ADK sessions")
+        .baseUnit("bytes")
+        .register(meterRegistry);
   }
 
   /**
-   * Creates a new ADK session for a workflow.
+   * Returns the session scoped to the workflow execution of the given event,
+   * creating it on first use.
    *
-   * @param workflowId unique identifier for the workflow
-   * @param event      the event being processed
-   * @return the created session
+   * @param event the event being processed
+   * @return the workflow-scoped session
    */
-  public Session createSession(String workflowId, Event event) {
+  public Session getOrCreateSession(final Event event) {
 
-    log.info("Creating ADK session, workflowId: {}, eventId: {}", workflowId, event.id());
+    final SessionLease lease = liveSessions.computeIfAbsent(event.id(),
+        eventId -> createLease(event));
 
-    Map<String, Object> initialState = new ConcurrentHashMap<>();
+    lease.touch();
 
-    initialState.put("event_id", event.id());
-    initialState.put("event_type", event.eventType());
-    initialState.put("event_source", event.source());
-    initialState.put("event_payload", event.payload());
-    initialState.put("category", event.category());
-    initialState.put("priority", event.priority());
-    initialState.put("workflow_status", "PLANNING");
-    initialState.put("workflow_id", workflowId);
+    return lease.session();
+  }
 
-    Session session = sessionService.createSession(
+  /**
+   * Deletes the workflow-scoped session of the given event.
+   * Safe to call when no session exists.
+   *
+   * @param eventId the event whose workflow finished
+   */
+  public void releaseSession(final String eventId) {
+
+    final SessionLease lease = liveSessions.remove(eventId);
+
+    if (lease != null) {
+
+      deleteSession(lease);
+
+      log.debug("ADK session released, sessionId: {}, tenantId: {}",
+          lease.session().id(), lease.tenantId());
+    }
+  }
+
+  /**
+   * Evicts sessions that have been idle for longer than the configured TTL.
+   * Catches orphans whose workflow never reached completion.
+   */
+  @Scheduled(fixedDelayString = "${agentica.adk.session-sweep-interval-ms:60000}")
+  public void evictExpiredSessions() {
+
+    final long cutoff = System.currentTimeMillis() - adkConfig.getSessionTtlMs();
+
+    int evicted = 0;
+
+    for (final Map.Entry<String, SessionLease> entry : liveSessions.entrySet()) {
+
+      final SessionLease lease = entry.getValue();
+
+      if (lease.lastAccessedAt() < cutoff && liveSessions.remove(entry.getKey(), lease)) {
+
+        deleteSession(lease);
+
+        evicted++;
+      }
+    }
+
+    if (evicted > 0) {
+
+      log.info("Evicted expired ADK sessions, evicted: {}, live: {}", evicted, liveSessions.size());
+    }
+  }
+
+  /**
+   * Creates a session for a single LLM call, seeded with the current state of the workflow
+   * session of the given event. The call's exchange is discarded with it.
+   *
+   * @param event the event being processed
+   * @return the call session, to be removed with {@link #deleteCallSession}
+   */
+  public Session createCallSession(final Event event) {
+
+    final Session workflowSession = getOrCreateSession(event);
+
+    return sessionService.createSession(
         APP_NAME,
         event.tenantId(),
-        new ConcurrentHashMap<>(initialState),
-        workflowId
+        new ConcurrentHashMap<>(workflowSession.state()),
+        event.id() + ":" + UUID.randomUUID()
     ).blockingGet();
+  }
 
-    log.debug("ADK session created, sessionId: {}, tenantId: {}",
-        session.id(), event.tenantId());
+  /**
+   * Deletes a session created by {@link #createCallSession}.
+   *
+   * @param session the call session
+   */
+  public void deleteCallSession(final Session session) {
 
-    return session;
+    deleteSession(new SessionLease(session, session.userId(), new AtomicLong()));
   }
 
   /**
@@ -102,6 +194,28 @@ public class AdkSessionManager {
         session.id(), updates.keySet());
   }
 
+  /**
+   * Returns the number of live workflow sessions.
+   *
+   * @return live session count
+   */
+  public int liveSessionCount() {
+
+    return liveSessions.size();
+  }
+
+  /**
+   * Returns the estimated size of all live workflow sessions.
+   *
+   * @return estimated bytes held by live sessions
+   */
+  public long liveSessionBytes() {
+
+    return liveSessions.values().stream()
+        .mapToLong(lease -> lease.bytes().get())
+        .sum();
+  }
+
   /**
    * Returns the underlying session service for use with InMemoryRunner.
    *
@@ -111,4 +225,106 @@ public class AdkSessionManager {
     return sessionService;
   }
 
+  private SessionLease createLease(final Event event) {
+
+    log.info("Creating ADK session, eventId: {}, tenantId: {}", event.id(), event.tenantId());
+
+    final ConcurrentMap<String, Object> initialState = initialState(event);
+
+    Session session = sessionService.createSession(
+        APP_NAME,
+        event.tenantId(),
+        initialState,
+        event.id()
+    ).blockingGet();
+
+    final long initialBytes = JsonUtils.toJson(initialState)
+        .map(String::length)
+        .orElse(0);
+
+    log.debug("ADK session created, sessionId: {}, tenantId: {}",
+        session.id(), event.tenantId());
+
+    return new SessionLease(session, event.tenantId(), new AtomicLong(initialBytes));
+  }
+
+  private ConcurrentMap<String, Object> initialState(final Event event) {
+
+    ConcurrentMap<String, Object> initialState = new ConcurrentHashMap<>();
+
+    initialState.put("event_id", event.id());
+    initialState.put("event_type", event.eventType());
+    initialState.put("event_source", event.source());
+    initialState.put("event_payload", event.payload());
+    initialState.put("workflow_status", "PLANNING");
+
+    if (event.category() != null) {
+
+      initialState.put("category", event.category());
+    }
+
+    if (event.priority() != null) {
+
+      initialState.put("priority", event.priority());
+    }
+
+    return initialState;
+  }
+
+  private void deleteSession(final SessionLease lease) {
+
+    try {
+
+      sessionService.deleteSession(APP_NAME, lease.tenantId(), lease.session().id())
+          .blockingAwait();
+
+    } catch (final Exception e) {
+
+      log.warn("Failed to delete ADK session, sessionId: {}, error: {}",
+          lease.session().id(), e.getMessage());
+    }
+  }
+
+  /**
+   * Tracks a live workflow session together with its owner and estimated size.
+   */
+  private static final class SessionLease {
+
+    private final Session session;
+
+    private final String tenantId;
+
+    private final AtomicLong bytes;
+
+    private volatile long lastAccessedAt;
+
+    private SessionLease(final Session session, final String tenantId, final AtomicLong bytes) {
+
+      this.session = session;
+      this.tenantId = tenantId;
+      this.bytes = bytes;
+      this.lastAccessedAt = System.currentTimeMillis();
+    }
+
+    private Session session() {
+      return session;
+    }
+
+    private String tenantId() {
+      return tenantId;
+    }
+
+    private AtomicLong bytes() {
+      return bytes;
+    }
+
+    private long lastAccessedAt() {
+      return lastAccessedAt;
+    }
+
+    private void touch() {
+      this.lastAccessedAt = System.currentTimeMillis();
+    }
+  }
+
 }
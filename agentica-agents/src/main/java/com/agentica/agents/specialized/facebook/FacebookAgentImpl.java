@@ -1,6 +1,7 @@
 package com.agentica.agents.specialized.facebook;
 
-import com.agentica.agents.config.AdkConfig;
+import com.agentica.agents.config.LocalLlmConfig;
+import com.agentica.agents.model.ModelResolver;
 import com.google.adk.agents.LlmAgent;
 import com.google.adk.tools.mcp.McpToolset;
 import com.google.adk.tools.mcp.StdioServerParameters;
@@ -54,7 +55,9 @@ public class FacebookAgentImpl implements FacebookAgent {
       "delete_comment"
   );
 
-  private final AdkConfig adkConfig;
+  private final ModelResolver modelResolver;
+
+  private final LocalLlmConfig localLlmConfig;
 
   @Value("${agentica.mcp.facebook.server-path:}")
   private String facebookMcpServerPath;
@@ -75,6 +78,15 @@ public class FacebookAgentImpl implements FacebookAgent {
   @PostConstruct
   public void init() {
 
+    if (modelResolver.isLocal()) {
+
+      log.info("Local model backend selected, initializing FacebookAgent with simulated tools");
+
+      this.agent = buildAgent(SimulatedFacebookTool.commentTools(localLlmConfig.getToolLatencyMs()));
+
+      return;
+    }
+
     if (facebookMcpServerPath == null || facebookMcpServerPath.isBlank()) {
 
       log.warn("Facebook MCP server path not configured, skipping FacebookAgent initialization");
@@ -121,15 +133,19 @@ public class FacebookAgentImpl implements FacebookAgent {
 
     log.info("McpToolset created with tool filter: {}", COMMENT_TOOLS);
 
-    this.agent = LlmAgent.builder()
+    this.agent = buildAgent(List.of(mcpToolset));
+
+    log.info("FacebookAgent initialized successfully with MCP toolset");
+  }
+
+  private LlmAgent buildAgent(final List<?> tools) {
+
+    return modelResolver.withModel(LlmAgent.builder(), "facebook_agent")
         .name("facebook_agent")
         .description("Handles Facebook comment interactions: reply, get, filter, delete")
-        .model(adkConfig.getDefaultModel())
         .instruction(FACEBOOK_INSTRUCTION)
-        .tools(List.of(mcpToolset))
+        .tools(tools)
         .build();
-
-    log.info("FacebookAgent initialized successfully with MCP toolset");
   }
 
   @PreDestroy
@@ -0,0 +1,92 @@
+package com.agentica.agents.specialized.facebook;
+
+import com.google.adk.tools.BaseTool;
+import com.google.adk.tools.ToolContext;
+import com.google.genai.types.FunctionDeclaration;
+import com.google.genai.types.Schema;
+import io.reactivex.rxjava3.core.Single;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stand-in for a Facebook MCP tool used with the local model backend.
+ * Accepts the same arguments as the MCP tool and answers with a successful result
+ * after a fixed delay, without calling the Graph API.
+ */
+@Slf4j
+public class SimulatedFacebookTool extends BaseTool {
+
+  private final List<String> parameters;
+
+  private final long latencyMs;
+
+  private SimulatedFacebookTool(final String name, final String description,
+      final List<String> parameters, final long latencyMs) {
+
+    super(name, description);
+
+    this.parameters = parameters;
+    this.latencyMs = latencyMs;
+  }
+
+  /**
+   * Creates the simulated comment tools.
+   *
+   * @param latencyMs simulated latency per tool call
+   * @return the simulated tools
+   */
+  public static List<BaseTool> commentTools(final long latencyMs) {
+
+    return List.of(
+        new SimulatedFacebookTool("reply_to_comment", "Reply to a comment on a post",
+            List.of("post_id", "comment_id", "message"), latencyMs),
+        new SimulatedFacebookTool("get_post_comments", "Retrieve comments on a post",
+            List.of("post_id"), latencyMs),
+        new SimulatedFacebookTool("filter_negative_comments", "Identify negative comments on a post",
+            List.of("post_id"), latencyMs),
+        new SimulatedFacebookTool("delete_comment", "Delete a comment",
+            List.of("comment_id"), latencyMs)
+    );
+  }
+
+  @Override
+  public Optional<FunctionDeclaration> declaration() {
+
+    final Map<String, Schema> properties = new LinkedHashMap<>();
+
+    parameters.forEach(parameter -> properties.put(parameter,
+        Schema.builder().type("STRING").build()));
+
+    return Optional.of(FunctionDeclaration.builder()
+        .name(name())
+        .description(description())
+        .parameters(Schema.builder()
+            .type("OBJECT")
+            .properties(properties)
+            .required(parameters)
+            .build())
+        .build());
+  }
+
+  @Override
+  public Single<Map<String, Object>> runAsync(final Map<String, Object> args,
+      final ToolContext toolContext) {
+
+    log.debug("Simulated Facebook tool called, tool: {}, args: {}", name(), args);
+
+    final Map<String, Object> result = new LinkedHashMap<>();
+
+    result.put("success", true);
+    result.put("id", UUID.randomUUID().toString());
+    result.put("simulated", true);
+
+    return Single.timer(latencyMs, TimeUnit.MILLISECONDS)
+        .map(tick -> result);
+  }
+
+}
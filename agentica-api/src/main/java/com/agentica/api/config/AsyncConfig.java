@@ -1,8 +1,10 @@
 package com.agentica.api.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -23,16 +25,19 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * Runs event filtering and workflow execution on virtual threads. Agent nodes and LLM
+   * calls are asynchronous, so a waiting workflow only parks its virtual thread and
+   * concurrency is capped by the limit below instead of a platform thread pool.
+   */
   @Bean(name = "eventProcessorExecutor")
-  public Executor eventProcessorExecutor() {
+  public Executor eventProcessorExecutor(
+      @Value("${agentica.workflow.max-concurrent:10000}") final int maxConcurrent) {
 
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-processor-");
 
-    executor.setCorePoolSize(10);
-    executor.setMaxPoolSize(20);
-    executor.setQueueCapacity(500);
-    executor.setThreadNamePrefix("event-processor-");
-    executor.initialize();
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(maxConcurrent);
 
     return executor;
   }
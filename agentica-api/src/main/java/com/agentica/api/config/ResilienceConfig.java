@@ -0,0 +1,47 @@
+package com.agentica.api.config;
+
+import com.agentica.core.resilience.CircuitBreakerRegistry;
+import com.agentica.core.resilience.CircuitBreakerSettings;
+import com.agentica.core.resilience.CircuitState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Circuit breakers for the model provider, MCP toolsets and the Graph API. They live in
+ * core so every module can guard its own dependency against the same registry.
+ */
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "agentica.circuit-breaker")
+  public CircuitBreakerSettings circuitBreakerSettings() {
+
+    return new CircuitBreakerSettings();
+  }
+
+  @Bean
+  public CircuitBreakerRegistry circuitBreakerRegistry(final CircuitBreakerSettings settings) {
+
+    final CircuitBreakerRegistry registry = new CircuitBreakerRegistry(settings);
+
+    registry.onStateChange(snapshot -> {
+
+      if (snapshot.state() == CircuitState.CLOSED) {
+
+        log.info("Circuit closed, name: {}", snapshot.name());
+
+      } else {
+
+        log.warn("Circuit state changed, name: {}, state: {}, failureRate: {}, retryAt: {}",
+            snapshot.name(), snapshot.state(), snapshot.failureRate(), snapshot.retryAt());
+      }
+    });
+
+    return registry;
+  }
+
+}
@@ -0,0 +1,39 @@
+package com.agentica.api.config;
+
+import com.agentica.core.trace.InMemorySpanExporter;
+import com.agentica.core.trace.SpanExporter;
+import com.agentica.core.trace.TraceSettings;
+import com.agentica.core.trace.Tracer;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracer following every event from ingestion to its last action. Finished spans go to
+ * every {@link SpanExporter} bean, so another tracing backend is plugged in by declaring
+ * its exporter as a bean.
+ */
+@Configuration
+public class TracingConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "agentica.tracing")
+  public TraceSettings traceSettings() {
+
+    return new TraceSettings();
+  }
+
+  @Bean
+  public InMemorySpanExporter inMemorySpanExporter(final TraceSettings settings) {
+
+    return new InMemorySpanExporter(settings.getMemoryTraces());
+  }
+
+  @Bean
+  public Tracer tracer(final TraceSettings settings, final List<SpanExporter> exporters) {
+
+    return new Tracer(settings, exporters);
+  }
+
+}
@@ -9,13 +9,20 @@ import com.agentica.api.dto.response.DebugStateResponse.GraphInfo;
 import com.agentica.api.dto.response.DebugStateResponse.GraphNode;
 import com.agentica.api.dto.response.DebugStateResponse.NodeExecutionInfo;
 import com.agentica.api.dto.response.DebugStateResponse.ReplanInfoDto;
+import com.agentica.core.trace.InMemorySpanExporter;
+import com.agentica.core.workflow.EdgeType;
 import com.agentica.core.workflow.WorkflowEdge;
 import com.agentica.core.workflow.WorkflowNode;
 import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.bus.EventBusStats;
+import com.agentica.workflows.bus.WorkflowEventBus;
+import com.agentica.workflows.debug.DebugStream;
+import com.agentica.workflows.debug.DebugSubscription;
 import com.agentica.workflows.debug.ExecutionSnapshot;
 import com.agentica.workflows.debug.ExecutionStore;
 import com.agentica.workflows.debug.NodeExecution;
 import com.agentica.workflows.registry.WorkflowRegistry;
+import com.agentica.workflows.trace.TraceWaterfall;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,12 +30,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -39,6 +53,11 @@ import java.util.Optional;
 /**
  * REST controller for the debugging dashboard.
  * Provides real-time execution state for the custom debug UI.
+ *
+ * <p>State, execution and history responses carry an ETag derived from the execution and
+ * history versions they were built from. A matching If-None-Match is answered with 304
+ * before anything is looked up beyond those versions, and built responses are memoized
+ * per version, so repeated polls of unchanged data cost almost nothing.
  */
 @Slf4j
 @RestController
@@ -51,12 +70,25 @@ public class DebugController {
 
     private final WorkflowRegistry workflowRegistry;
 
+    private final WorkflowEventBus workflowEventBus;
+
+    private final DebugStream debugStream;
+
+    private final InMemorySpanExporter spanExporter;
+
+    private final DebugResponseCache<DebugStateResponse> stateCache =
+        new DebugResponseCache<>(256);
+
+    private final DebugResponseCache<List<ExecutionSummary>> historyCache =
+        new DebugResponseCache<>(64);
+
     @GetMapping("/state")
     @Operation(
         summary = "Get current debug state",
         description = "Returns the current execution state for the debugging dashboard"
     )
-    public ResponseEntity<DebugStateResponse> getCurrentState() {
+    public ResponseEntity<DebugStateResponse> getCurrentState(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.debug("Getting current debug state");
 
@@ -67,9 +99,19 @@ public class DebugController {
         WorkflowPlan plan = current != null ? current.plan()
             : workflowRegistry.getLatestPlan().orElse(null);
 
-        List<ExecutionSnapshot> history = executionStore.getHistory();
+        long historyVersion = executionStore.getHistoryVersion();
+
+        String etag = current != null
+            ? etag("state", current.eventId(), current.version(), historyVersion)
+            : etag("idle", plan != null ? plan.workflowId() : "none",
+                plan != null ? plan.version() : 0, historyVersion);
 
-        DebugStateResponse response = DebugStateResponse.builder()
+        if (notModified(ifNoneMatch, etag)) {
+
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        DebugStateResponse response = stateCache.get(etag, () -> DebugStateResponse.builder()
             .hasActiveExecution(current != null)
             .currentExecution(ExecutionInfo.from(current))
             .triggerEvent(current != null ? EventInfo.from(current.triggerEvent()) : null)
@@ -77,28 +119,82 @@ public class DebugController {
             .activeNodeId(current != null ? current.activeNodeId() : null)
             .timeline(buildTimeline(current))
             .replans(buildReplans(current))
-            .recentHistory(buildHistorySummary(history, 10))
+            .recentHistory(cachedHistory(null, 10, historyVersion))
             .timestamp(Instant.now())
-            .build();
+            .build());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/history")
     @Operation(
         summary = "Get execution history",
-        description = "Returns a list of recent workflow executions"
+        description = "Returns a list of recent workflow executions, optionally of one tenant"
     )
     public ResponseEntity<List<ExecutionSummary>> getHistory(
-        @RequestParam(defaultValue = "50") int limit) {
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(required = false) String tenantId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.debug("Getting execution history, limit: {}, tenantId: {}", limit, tenantId);
 
-        log.debug("Getting execution history, limit: {}", limit);
+        long historyVersion = executionStore.getHistoryVersion();
 
-        List<ExecutionSnapshot> history = executionStore.getHistory();
+        String etag = etag("history", tenantId, limit, historyVersion);
 
-        List<ExecutionSummary> summaries = buildHistorySummary(history, limit);
+        if (notModified(ifNoneMatch, etag)) {
 
-        return ResponseEntity.ok(summaries);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        List<ExecutionSummary> summaries = cachedHistory(tenantId, limit, historyVersion);
+
+        return ResponseEntity.ok().eTag(etag).body(summaries);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream execution deltas",
+        description = "Pushes node, replan and completion deltas as Server-Sent Events, "
+            + "optionally of one execution; a RESYNC event means deltas were dropped and the "
+            + "full state should be reloaded"
+    )
+    public ResponseEntity<SseEmitter> streamDeltas(
+        @RequestParam(required = false) String eventId) {
+
+        Optional<DebugSubscription> subscriptionOpt = debugStream.subscribe(eventId);
+
+        if (subscriptionOpt.isEmpty()) {
+
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        DebugSubscription subscription = subscriptionOpt.get();
+
+        SseEmitter emitter = new SseEmitter(debugStream.timeoutMs());
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        Thread.ofVirtual()
+            .name("debug-stream")
+            .start(() -> pump(subscription, emitter));
+
+        log.debug("Opened debug stream, eventId: {}", eventId);
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    @GetMapping("/event-bus")
+    @Operation(
+        summary = "Get event bus statistics",
+        description = "Returns pending, dispatched and dropped workflow events and the longest "
+            + "delivery lag of the asynchronous workflow event bus"
+    )
+    public ResponseEntity<EventBusStats> getEventBusStats() {
+
+        return ResponseEntity.ok(workflowEventBus.stats());
     }
 
     @GetMapping("/{eventId}")
@@ -106,7 +202,8 @@ public class DebugController {
         summary = "Get execution details",
         description = "Returns full execution details for a specific event"
     )
-    public ResponseEntity<DebugStateResponse> getExecution(@PathVariable String eventId) {
+    public ResponseEntity<DebugStateResponse> getExecution(@PathVariable String eventId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.debug("Getting execution details, eventId: {}", eventId);
 
@@ -119,7 +216,14 @@ public class DebugController {
 
         ExecutionSnapshot snapshot = snapshotOpt.get();
 
-        DebugStateResponse response = DebugStateResponse.builder()
+        String etag = etag("execution", eventId, snapshot.version());
+
+        if (notModified(ifNoneMatch, etag)) {
+
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        DebugStateResponse response = stateCache.get(etag, () -> DebugStateResponse.builder()
             .hasActiveExecution(snapshot.state() == ExecutionSnapshot.ExecutionState.RUNNING)
             .currentExecution(ExecutionInfo.from(snapshot))
             .triggerEvent(EventInfo.from(snapshot.triggerEvent()))
@@ -129,9 +233,127 @@ public class DebugController {
             .replans(buildReplans(snapshot))
             .recentHistory(List.of())
             .timestamp(Instant.now())
-            .build();
+            .build());
+
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/{eventId}/trace")
+    @Operation(
+        summary = "Get event trace",
+        description = "Returns the spans of an event from ingestion to its last action as a "
+            + "waterfall, including spans of a trace that is still running"
+    )
+    public ResponseEntity<TraceWaterfall> getTrace(@PathVariable String eventId) {
+
+        log.debug("Getting event trace, eventId: {}", eventId);
+
+        TraceWaterfall waterfall = TraceWaterfall.of(eventId, spanExporter.spans(eventId));
+
+        if (waterfall.rows().isEmpty()) {
+
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(waterfall);
+    }
+
+    /**
+     * Sends a subscription's frames to its emitter until either side closes, with a
+     * heartbeat comment whenever the stream is idle.
+     */
+    private void pump(DebugSubscription subscription, SseEmitter emitter) {
+
+        try {
+
+            while (!subscription.isClosed()) {
+
+                DebugSubscription.Frame frame = subscription.next(debugStream.heartbeatMs());
+
+                if (frame == null) {
+
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+
+                    continue;
+                }
+
+                emitter.send(SseEmitter.event()
+                    .id(Long.toString(frame.sequence()))
+                    .name(frame.name())
+                    .data(frame.data(), MediaType.APPLICATION_JSON));
+            }
+
+            emitter.complete();
+
+        } catch (IOException | IllegalStateException e) {
+
+            log.debug("Debug stream closed by client, error: {}", e.getMessage());
+
+        } catch (InterruptedException e) {
 
-        return ResponseEntity.ok(response);
+            Thread.currentThread().interrupt();
+
+            emitter.complete();
+
+        } finally {
+
+            subscription.close();
+        }
+    }
+
+    /**
+     * Returns history summaries, built once per history version.
+     */
+    private List<ExecutionSummary> cachedHistory(String tenantId, int limit, long historyVersion) {
+
+        return historyCache.get(etag("history", tenantId, limit, historyVersion), () -> {
+
+            List<ExecutionSnapshot> history = tenantId != null
+                ? executionStore.getHistory(tenantId, limit)
+                : executionStore.getHistory(limit);
+
+            return buildHistorySummary(history, limit);
+        });
+    }
+
+    private static String etag(Object... parts) {
+
+        StringBuilder etag = new StringBuilder("\"");
+
+        for (Object part : parts) {
+
+            if (etag.length() > 1) {
+
+                etag.append('-');
+            }
+
+            etag.append(part);
+        }
+
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Returns whether an If-None-Match header matches the given entity tag.
+     */
+    private static boolean notModified(String ifNoneMatch, String etag) {
+
+        if (ifNoneMatch == null) {
+
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+
+            String tag = candidate.trim();
+
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private GraphInfo buildGraphInfo(WorkflowPlan plan, ExecutionSnapshot snapshot) {
@@ -186,8 +408,33 @@ public class DebugController {
         // Add all workflow edges (except START edges since orchestrator handles entry point)
         for (WorkflowEdge edge : plan.edges()) {
 
+            boolean fromStart = "START".equalsIgnoreCase(edge.from());
+
+            // Parallel branches are drawn as a fork from the source, or from the orchestrator
+            // when the fan-out starts the workflow, and a join at the target
+            if (edge.type() == EdgeType.PARALLEL && edge.branches() != null) {
+
+                for (String branch : edge.branches()) {
+
+                    edges.add(GraphEdge.builder()
+                        .from(fromStart ? "__orchestrator__" : edge.from())
+                        .to(branch)
+                        .type(EdgeType.PARALLEL.name())
+                        .build());
+
+                    edges.add(GraphEdge.builder()
+                        .from(branch)
+                        .to(edge.to())
+                        .type(EdgeType.PARALLEL.name())
+                        .label("join")
+                        .build());
+                }
+
+                continue;
+            }
+
             // Skip START edges - orchestrator already connects to entry point
-            if ("START".equals(edge.from())) {
+            if (fromStart) {
 
                 continue;
             }
@@ -0,0 +1,54 @@
+package com.agentica.api.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least-recently-used cache of debug responses.
+ * Keys include the version of the data a response was built from, so entries never go
+ * stale; they are only evicted once they stop being requested.
+ */
+class DebugResponseCache<V> {
+
+    private final Map<String, V> entries;
+
+    DebugResponseCache(int capacity) {
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for the key, building and caching it if absent.
+     * Responses are built outside the lock; concurrent misses may build the same one twice.
+     */
+    V get(String key, Supplier<V> builder) {
+
+        synchronized (entries) {
+
+            V cached = entries.get(key);
+
+            if (cached != null) {
+
+                return cached;
+            }
+        }
+
+        V built = builder.get();
+
+        synchronized (entries) {
+
+            entries.putIfAbsent(key, built);
+        }
+
+        return built;
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.agentica.api.controller;
 
+import com.agentica.core.resilience.CircuitBreakerRegistry;
+import com.agentica.workflows.retry.DeferredRetryQueue;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +12,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -16,19 +20,35 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api/v1/health")
+@RequiredArgsConstructor
 @Tag(name = "Health", description = "Health check endpoints")
 public class HealthController {
 
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    private final DeferredRetryQueue deferredRetryQueue;
+
     @GetMapping
     @Operation(summary = "Health check", description = "Returns the health status of the application")
     public ResponseEntity<Map<String, Object>> health() {
         return ResponseEntity.ok(Map.of(
-                "status", "UP",
+                "status", circuitBreakers.anyOpen() ? "DEGRADED" : "UP",
                 "timestamp", Instant.now().toString(),
                 "application", "Agentica"
         ));
     }
 
+    @GetMapping("/circuits")
+    @Operation(summary = "Circuit breakers", description = "Returns the state of each dependency circuit breaker and the deferred workflow queue")
+    public ResponseEntity<Map<String, Object>> circuits() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("circuits", circuitBreakers.snapshots());
+        body.put("deferredWorkflows", deferredRetryQueue.size());
+        body.put("nextRetryAt", deferredRetryQueue.nextDueAt());
+        body.put("timestamp", Instant.now().toString());
+        return ResponseEntity.ok(body);
+    }
+
     @GetMapping("/ready")
     @Operation(summary = "Readiness check", description = "Returns whether the application is ready to serve traffic")
     public ResponseEntity<Map<String, Object>> ready() {
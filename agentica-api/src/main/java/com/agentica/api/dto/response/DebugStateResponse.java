@@ -177,6 +177,17 @@ public record DebugStateResponse(
 
         long durationMs,
 
+        /**
+         * CPU time of the node's own work, such as building its prompt; null if it could not
+         * be measured, as on a virtual thread.
+         */
+        Long cpuNanos,
+
+        /**
+         * Bytes allocated by the node's own work; null if it could not be measured.
+         */
+        Long allocatedBytes,
+
         Object output,
 
         String escalationReason,
@@ -210,6 +221,10 @@ public record DebugStateResponse(
                 .startedAt(execution.startedAt())
                 .completedAt(execution.completedAt())
                 .durationMs(execution.durationMs())
+                .cpuNanos(execution.cpuNanos() >= 0 ? execution.cpuNanos() : null)
+                .allocatedBytes(execution.allocatedBytes() >= 0
+                    ? execution.allocatedBytes()
+                    : null)
                 .output(execution.output())
                 .escalationReason(execution.escalationReason())
                 .escalationContext(execution.escalationContext())
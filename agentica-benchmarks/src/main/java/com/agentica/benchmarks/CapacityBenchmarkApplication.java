@@ -0,0 +1,49 @@
+package com.agentica.benchmarks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the workflow capacity benchmark in its own process.
+ *
+ * <p>Starts the workflow and agent beans without a web server under the {@code benchmark}
+ * profile, which selects the local model backend and disables the journal and the archive,
+ * runs {@link WorkflowCapacityBenchmark} once and exits. The number of workflows is read
+ * from {@code agentica.benchmark.capacity.workflows}:
+ *
+ * <pre>
+ * java -cp agentica-benchmarks/target/benchmarks.jar \
+ *     com.agentica.benchmarks.CapacityBenchmarkApplication \
+ *     --agentica.benchmark.capacity.workflows=1000
+ * </pre>
+ */
+@Slf4j
+@SpringBootApplication(scanBasePackages = "com.agentica")
+@ConfigurationPropertiesScan(basePackages = "com.agentica")
+public class CapacityBenchmarkApplication {
+
+  private static final int DEFAULT_WORKFLOWS = 1000;
+
+  public static void main(final String[] args) {
+
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(CapacityBenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("benchmark")
+            .run(args)) {
+
+      final int workflows = context.getEnvironment().getProperty(
+          "agentica.benchmark.capacity.workflows", Integer.class, DEFAULT_WORKFLOWS);
+
+      final CapacityReport report = context.getBean(WorkflowCapacityBenchmark.class)
+          .run(workflows);
+
+      log.info("Capacity benchmark report: {}", report);
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.agentica.benchmarks;
+
+import lombok.Builder;
+
+/**
+ * Result of a workflow capacity benchmark run.
+ */
+@Builder(toBuilder = true)
+public record CapacityReport(
+
+    /**
+     * Number of workflows started.
+     */
+    int workflows,
+
+    /**
+     * Workflows that completed successfully.
+     */
+    int completed,
+
+    /**
+     * Workflows that aborted or failed.
+     */
+    int failed,
+
+    /**
+     * Highest number of workflows in flight at the same time.
+     */
+    int peakConcurrent,
+
+    /**
+     * Wall-clock duration of the run.
+     */
+    long durationMs,
+
+    /**
+     * Used heap after a GC before the run.
+     */
+    long baselineHeapBytes,
+
+    /**
+     * Highest used heap sampled during the run.
+     */
+    long peakHeapBytes,
+
+    /**
+     * Heap held per concurrent workflow at the peak.
+     */
+    long heapBytesPerWorkflow,
+
+    /**
+     * Concurrent workflows that fit in one GB of heap at that footprint.
+     */
+    long workflowsPerGb,
+
+    /**
+     * Highest number of live platform threads sampled during the run.
+     */
+    int peakPlatformThreads
+
+) {
+}
@@ -0,0 +1,217 @@
+package com.agentica.benchmarks;
+
+import static org.bsc.langgraph4j.StateGraph.START;
+
+import com.agentica.agents.config.ReplanPolicyConfig;
+import com.agentica.agents.orchestrator.ReplanPolicy;
+import com.agentica.agents.registry.AgentNodeRegistry;
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.enums.EventStatus;
+import com.agentica.core.state.AgenticaState;
+import com.agentica.core.trace.TraceSettings;
+import com.agentica.core.trace.Tracer;
+import com.agentica.core.workflow.EdgeType;
+import com.agentica.core.workflow.WorkflowEdge;
+import com.agentica.core.workflow.WorkflowNode;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.builder.WorkflowBuilder;
+import com.agentica.workflows.engine.NativeGraph;
+import com.agentica.workflows.engine.WorkflowStep;
+import com.agentica.workflows.registry.WorkflowRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.bsc.langgraph4j.CompiledGraph;
+import org.bsc.langgraph4j.GraphStateException;
+import org.bsc.langgraph4j.NodeOutput;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares what each workflow engine adds on top of the agents it runs.
+ *
+ * <p>Builds a synthetic chain of the given length through {@link WorkflowBuilder}, with the
+ * same escalation routing a planned workflow gets but node actions that only record an
+ * output. The build benchmarks compile the plan, as the executor does for each plan
+ * version; the run benchmarks drain a prebuilt graph. Run with {@code -prof gc} for the
+ * allocation per run:
+ *
+ * <pre>
+ * java -jar agentica-benchmarks/target/benchmarks.jar EngineOverheadBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineOverheadBenchmark {
+
+  private static final String OUTPUT = "Benchmark node output";
+
+  private static final Function<WorkflowNode, AsyncNodeAction<AgenticaState>> NODE_ACTIONS =
+      nodeActions();
+
+  /**
+   * Nodes in the synthetic chain.
+   */
+  @Param({"5", "20"})
+  private int nodes;
+
+  private WorkflowBuilder workflowBuilder;
+
+  private WorkflowPlan plan;
+
+  private Map<String, Object> input;
+
+  private CompiledGraph<AgenticaState> langGraph;
+
+  private NativeGraph nativeGraph;
+
+  @Setup
+  public void setUp() throws GraphStateException {
+
+    final TraceSettings traceSettings = new TraceSettings();
+
+    traceSettings.setEnabled(false);
+
+    workflowBuilder = new WorkflowBuilder(
+        new AgentNodeRegistry(List.of()),
+        null,
+        new ReplanPolicy(new ReplanPolicyConfig(), new SimpleMeterRegistry()),
+        new WorkflowRegistry(),
+        new Tracer(traceSettings, List.of()));
+
+    plan = chain(nodes);
+
+    input = AgenticaState.forEvent(syntheticEvent(), plan).data();
+
+    langGraph = workflowBuilder.compile(plan, NODE_ACTIONS);
+
+    nativeGraph = workflowBuilder.compileNative(plan, NODE_ACTIONS);
+  }
+
+  @Benchmark
+  public CompiledGraph<AgenticaState> langGraphBuild() throws GraphStateException {
+
+    return workflowBuilder.compile(plan, NODE_ACTIONS);
+  }
+
+  @Benchmark
+  public NativeGraph nativeBuild() throws GraphStateException {
+
+    return workflowBuilder.compileNative(plan, NODE_ACTIONS);
+  }
+
+  @Benchmark
+  public void langGraphRun(final Blackhole blackhole) {
+
+    for (final NodeOutput<AgenticaState> output : langGraph.stream(input)) {
+
+      blackhole.consume(output);
+    }
+  }
+
+  @Benchmark
+  public void nativeRun(final Blackhole blackhole) {
+
+    for (final WorkflowStep step : nativeGraph.stream(input)) {
+
+      blackhole.consume(step);
+    }
+  }
+
+  /**
+   * Node actions that record a fixed output, as an agent node does on success.
+   */
+  private static Function<WorkflowNode, AsyncNodeAction<AgenticaState>> nodeActions() {
+
+    return node -> state -> {
+
+      final Map<String, Object> updates = new HashMap<>();
+
+      updates.put(AgenticaState.KEY_CURRENT_NODE_ID, node.id());
+      updates.put(AgenticaState.KEY_NEEDS_REPLAN, false);
+      updates.put(AgenticaState.KEY_NODE_OUTPUTS, state.nodeOutputs().with(node.id(), OUTPUT));
+
+      return CompletableFuture.completedFuture(updates);
+    };
+  }
+
+  private static WorkflowPlan chain(final int length) {
+
+    final List<WorkflowNode> nodes = new ArrayList<>();
+
+    final List<WorkflowEdge> edges = new ArrayList<>();
+
+    String previous = START;
+
+    for (int i = 0; i < length; i++) {
+
+      final String id = "bench_node_" + i;
+
+      nodes.add(WorkflowNode.builder()
+          .id(id)
+          .agentType(AgentType.SUPPORT)
+          .description("Benchmark node " + i)
+          .build());
+
+      edges.add(WorkflowEdge.builder()
+          .from(previous)
+          .to(id)
+          .type(EdgeType.DIRECT)
+          .build());
+
+      previous = id;
+    }
+
+    edges.add(WorkflowEdge.builder()
+        .from(previous)
+        .to("END")
+        .type(EdgeType.DIRECT)
+        .build());
+
+    return WorkflowPlan.builder()
+        .workflowId("bench-engine-" + length)
+        .workflowName("engine_overhead")
+        .description("Synthetic chain for engine overhead")
+        .nodes(nodes)
+        .edges(edges)
+        .entryPoint(nodes.getFirst().id())
+        .version(1)
+        .build();
+  }
+
+  private static Event syntheticEvent() {
+
+    return Event.builder()
+        .id("bench-engine")
+        .tenantId("benchmark")
+        .eventType("benchmark.engine")
+        .source("benchmark")
+        .payload(Map.of())
+        .status(EventStatus.ACTIONABLE)
+        .receivedAt(Instant.now())
+        .build();
+  }
+
+}
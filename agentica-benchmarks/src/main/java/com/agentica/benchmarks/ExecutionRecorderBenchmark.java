@@ -0,0 +1,109 @@
+package com.agentica.benchmarks;
+
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.resource.ResourceUsage;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.debug.ExecutionRecorder;
+import com.agentica.workflows.debug.ExecutionSnapshot;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what recording an execution for the debug UI costs as executions grow.
+ *
+ * <p>{@link #record} records a synthetic execution of {@code nodes} nodes, each getting the
+ * updates a real one does: a start, two agent executions and a completion. Divide its score
+ * by {@value #UPDATES_PER_NODE} times {@code nodes} for the cost per update; a cost that
+ * stays flat across the node counts means updates do not slow down as the execution grows.
+ * {@link #snapshot} builds the snapshot of a finished execution of the same length:
+ *
+ * <pre>
+ * java -jar agentica-benchmarks/target/benchmarks.jar ExecutionRecorderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionRecorderBenchmark {
+
+  private static final int UPDATES_PER_NODE = 4;
+
+  private static final WorkflowPlan PLAN = WorkflowPlan.builder()
+      .workflowId("bench-recorder")
+      .workflowName("recorder_benchmark")
+      .description("Synthetic execution for recorder benchmark")
+      .nodes(List.of())
+      .edges(List.of())
+      .entryPoint("START")
+      .version(1)
+      .build();
+
+  /**
+   * Nodes in the synthetic execution.
+   */
+  @Param({"16", "128", "1024"})
+  private int nodes;
+
+  private ExecutionRecorder finished;
+
+  @Setup
+  public void setUp() {
+
+    finished = record();
+
+    finished.complete(ExecutionSnapshot.ExecutionState.COMPLETED, Instant.now());
+  }
+
+  /**
+   * Records every update of a {@code nodes} node execution.
+   */
+  @Benchmark
+  public ExecutionRecorder record() {
+
+    final ExecutionRecorder recorder = new ExecutionRecorder("bench-recorder", PLAN, null,
+        Instant.now());
+
+    for (int i = 0; i < nodes; i++) {
+
+      final String nodeId = "bench_node_" + i;
+
+      recorder.nodeStarted(nodeId, AgentType.SUPPORT, Instant.now());
+      recorder.addAgentExecution(nodeId, execution(nodeId));
+      recorder.addAgentExecution(nodeId, execution(nodeId));
+      recorder.nodeCompleted(nodeId, "output of " + nodeId, 1, ResourceUsage.ZERO,
+          Instant.now());
+    }
+
+    return recorder;
+  }
+
+  @Benchmark
+  public ExecutionSnapshot snapshot() {
+
+    return finished.snapshot();
+  }
+
+  private static AgentExecutionEvent execution(final String nodeId) {
+
+    return AgentExecutionEvent.llmRequestSent("bench-recorder", nodeId, AgentType.SUPPORT,
+        "support_agent", "Answer the customer", Map.of(), null);
+  }
+
+}
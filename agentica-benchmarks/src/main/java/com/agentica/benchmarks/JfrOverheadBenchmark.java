@@ -0,0 +1,99 @@
+package com.agentica.benchmarks;
+
+import com.agentica.core.jfr.NodeExecutionEvent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what Agentica's JFR events cost per event, with and without a recording.
+ *
+ * <p>Emits node execution events, which carry the most fields, the way the instrumented code
+ * does: begin, end, then fill the fields and commit only if the event should be committed.
+ * Without {@code recording} no recording enables the events; with it, an in-memory recording
+ * stores every event regardless of duration, which is the worst case of an always-on
+ * recording. Compared with the node, LLM and Graph API latencies in the milliseconds, both
+ * costs are expected to stay negligible:
+ *
+ * <pre>
+ * java -jar agentica-benchmarks/target/benchmarks.jar JfrOverheadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JfrOverheadBenchmark {
+
+  private static final List<String> NODE_IDS = List.of("bench_node_0", "bench_node_1",
+      "bench_node_2", "bench_node_3");
+
+  /**
+   * Whether an in-memory recording enables the events.
+   */
+  @Param({"false", "true"})
+  private boolean recording;
+
+  private Recording active;
+
+  private int emitted;
+
+  @Setup
+  public void setUp() {
+
+    if (!recording) {
+
+      return;
+    }
+
+    active = new Recording();
+
+    active.enable(NodeExecutionEvent.class).withoutThreshold().withoutStackTrace();
+    active.setToDisk(false);
+    active.start();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    if (active != null) {
+
+      active.close();
+
+      active = null;
+    }
+  }
+
+  @Benchmark
+  public void emit() {
+
+    final NodeExecutionEvent jfrEvent = new NodeExecutionEvent();
+
+    jfrEvent.begin();
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId("bench-jfr");
+      jfrEvent.setNodeId(NODE_IDS.get(emitted++ % NODE_IDS.size()));
+      jfrEvent.setAgentType("SUPPORT");
+      jfrEvent.setOutcome("success");
+      jfrEvent.commit();
+    }
+  }
+
+}
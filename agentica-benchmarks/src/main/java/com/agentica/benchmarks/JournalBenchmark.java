@@ -0,0 +1,291 @@
+package com.agentica.benchmarks;
+
+import com.agentica.common.util.JsonUtils;
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.enums.EventStatus;
+import com.agentica.core.event.workflow.WorkflowCompletedEvent.ExecutionStatus;
+import com.agentica.core.workflow.EdgeType;
+import com.agentica.core.workflow.WorkflowEdge;
+import com.agentica.core.workflow.WorkflowNode;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.journal.JournalEntry;
+import com.agentica.workflows.journal.JournalFile;
+import com.agentica.workflows.journal.RecoveredWorkflow;
+import com.agentica.workflows.journal.WorkflowJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures journal throughput, recovery time and compaction time.
+ *
+ * <p>Every journal lives in a temporary directory created for the run and deleted after
+ * it, never in the application's journal directory. {@link #append} journals one synthetic
+ * workflow: a start entry, one entry per completed node and a finish entry. The append
+ * journal is started afresh for each iteration. {@link #replay} reads and replays a journal
+ * of {@code workflows} workflows as on startup, every tenth of them left unfinished, and
+ * {@link #compact} rewrites the journal to those unfinished workflows. {@code fsync} only
+ * affects appends and compaction:
+ *
+ * <pre>
+ * java -jar agentica-benchmarks/target/benchmarks.jar JournalBenchmark
+ * </pre>
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+
+  private static final int INTERRUPTED_EVERY = 10;
+
+  private static final String OUTPUT = "The comment is a product question; reply with the "
+      + "availability of the requested color and a link to the product page.";
+
+  /**
+   * Whether every append is forced to the storage device.
+   */
+  @Param({"false", "true"})
+  private boolean fsync;
+
+  /**
+   * Completed nodes per workflow.
+   */
+  @Param({"5"})
+  private int nodes;
+
+  /**
+   * Workflows in the replayed journal.
+   */
+  @Param({"10000"})
+  private int workflows;
+
+  private final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
+
+  private Path directory;
+
+  private Path replayPath;
+
+  private List<JournalEntry> workflow;
+
+  private List<JournalEntry> compacted;
+
+  private JournalFile appendFile;
+
+  private JournalFile compactFile;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+
+    directory = Files.createTempDirectory("agentica-journal-bench");
+
+    replayPath = directory.resolve("replay.journal");
+
+    final WorkflowPlan plan = plan(nodes);
+
+    workflow = entries(1, plan);
+
+    try (JournalFile file = new JournalFile(replayPath, objectMapper, false)) {
+
+      for (int i = 0; i < workflows; i++) {
+
+        for (final JournalEntry entry : entries(i, plan)) {
+
+          file.append(entry);
+        }
+      }
+    }
+
+    compacted = new ArrayList<>();
+
+    replay().forEach((eventId, unfinished) -> compacted.addAll(unfinished.toEntries(eventId)));
+
+    compactFile = new JournalFile(directory.resolve("compact.journal"), objectMapper, fsync);
+  }
+
+  @Setup(Level.Iteration)
+  public void openAppendJournal() throws IOException {
+
+    appendFile = new JournalFile(directory.resolve("append.journal"), objectMapper, fsync);
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeAppendJournal() throws IOException {
+
+    appendFile.close();
+
+    Files.deleteIfExists(directory.resolve("append.journal"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+
+    compactFile.close();
+
+    delete(directory);
+  }
+
+  /**
+   * Journals one workflow of {@code nodes} completed nodes.
+   */
+  @Benchmark
+  public long append() throws IOException {
+
+    for (final JournalEntry entry : workflow) {
+
+      appendFile.append(entry);
+    }
+
+    return appendFile.size();
+  }
+
+  @Benchmark
+  public Map<String, RecoveredWorkflow> replay() throws IOException {
+
+    return WorkflowJournal.replay(JournalFile.read(replayPath, objectMapper));
+  }
+
+  @Benchmark
+  public long compact() throws IOException {
+
+    compactFile.rewrite(compacted);
+
+    return compactFile.size();
+  }
+
+  private static List<JournalEntry> entries(final int index, final WorkflowPlan plan) {
+
+    final String eventId = "bench-journal-" + index;
+
+    final List<JournalEntry> entries = new ArrayList<>();
+
+    entries.add(JournalEntry.builder()
+        .type(JournalEntry.EntryType.STARTED)
+        .eventId(eventId)
+        .timestamp(Instant.now())
+        .event(event(eventId, index))
+        .plan(plan)
+        .build());
+
+    for (final WorkflowNode node : plan.nodes()) {
+
+      entries.add(JournalEntry.builder()
+          .type(JournalEntry.EntryType.NODE_COMPLETED)
+          .eventId(eventId)
+          .timestamp(Instant.now())
+          .nodeId(node.id())
+          .output(OUTPUT)
+          .build());
+    }
+
+    if (index % INTERRUPTED_EVERY != 0) {
+
+      entries.add(JournalEntry.builder()
+          .type(JournalEntry.EntryType.FINISHED)
+          .eventId(eventId)
+          .timestamp(Instant.now())
+          .status(ExecutionStatus.COMPLETED)
+          .build());
+    }
+
+    return entries;
+  }
+
+  private static WorkflowPlan plan(final int length) {
+
+    final List<WorkflowNode> nodes = new ArrayList<>();
+
+    final List<WorkflowEdge> edges = new ArrayList<>();
+
+    String previous = "START";
+
+    for (int i = 0; i < length; i++) {
+
+      final String id = "bench_node_" + i;
+
+      nodes.add(WorkflowNode.builder()
+          .id(id)
+          .agentType(AgentType.SUPPORT)
+          .description("Benchmark node " + i)
+          .build());
+
+      edges.add(WorkflowEdge.builder().from(previous).to(id).type(EdgeType.DIRECT).build());
+
+      previous = id;
+    }
+
+    edges.add(WorkflowEdge.builder().from(previous).to("END").type(EdgeType.DIRECT).build());
+
+    return WorkflowPlan.builder()
+        .workflowId("bench-journal-" + length)
+        .workflowName("journal_benchmark")
+        .description("Synthetic chain for journal benchmark")
+        .nodes(nodes)
+        .edges(edges)
+        .entryPoint(nodes.getFirst().id())
+        .version(1)
+        .build();
+  }
+
+  private static Event event(final String eventId, final int index) {
+
+    return Event.builder()
+        .id(eventId)
+        .tenantId("benchmark")
+        .eventType("facebook.comment.new")
+        .source("facebook")
+        .payload(Map.of("commentId", "bench_comment_" + index, "message", "Is this in blue?"))
+        .status(EventStatus.PROCESSING)
+        .receivedAt(Instant.now())
+        .build();
+  }
+
+  private static void delete(final Path directory) {
+
+    if (directory == null) {
+
+      return;
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+
+      for (final Path file : files.toList()) {
+
+        Files.deleteIfExists(file);
+      }
+
+      Files.deleteIfExists(directory);
+
+    } catch (final IOException e) {
+
+      log.warn("Failed to delete benchmark journal, directory: {}, error: {}",
+          directory, e.getMessage());
+    }
+  }
+
+}
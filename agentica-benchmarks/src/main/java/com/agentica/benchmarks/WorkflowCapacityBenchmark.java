@@ -0,0 +1,245 @@
+package com.agentica.benchmarks;
+
+import com.agentica.agents.config.LlmCallConfig;
+import com.agentica.agents.metrics.LlmUsageRecorder;
+import com.agentica.agents.model.ModelResolver;
+import com.agentica.agents.orchestrator.OrchestratorAgent;
+import com.agentica.agents.session.AdkSessionManager;
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.EventStatus;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.executor.DynamicWorkflowExecutor;
+import com.agentica.workflows.executor.ExecutionResult;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how many concurrent workflows fit in a GB of heap.
+ *
+ * <p>Starts the given number of synthetic Facebook comment workflows at once, each on its
+ * own virtual thread, and runs them through planning and execution exactly like
+ * {@link com.agentica.workflows.event.ActionableEventListener}, minus persistence. Used heap
+ * and platform threads are sampled while they run; the heap growth at the peak divided by
+ * the peak number of workflows in flight gives the per-workflow footprint. Runs only against
+ * the local model backend, so results do not depend on, or spend, a real provider quota.
+ *
+ * <p>Runs only inside {@link CapacityBenchmarkApplication}, its own process with the journal
+ * and the archive disabled, so the synthetic workflows never reach a running application's
+ * journal, history, archive, metrics or traces, and are never recovered as real workflows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowCapacityBenchmark {
+
+  private static final long SAMPLE_INTERVAL_MS = 20;
+
+  private static final long BYTES_PER_GB = 1L << 30;
+
+  /**
+   * Most workflows one run starts.
+   */
+  static final int MAX_WORKFLOWS = 100_000;
+
+  private static final String[] MESSAGES = {
+      "I love this product, thanks!",
+      "Is this available in blue?",
+      "Worst support ever, I want a refund",
+      "Great post, keep it up"
+  };
+
+  private final OrchestratorAgent orchestratorAgent;
+
+  private final DynamicWorkflowExecutor workflowExecutor;
+
+  private final AdkSessionManager sessionManager;
+
+  private final LlmUsageRecorder llmUsageRecorder;
+
+  private final ModelResolver modelResolver;
+
+  private final LlmCallConfig llmCallConfig;
+
+  /**
+   * Runs the given number of workflows concurrently and reports their heap footprint.
+   *
+   * @param workflows number of workflows to start at once, at most {@link #MAX_WORKFLOWS}
+   * @return the capacity report
+   * @throws IllegalStateException if the application does not run on the local model backend
+   * @throws IllegalArgumentException if the number of workflows is out of range
+   */
+  public CapacityReport run(final int workflows) {
+
+    if (!modelResolver.isLocal()) {
+
+      throw new IllegalStateException(
+          "Capacity benchmark requires agentica.adk.model-backend=local");
+    }
+
+    if (workflows < 1 || workflows > MAX_WORKFLOWS) {
+
+      throw new IllegalArgumentException("Capacity benchmark runs 1 to " + MAX_WORKFLOWS
+          + " workflows, requested: " + workflows);
+    }
+
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    log.info("Starting capacity benchmark, runId: {}, workflows: {}", runId, workflows);
+
+    System.gc();
+
+    final long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+
+    final AtomicLong peakHeap = new AtomicLong(baselineHeap);
+
+    final AtomicInteger peakThreads = new AtomicInteger(threads.getThreadCount());
+
+    final AtomicInteger inFlight = new AtomicInteger();
+
+    final AtomicInteger peakInFlight = new AtomicInteger();
+
+    final AtomicInteger completed = new AtomicInteger();
+
+    final AtomicInteger failed = new AtomicInteger();
+
+    final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+
+    sampler.scheduleAtFixedRate(() -> {
+
+      peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+
+      peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+
+    }, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+    final long startedAt = System.currentTimeMillis();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      for (int i = 0; i < workflows; i++) {
+
+        final Event event = syntheticEvent(runId, i);
+
+        executor.submit(() -> {
+
+          peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+          try {
+
+            if (runWorkflow(event)) {
+
+              completed.incrementAndGet();
+
+            } else {
+
+              failed.incrementAndGet();
+            }
+
+          } finally {
+
+            inFlight.decrementAndGet();
+          }
+        });
+      }
+
+    } finally {
+
+      sampler.shutdownNow();
+    }
+
+    final long durationMs = System.currentTimeMillis() - startedAt;
+
+    final long heapGrowth = Math.max(0, peakHeap.get() - baselineHeap);
+
+    final long bytesPerWorkflow = heapGrowth / Math.max(1, peakInFlight.get());
+
+    final CapacityReport report = CapacityReport.builder()
+        .workflows(workflows)
+        .completed(completed.get())
+        .failed(failed.get())
+        .peakConcurrent(peakInFlight.get())
+        .durationMs(durationMs)
+        .baselineHeapBytes(baselineHeap)
+        .peakHeapBytes(peakHeap.get())
+        .heapBytesPerWorkflow(bytesPerWorkflow)
+        .workflowsPerGb(bytesPerWorkflow > 0 ? BYTES_PER_GB / bytesPerWorkflow : 0)
+        .peakPlatformThreads(peakThreads.get())
+        .build();
+
+    log.info("Capacity benchmark finished, runId: {}, completed: {}, failed: {}, "
+            + "peakConcurrent: {}, bytesPerWorkflow: {}, workflowsPerGb: {}, "
+            + "peakPlatformThreads: {}, durationMs: {}",
+        runId, report.completed(), report.failed(), report.peakConcurrent(),
+        report.heapBytesPerWorkflow(), report.workflowsPerGb(), report.peakPlatformThreads(),
+        durationMs);
+
+    return report;
+  }
+
+  private boolean runWorkflow(final Event event) {
+
+    try {
+
+      final Instant deadline = Instant.now().plusMillis(llmCallConfig.getWorkflowTimeoutMs());
+
+      final WorkflowPlan plan = orchestratorAgent.planWorkflow(event, deadline);
+
+      final ExecutionResult result = workflowExecutor.execute(plan, event, deadline);
+
+      return result.status() == ExecutionResult.ExecutionStatus.COMPLETED;
+
+    } catch (final Exception e) {
+
+      log.debug("Benchmark workflow failed, eventId: {}, error: {}", event.id(), e.getMessage());
+
+      return false;
+
+    } finally {
+
+      sessionManager.releaseSession(event.id());
+
+      llmUsageRecorder.closeWorkflow(event.id());
+    }
+  }
+
+  private static Event syntheticEvent(final String runId, final int index) {
+
+    final Map<String, Object> payload = Map.of(
+        "postId", "bench_post_" + (index % 16),
+        "commentId", "bench_comment_" + runId + "_" + index,
+        "message", MESSAGES[index % MESSAGES.length],
+        "fromName", "User " + index,
+        "isReply", false
+    );
+
+    return Event.builder()
+        .id("bench-" + runId + "-" + index)
+        .tenantId("benchmark")
+        .eventType("facebook.comment.new")
+        .source("facebook")
+        .payload(payload)
+        .status(EventStatus.ACTIONABLE)
+        .category("engagement")
+        .priority(2)
+        .receivedAt(Instant.now())
+        .build();
+  }
+
+}
@@ -1,5 +1,6 @@
 package com.agentica.common.util;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,6 +23,8 @@ public final class JsonUtils {
 
     private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
 
+    private static final ObjectMapper COMPACT_MAPPER = createCompactMapper();
+
     private static ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
 
@@ -33,6 +36,15 @@ public final class JsonUtils {
         return mapper;
     }
 
+    private static ObjectMapper createCompactMapper() {
+        ObjectMapper mapper = createObjectMapper();
+
+        mapper.setDefaultPropertyInclusion(
+            JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, JsonInclude.Include.NON_EMPTY));
+
+        return mapper;
+    }
+
     /**
      * Returns the shared ObjectMapper instance.
      */
@@ -80,6 +92,27 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Converts an object to single-line JSON, omitting null and empty values
+     * (including null/empty map entries). Intended for LLM prompts.
+     */
+    public static Optional<String> toCompactJson(Object object) {
+        if (object == null) {
+            return Optional.empty();
+        }
+
+        try {
+
+            return Optional.of(COMPACT_MAPPER.writeValueAsString(object));
+
+        } catch (JsonProcessingException e) {
+
+            log.error("Failed to serialize object to compact JSON, error: {}", e.getMessage(), e);
+
+            return Optional.empty();
+        }
+    }
+
     /**
      * Parses a JSON string into an object of the specified class.
      */
@@ -1,6 +1,7 @@
 package com.agentica.core.event.workflow;
 
 import com.agentica.core.enums.AgentType;
+import com.agentica.core.resource.ResourceUsage;
 
 import lombok.Builder;
 
@@ -22,6 +23,17 @@ public record NodeCompletedEvent(
 
     long durationMs,
 
+    /**
+     * CPU time of the node's own work, such as building its prompt; the model call itself
+     * is not included. -1 if it could not be measured, as on a virtual thread.
+     */
+    long cpuNanos,
+
+    /**
+     * Bytes allocated by the node's own work, or -1 if it could not be measured.
+     */
+    long allocatedBytes,
+
     Instant timestamp
 
 ) implements WorkflowEvent {
@@ -33,14 +45,37 @@ public record NodeCompletedEvent(
             Object output,
             long durationMs) {
 
+        return of(eventId, nodeId, agentType, output, durationMs, ResourceUsage.UNMEASURED);
+    }
+
+    public static NodeCompletedEvent of(
+            String eventId,
+            String nodeId,
+            AgentType agentType,
+            Object output,
+            long durationMs,
+            ResourceUsage resources) {
+
         return NodeCompletedEvent.builder()
             .eventId(eventId)
             .nodeId(nodeId)
             .agentType(agentType)
             .output(output)
             .durationMs(durationMs)
+            .cpuNanos(resources.cpuNanos())
+            .allocatedBytes(resources.allocatedBytes())
             .timestamp(Instant.now())
             .build();
     }
 
+    /**
+     * Returns the CPU time and allocation of the node's own work.
+     *
+     * @return the usage; a figure that could not be measured is reported as such
+     */
+    public ResourceUsage resources() {
+
+        return new ResourceUsage(cpuNanos, allocatedBytes);
+    }
+
 }
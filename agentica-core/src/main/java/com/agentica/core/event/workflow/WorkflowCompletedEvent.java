@@ -5,7 +5,8 @@ import lombok.Builder;
 import java.time.Instant;
 
 /**
- * Published when a workflow execution completes (success, abort, or failure).
+ * Published when a workflow execution completes (success, abort, or failure)
+ * or is deferred for a later retry.
  */
 @Builder
 public record WorkflowCompletedEvent(
@@ -27,7 +28,8 @@ public record WorkflowCompletedEvent(
     public enum ExecutionStatus {
         COMPLETED,
         ABORTED,
-        FAILED
+        FAILED,
+        DEFERRED
     }
 
     public static WorkflowCompletedEvent completed(String eventId, long durationMs, int replanCount) {
@@ -65,4 +67,16 @@ public record WorkflowCompletedEvent(
             .build();
     }
 
+    public static WorkflowCompletedEvent deferred(String eventId, String reason, long durationMs, int replanCount) {
+
+        return WorkflowCompletedEvent.builder()
+            .eventId(eventId)
+            .status(ExecutionStatus.DEFERRED)
+            .errorMessage(reason)
+            .totalDurationMs(durationMs)
+            .replanCount(replanCount)
+            .timestamp(Instant.now())
+            .build();
+    }
+
 }
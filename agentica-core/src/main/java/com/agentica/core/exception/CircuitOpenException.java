@@ -0,0 +1,53 @@
+package com.agentica.core.exception;
+
+import java.time.Instant;
+
+/**
+ * Exception thrown when a call is rejected because the circuit of its dependency is open.
+ * Retrying before {@link #getRetryAt()} would be rejected as well.
+ */
+public class CircuitOpenException extends AgenticaException {
+
+    private final String circuitName;
+
+    private final Instant retryAt;
+
+    public CircuitOpenException(String circuitName, Instant retryAt) {
+        super("Circuit open: " + circuitName + ", retry at: " + retryAt);
+        this.circuitName = circuitName;
+        this.retryAt = retryAt;
+    }
+
+    public String getCircuitName() {
+        return circuitName;
+    }
+
+    public Instant getRetryAt() {
+        return retryAt;
+    }
+
+    /**
+     * Finds a circuit open exception in the cause chain of the given error.
+     *
+     * @param error the error to inspect (may be null)
+     * @return the circuit open exception, or null if there is none
+     */
+    public static CircuitOpenException find(Throwable error) {
+
+        for (Throwable current = error; current != null; current = current.getCause()) {
+
+            if (current instanceof CircuitOpenException circuitOpen) {
+
+                return circuitOpen;
+            }
+
+            if (current.getCause() == current) {
+
+                break;
+            }
+        }
+
+        return null;
+    }
+
+}
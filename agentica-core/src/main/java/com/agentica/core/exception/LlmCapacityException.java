@@ -0,0 +1,20 @@
+package com.agentica.core.exception;
+
+/**
+ * Exception thrown when an LLM call cannot be admitted in time,
+ * e.g. because a concurrency limit or rate quota stayed exhausted.
+ */
+public class LlmCapacityException extends AgenticaException {
+
+    private final String limiterName;
+
+    public LlmCapacityException(String limiterName, String message) {
+        super(message);
+        this.limiterName = limiterName;
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.agentica.core.exception;
+
+/**
+ * Exception thrown when an LLM call does not finish before its deadline.
+ *
+ * <p>The deadline is either the per-call timeout, which the provider failed to meet, or the
+ * remaining budget of the workflow, which says nothing about the provider's health.
+ */
+public class LlmDeadlineExceededException extends AgenticaException {
+
+    private final long timeoutMs;
+
+    private final boolean workflowDeadline;
+
+    public LlmDeadlineExceededException(String message, long timeoutMs, boolean workflowDeadline) {
+        super(message);
+        this.timeoutMs = timeoutMs;
+        this.workflowDeadline = workflowDeadline;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * Whether the call ran out of workflow budget rather than its own per-call timeout.
+     *
+     * @return true if the workflow deadline was the one that expired
+     */
+    public boolean isWorkflowDeadline() {
+        return workflowDeadline;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a Facebook Graph API call.
+ */
+@Setter
+@Name("com.agentica.GraphApiCall")
+@Label("Graph API Call")
+@Category({"Agentica", "Integration"})
+@Description("Facebook Graph API call")
+@StackTrace(false)
+public class GraphApiCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Page ID")
+    private String pageId;
+
+    @Label("Outcome")
+    private String outcome;
+
+}
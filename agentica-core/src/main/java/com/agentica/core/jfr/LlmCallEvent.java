@@ -0,0 +1,46 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning an LLM call, including the wait for rate quota and a concurrency slot.
+ */
+@Setter
+@Name("com.agentica.LlmCall")
+@Label("LLM Call")
+@Category({"Agentica", "LLM"})
+@Description("LLM call of an agent or the orchestrator")
+@StackTrace(false)
+public class LlmCallEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Node ID")
+    @Description("Node issuing the call; empty for orchestrator calls")
+    private String nodeId;
+
+    @Label("Agent")
+    private String agent;
+
+    @Label("Model")
+    private String model;
+
+    @Label("Outcome")
+    @Description("success, failed or cancelled")
+    private String outcome;
+
+    @Label("Input Tokens")
+    private long inputTokens;
+
+    @Label("Output Tokens")
+    private long outputTokens;
+
+}
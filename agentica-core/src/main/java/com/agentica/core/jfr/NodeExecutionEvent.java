@@ -0,0 +1,39 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one run of an agent node, from its prompt to its processed result.
+ */
+@Setter
+@Name("com.agentica.NodeExecution")
+@Label("Node Execution")
+@Category({"Agentica", "Workflow"})
+@Description("One run of an agent node of a workflow")
+@StackTrace(false)
+public class NodeExecutionEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Node ID")
+    private String nodeId;
+
+    @Label("Agent Type")
+    private String agentType;
+
+    @Label("Outcome")
+    @Description("success, escalated or failed")
+    private String outcome;
+
+    @Label("Escalation Reason")
+    private String escalationReason;
+
+}
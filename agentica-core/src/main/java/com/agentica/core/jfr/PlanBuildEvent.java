@@ -0,0 +1,36 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the build of a workflow plan into a runnable graph, including the
+ * LangGraph4j compile.
+ */
+@Setter
+@Name("com.agentica.PlanBuild")
+@Label("Plan Build")
+@Category({"Agentica", "Workflow"})
+@Description("Build of a workflow plan into a runnable graph")
+@StackTrace(false)
+public class PlanBuildEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Plan ID")
+    private String planId;
+
+    @Label("Engine")
+    private String engine;
+
+    @Label("Nodes")
+    private int nodes;
+
+}
@@ -0,0 +1,40 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the resolution of an escalation, by the replan policy or the
+ * orchestrator LLM.
+ */
+@Setter
+@Name("com.agentica.Replan")
+@Label("Replan")
+@Category({"Agentica", "Workflow"})
+@Description("Resolution of a node escalation")
+@StackTrace(false)
+public class ReplanEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Escalating Node")
+    private String escalatingNode;
+
+    @Label("Reason")
+    private String reason;
+
+    @Label("Source")
+    @Description("policy or llm")
+    private String source;
+
+    @Label("Action")
+    private String action;
+
+}
@@ -0,0 +1,35 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning an MCP tool call made by the model during an LLM call.
+ */
+@Setter
+@Name("com.agentica.ToolCall")
+@Label("Tool Call")
+@Category({"Agentica", "LLM"})
+@Description("MCP tool call made during an LLM call")
+@StackTrace(false)
+public class ToolCallEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Node ID")
+    private String nodeId;
+
+    @Label("Tool")
+    private String tool;
+
+    @Label("Success")
+    private boolean success;
+
+}
@@ -0,0 +1,36 @@
+package com.agentica.core.jfr;
+
+import lombok.Setter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the execution of an event's workflow, replans included.
+ */
+@Setter
+@Name("com.agentica.WorkflowExecution")
+@Label("Workflow Execution")
+@Category({"Agentica", "Workflow"})
+@Description("Execution of the workflow planned for an event")
+@StackTrace(false)
+public class WorkflowExecutionEvent extends Event {
+
+    @Label("Event ID")
+    private String eventId;
+
+    @Label("Plan ID")
+    private String planId;
+
+    @Label("Status")
+    @Description("COMPLETED, ABORTED, DEFERRED or FAILED")
+    private String status;
+
+    @Label("Replans")
+    private int replans;
+
+}
@@ -0,0 +1,265 @@
+package com.agentica.core.resilience;
+
+import com.agentica.core.exception.CircuitOpenException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker for one external dependency.
+ *
+ * <p>Outcomes of the most recent calls are kept in a ring buffer. Once the window holds
+ * enough calls and the failure rate reaches the threshold, the circuit opens and rejects
+ * calls with {@link CircuitOpenException} for the open duration. It then lets a few probes
+ * through: if they all succeed the circuit closes, if one fails it opens again.
+ *
+ * <p>Every permitted call must report exactly one outcome: {@link #onSuccess()},
+ * {@link #onFailure()} or, for failures that say nothing about the dependency,
+ * {@link #onIgnore()}.
+ */
+public class CircuitBreaker {
+
+    private final String name;
+
+    private final CircuitBreakerSettings settings;
+
+    private final Clock clock;
+
+    private final Consumer<CircuitSnapshot> onStateChange;
+
+    private final boolean[] failures;
+
+    private int recorded;
+
+    private int next;
+
+    private int failureCount;
+
+    private CircuitState state = CircuitState.CLOSED;
+
+    private Instant openedAt;
+
+    private Instant retryAt;
+
+    private int probesInFlight;
+
+    private int probeSuccesses;
+
+    public CircuitBreaker(String name, CircuitBreakerSettings settings, Clock clock,
+                          Consumer<CircuitSnapshot> onStateChange) {
+
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+        this.onStateChange = onStateChange;
+        this.failures = new boolean[Math.max(1, settings.getWindowSize())];
+    }
+
+    /**
+     * Checks whether a call may proceed.
+     *
+     * @throws CircuitOpenException if the circuit is open or all half-open probes are taken
+     */
+    public void acquirePermission() {
+
+        CircuitSnapshot transition = null;
+
+        synchronized (this) {
+
+            if (state == CircuitState.OPEN && !clock.instant().isBefore(retryAt)) {
+
+                state = CircuitState.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+                transition = snapshotLocked();
+            }
+
+            if (settings.isEnabled()) {
+
+                if (state == CircuitState.OPEN) {
+
+                    throw new CircuitOpenException(name, retryAt);
+                }
+
+                if (state == CircuitState.HALF_OPEN) {
+
+                    if (probesInFlight >= settings.getHalfOpenProbes()) {
+
+                        throw new CircuitOpenException(name,
+                            clock.instant().plusMillis(settings.getOpenDurationMs()));
+                    }
+
+                    probesInFlight++;
+                }
+            }
+        }
+
+        notifyTransition(transition);
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public void onSuccess() {
+
+        CircuitSnapshot transition = null;
+
+        synchronized (this) {
+
+            if (state == CircuitState.HALF_OPEN) {
+
+                probesInFlight = Math.max(0, probesInFlight - 1);
+
+                if (++probeSuccesses >= settings.getHalfOpenProbes()) {
+
+                    state = CircuitState.CLOSED;
+                    resetWindow();
+                    transition = snapshotLocked();
+                }
+
+            } else if (state == CircuitState.CLOSED) {
+
+                record(false);
+            }
+        }
+
+        notifyTransition(transition);
+    }
+
+    /**
+     * Records a call that failed because of the dependency.
+     */
+    public void onFailure() {
+
+        CircuitSnapshot transition = null;
+
+        synchronized (this) {
+
+            if (state == CircuitState.HALF_OPEN) {
+
+                probesInFlight = Math.max(0, probesInFlight - 1);
+
+                transition = open();
+
+            } else if (state == CircuitState.CLOSED) {
+
+                record(true);
+
+                if (recorded >= settings.getMinimumCalls()
+                    && failureRate() >= settings.getFailureRateThreshold()) {
+
+                    transition = open();
+                }
+            }
+        }
+
+        notifyTransition(transition);
+    }
+
+    /**
+     * Releases a permitted call without recording an outcome.
+     */
+    public synchronized void onIgnore() {
+
+        if (state == CircuitState.HALF_OPEN) {
+
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the current state. An open circuit whose open duration has passed
+     * moves to half-open on the next permission request.
+     *
+     * @return the current state
+     */
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Returns a point-in-time view of the breaker.
+     *
+     * @return the snapshot
+     */
+    public synchronized CircuitSnapshot snapshot() {
+        return snapshotLocked();
+    }
+
+    private CircuitSnapshot open() {
+
+        state = CircuitState.OPEN;
+        openedAt = clock.instant();
+        retryAt = openedAt.plusMillis(settings.getOpenDurationMs());
+
+        CircuitSnapshot snapshot = snapshotLocked();
+
+        resetWindow();
+
+        return snapshot;
+    }
+
+    private void record(boolean failure) {
+
+        if (recorded == failures.length) {
+
+            if (failures[next]) {
+
+                failureCount--;
+            }
+
+        } else {
+
+            recorded++;
+        }
+
+        failures[next] = failure;
+
+        if (failure) {
+
+            failureCount++;
+        }
+
+        next = (next + 1) % failures.length;
+    }
+
+    private void resetWindow() {
+
+        Arrays.fill(failures, false);
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+    }
+
+    private double failureRate() {
+
+        return recorded == 0 ? 0 : (double) failureCount / recorded;
+    }
+
+    private CircuitSnapshot snapshotLocked() {
+
+        return CircuitSnapshot.builder()
+            .name(name)
+            .state(state)
+            .failureRate(failureRate())
+            .calls(recorded)
+            .openedAt(openedAt)
+            .retryAt(state == CircuitState.OPEN ? retryAt : null)
+            .build();
+    }
+
+    private void notifyTransition(CircuitSnapshot transition) {
+
+        if (transition != null && onStateChange != null) {
+
+            onStateChange.accept(transition);
+        }
+    }
+
+}
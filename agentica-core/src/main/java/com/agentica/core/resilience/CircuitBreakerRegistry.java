@@ -0,0 +1,89 @@
+package com.agentica.core.resilience;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breakers by dependency name, created on first use with shared settings.
+ *
+ * <p>Names follow "kind:target", e.g. "llm:gemini-2.0-flash", "mcp:facebook" or
+ * "graph:facebook", so health reporting can group them.
+ */
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerSettings settings;
+
+    private final Clock clock;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private final List<Consumer<CircuitSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    public CircuitBreakerRegistry(CircuitBreakerSettings settings) {
+
+        this(settings, Clock.systemUTC());
+    }
+
+    public CircuitBreakerRegistry(CircuitBreakerSettings settings, Clock clock) {
+
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the breaker for a dependency, creating it if needed.
+     *
+     * @param name the dependency name
+     * @return the circuit breaker
+     */
+    public CircuitBreaker get(String name) {
+
+        return breakers.computeIfAbsent(name,
+            key -> new CircuitBreaker(key, settings, clock, this::notifyListeners));
+    }
+
+    /**
+     * Registers a listener called on every state transition.
+     *
+     * @param listener the listener
+     */
+    public void onStateChange(Consumer<CircuitSnapshot> listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns snapshots of all breakers, ordered by name.
+     *
+     * @return the snapshots
+     */
+    public List<CircuitSnapshot> snapshots() {
+
+        return breakers.values().stream()
+            .map(CircuitBreaker::snapshot)
+            .sorted(Comparator.comparing(CircuitSnapshot::name))
+            .toList();
+    }
+
+    /**
+     * Whether any breaker is not closed.
+     *
+     * @return true if at least one dependency is open or being probed
+     */
+    public boolean anyOpen() {
+
+        return breakers.values().stream()
+            .anyMatch(breaker -> breaker.getState() != CircuitState.CLOSED);
+    }
+
+    private void notifyListeners(CircuitSnapshot snapshot) {
+
+        listeners.forEach(listener -> listener.accept(snapshot));
+    }
+
+}
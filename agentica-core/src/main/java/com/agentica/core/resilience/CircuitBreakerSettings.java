@@ -0,0 +1,41 @@
+package com.agentica.core.resilience;
+
+import lombok.Data;
+
+/**
+ * Thresholds shared by all circuit breakers.
+ */
+@Data
+public class CircuitBreakerSettings {
+
+    /**
+     * Whether circuit breakers reject calls. When disabled, outcomes are still recorded.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of most recent calls the failure rate is computed over.
+     */
+    private int windowSize = 20;
+
+    /**
+     * Calls needed in the window before the failure rate is evaluated.
+     */
+    private int minimumCalls = 5;
+
+    /**
+     * Failure rate at or above which the circuit opens.
+     */
+    private double failureRateThreshold = 0.5;
+
+    /**
+     * Time an open circuit rejects calls before letting probes through.
+     */
+    private long openDurationMs = 30_000;
+
+    /**
+     * Successful probes needed in half-open state to close the circuit.
+     */
+    private int halfOpenProbes = 2;
+
+}
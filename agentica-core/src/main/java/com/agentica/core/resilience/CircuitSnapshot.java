@@ -0,0 +1,43 @@
+package com.agentica.core.resilience;
+
+import java.time.Instant;
+
+import lombok.Builder;
+
+/**
+ * Point-in-time view of a circuit breaker, for health reporting.
+ */
+@Builder(toBuilder = true)
+public record CircuitSnapshot(
+
+    /**
+     * Name of the protected dependency, e.g. "llm:gemini-2.0-flash".
+     */
+    String name,
+
+    /**
+     * Current state.
+     */
+    CircuitState state,
+
+    /**
+     * Failure rate over the recorded window.
+     */
+    double failureRate,
+
+    /**
+     * Number of calls in the window.
+     */
+    int calls,
+
+    /**
+     * When the circuit last opened (null if it never did).
+     */
+    Instant openedAt,
+
+    /**
+     * When an open circuit lets probes through (null unless open).
+     */
+    Instant retryAt
+
+) {}
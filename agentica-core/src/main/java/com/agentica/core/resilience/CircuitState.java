@@ -0,0 +1,23 @@
+package com.agentica.core.resilience;
+
+/**
+ * State of a circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Calls pass through and outcomes are recorded.
+     */
+    CLOSED,
+
+    /**
+     * Calls are rejected until the open duration has passed.
+     */
+    OPEN,
+
+    /**
+     * A limited number of probe calls pass through to test the dependency.
+     */
+    HALF_OPEN
+
+}
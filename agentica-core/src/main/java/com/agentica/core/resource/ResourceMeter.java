@@ -0,0 +1,116 @@
+package com.agentica.core.resource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the CPU time and heap allocation of the current thread over a section of work.
+ *
+ * <p>Only work done by the thread that started a sample is counted, so sections handed to
+ * other threads, such as a model call awaited on a future, are not included.
+ *
+ * <p>The JVM accounts CPU time and allocation per platform thread, so a virtual thread
+ * cannot be measured: its readings would belong to whichever carrier it ran on. Such
+ * sections, and figures the JVM does not account, are reported as unmeasured rather than
+ * zero; see {@link #isSupported()}.
+ */
+public final class ResourceMeter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS =
+        THREADS instanceof com.sun.management.ThreadMXBean allocations
+            && allocations.isThreadAllocatedMemorySupported()
+            ? allocations
+            : null;
+
+    private static final boolean CPU_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported();
+
+    private ResourceMeter() {
+    }
+
+    /**
+     * Returns whether the current thread can be measured at all.
+     *
+     * @return false on a virtual thread or a JVM with neither thread CPU time nor
+     *     allocation accounting
+     */
+    public static boolean isSupported() {
+
+        return !Thread.currentThread().isVirtual() && (CPU_SUPPORTED || ALLOCATIONS != null);
+    }
+
+    /**
+     * Starts measuring the current thread.
+     *
+     * @return the sample to stop at the end of the section
+     */
+    public static Sample start() {
+
+        Thread thread = Thread.currentThread();
+
+        if (thread.isVirtual()) {
+
+            return new Sample(thread, ResourceUsage.UNMEASURED_VALUE,
+                ResourceUsage.UNMEASURED_VALUE);
+        }
+
+        return new Sample(thread, cpuTime(), allocatedBytes());
+    }
+
+    private static long cpuTime() {
+
+        return CPU_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : ResourceUsage.UNMEASURED_VALUE;
+    }
+
+    private static long allocatedBytes() {
+
+        return ALLOCATIONS != null
+            ? ALLOCATIONS.getCurrentThreadAllocatedBytes()
+            : ResourceUsage.UNMEASURED_VALUE;
+    }
+
+    /**
+     * A measurement in progress on one thread.
+     */
+    public static final class Sample {
+
+        private final Thread thread;
+
+        private final long cpuNanos;
+
+        private final long allocatedBytes;
+
+        private Sample(Thread thread, long cpuNanos, long allocatedBytes) {
+
+            this.thread = thread;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Returns what the thread used since the sample started.
+         *
+         * @return the usage; unmeasured if called on another thread, and per figure if the
+         *     thread cannot measure it
+         */
+        public ResourceUsage stop() {
+
+            if (Thread.currentThread() != thread) {
+
+                return ResourceUsage.UNMEASURED;
+            }
+
+            long cpu = cpuNanos >= 0
+                ? Math.max(0, cpuTime() - cpuNanos)
+                : ResourceUsage.UNMEASURED_VALUE;
+
+            long allocated = allocatedBytes >= 0
+                ? Math.max(0, allocatedBytes() - allocatedBytes)
+                : ResourceUsage.UNMEASURED_VALUE;
+
+            return new ResourceUsage(cpu, allocated);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.agentica.core.resource;
+
+/**
+ * CPU time and heap allocation of a section of work on one thread.
+ *
+ * <p>A figure the thread could not measure, such as any figure of a virtual thread, is
+ * {@link #UNMEASURED_VALUE}; it is unknown rather than zero and stays unknown through
+ * {@link #plus} and {@link #minus}.
+ *
+ * @param cpuNanos CPU time the thread spent in the section, or -1 if not measured
+ * @param allocatedBytes bytes the thread allocated in the section, or -1 if not measured
+ */
+public record ResourceUsage(long cpuNanos, long allocatedBytes) {
+
+    /**
+     * Value of a figure that could not be measured.
+     */
+    public static final long UNMEASURED_VALUE = -1;
+
+    /**
+     * Usage of a section that did nothing.
+     */
+    public static final ResourceUsage ZERO = new ResourceUsage(0, 0);
+
+    /**
+     * Usage of a section that could not be measured.
+     */
+    public static final ResourceUsage UNMEASURED =
+        new ResourceUsage(UNMEASURED_VALUE, UNMEASURED_VALUE);
+
+    /**
+     * Returns whether the CPU time was measured.
+     *
+     * @return true if {@link #cpuNanos()} is a measurement
+     */
+    public boolean isCpuMeasured() {
+
+        return cpuNanos >= 0;
+    }
+
+    /**
+     * Returns whether the allocation was measured.
+     *
+     * @return true if {@link #allocatedBytes()} is a measurement
+     */
+    public boolean isAllocationMeasured() {
+
+        return allocatedBytes >= 0;
+    }
+
+    /**
+     * Returns the sum of this usage and the given one.
+     *
+     * @param other the usage to add
+     * @return the total usage; a figure is unmeasured if it is unmeasured in either
+     */
+    public ResourceUsage plus(ResourceUsage other) {
+
+        return new ResourceUsage(
+            isCpuMeasured() && other.isCpuMeasured()
+                ? cpuNanos + other.cpuNanos
+                : UNMEASURED_VALUE,
+            isAllocationMeasured() && other.isAllocationMeasured()
+                ? allocatedBytes + other.allocatedBytes
+                : UNMEASURED_VALUE);
+    }
+
+    /**
+     * Returns this usage without the given part of it, never below zero.
+     *
+     * @param part usage included in this one
+     * @return the remaining usage; a figure is unmeasured if it is unmeasured in either
+     */
+    public ResourceUsage minus(ResourceUsage part) {
+
+        return new ResourceUsage(
+            isCpuMeasured() && part.isCpuMeasured()
+                ? Math.max(0, cpuNanos - part.cpuNanos)
+                : UNMEASURED_VALUE,
+            isAllocationMeasured() && part.isAllocationMeasured()
+                ? Math.max(0, allocatedBytes - part.allocatedBytes)
+                : UNMEASURED_VALUE);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.agentica.core.state;
 
 import com.agentica.core.domain.Event;
+import com.agentica.core.resource.ResourceUsage;
 import com.agentica.core.workflow.ReplanDecision;
 import com.agentica.core.workflow.WorkflowPlan;
 
@@ -8,11 +9,13 @@ import org.bsc.langgraph4j.state.AgentState;
 import org.bsc.langgraph4j.state.Channel;
 import org.bsc.langgraph4j.state.Channels;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * LangGraph4j state for Agentica workflow execution.
@@ -100,6 +103,31 @@ public class AgenticaState extends AgentState {
      */
     public static final String KEY_MESSAGES = "messages";
 
+    /**
+     * State key for the workflow deadline all LLM calls are bounded by.
+     */
+    public static final String KEY_DEADLINE = "deadline";
+
+    /**
+     * State key for the number of policy retries per node.
+     */
+    public static final String KEY_REPLAN_ATTEMPTS = "replanAttempts";
+
+    /**
+     * State key for the wall-clock duration of each node's latest run.
+     */
+    public static final String KEY_NODE_DURATIONS = "nodeDurations";
+
+    /**
+     * State key for the CPU time and allocation of each node's latest run.
+     */
+    public static final String KEY_NODE_RESOURCES = "nodeResources";
+
+    /**
+     * State key for nodes that completed before a restart and are not run again.
+     */
+    public static final String KEY_RECOVERED_NODES = "recoveredNodes";
+
     /**
      * LangGraph4j schema definition for AgenticaState.
      * Defines channels for properties that need special handling (appenders).
@@ -130,6 +158,19 @@ public class AgenticaState extends AgentState {
      */
     public static AgenticaState forEvent(Event event, WorkflowPlan plan) {
 
+        return forEvent(event, plan, null);
+    }
+
+    /**
+     * Creates an AgenticaState for processing an event with a workflow plan and deadline.
+     *
+     * @param event the event to process
+     * @param plan the initial workflow plan
+     * @param deadline the workflow deadline (may be null for none)
+     * @return a new AgenticaState initialized for the event
+     */
+    public static AgenticaState forEvent(Event event, WorkflowPlan plan, Instant deadline) {
+
         Map<String, Object> initData = new HashMap<>();
 
         initData.put(KEY_EVENT, event);
@@ -137,7 +178,33 @@ public class AgenticaState extends AgentState {
         initData.put(KEY_CURRENT_PLAN, plan);
         initData.put(KEY_PLAN_VERSION, plan.version());
         initData.put(KEY_NEEDS_REPLAN, false);
-        initData.put(KEY_NODE_OUTPUTS, new HashMap<>());
+        initData.put(KEY_NODE_OUTPUTS, NodeOutputs.EMPTY);
+
+        if (deadline != null) {
+
+            initData.put(KEY_DEADLINE, deadline);
+        }
+
+        return new AgenticaState(initData);
+    }
+
+    /**
+     * Creates an AgenticaState for resuming a workflow that was interrupted by a restart.
+     * Nodes with a recovered output are skipped instead of run again.
+     *
+     * @param event the event to process
+     * @param plan the latest workflow plan
+     * @param deadline the workflow deadline (may be null for none)
+     * @param outputs the outputs of the nodes that completed before the restart
+     * @return a new AgenticaState initialized for the event
+     */
+    public static AgenticaState forRecovery(Event event, WorkflowPlan plan, Instant deadline,
+                                            NodeOutputs outputs) {
+
+        Map<String, Object> initData = new HashMap<>(forEvent(event, plan, deadline).data());
+
+        initData.put(KEY_NODE_OUTPUTS, outputs);
+        initData.put(KEY_RECOVERED_NODES, Set.copyOf(outputs.keySet()));
 
         return new AgenticaState(initData);
     }
@@ -158,6 +225,14 @@ public class AgenticaState extends AgentState {
         return value(KEY_EVENT_ID);
     }
 
+    /**
+     * Gets the workflow deadline.
+     */
+    public Optional<Instant> deadline() {
+
+        return value(KEY_DEADLINE);
+    }
+
     /**
      * Gets the current workflow plan.
      */
@@ -183,13 +258,13 @@ public class AgenticaState extends AgentState {
     }
 
     /**
-     * Gets the node outputs map.
+     * Gets the node outputs, in execution order.
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> nodeOutputs() {
+    public NodeOutputs nodeOutputs() {
 
         return this.<Map<String, Object>>value(KEY_NODE_OUTPUTS)
-            .orElse(new HashMap<>());
+            .map(NodeOutputs::copyOf)
+            .orElse(NodeOutputs.EMPTY);
     }
 
     /**
@@ -257,6 +332,45 @@ public class AgenticaState extends AgentState {
         return value(KEY_REPLAN_LLM_RESPONSE);
     }
 
+    /**
+     * Gets the number of times each node was retried by the replan policy.
+     */
+    public Map<String, Integer> replanAttempts() {
+
+        return this.<Map<String, Integer>>value(KEY_REPLAN_ATTEMPTS)
+            .orElse(Map.of());
+    }
+
+    /**
+     * Gets the wall-clock duration in milliseconds of each node's latest run.
+     */
+    public NodeValues<Long> nodeDurations() {
+
+        return this.<Map<String, Long>>value(KEY_NODE_DURATIONS)
+            .map(NodeValues::<Long>copyOf)
+            .orElse(NodeValues.empty());
+    }
+
+    /**
+     * Gets the CPU time and allocation of each node's latest run, as measured on the thread
+     * that built its prompt and started its model call.
+     */
+    public NodeValues<ResourceUsage> nodeResources() {
+
+        return this.<Map<String, ResourceUsage>>value(KEY_NODE_RESOURCES)
+            .map(NodeValues::<ResourceUsage>copyOf)
+            .orElse(NodeValues.empty());
+    }
+
+    /**
+     * Gets the nodes that completed before a restart and still have to be skipped.
+     */
+    public Set<String> recoveredNodes() {
+
+        return this.<Set<String>>value(KEY_RECOVERED_NODES)
+            .orElse(Set.of());
+    }
+
     /**
      * Gets the plan history.
      */
@@ -0,0 +1,82 @@
+package com.agentica.core.state;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable node outputs of a workflow, in execution order.
+ *
+ * <p>Backed by {@link NodeValues}, so recording an output costs one log entry instead of a
+ * copy of all earlier outputs. A node that runs again replaces its output but keeps the
+ * position of its first run, like a {@link java.util.LinkedHashMap}.
+ */
+public final class NodeOutputs extends AbstractMap<String, Object> {
+
+    /**
+     * Node outputs of a workflow that has not run any node yet.
+     */
+    public static final NodeOutputs EMPTY = new NodeOutputs(NodeValues.empty());
+
+    private final NodeValues<Object> values;
+
+    private NodeOutputs(NodeValues<Object> values) {
+
+        this.values = values;
+    }
+
+    /**
+     * Returns node outputs holding the entries of the given map, in its iteration order.
+     *
+     * @param outputs the outputs to copy (may be null)
+     * @return the node outputs
+     */
+    public static NodeOutputs copyOf(Map<String, Object> outputs) {
+
+        if (outputs instanceof NodeOutputs nodeOutputs) {
+
+            return nodeOutputs;
+        }
+
+        NodeValues<Object> copy = NodeValues.copyOf(outputs);
+
+        return copy.isEmpty() ? EMPTY : new NodeOutputs(copy);
+    }
+
+    /**
+     * Returns a version with the output of the given node recorded.
+     *
+     * @param nodeId the node ID
+     * @param output the node output
+     * @return the new version; this one is unchanged
+     */
+    public NodeOutputs with(String nodeId, Object output) {
+
+        return new NodeOutputs(values.with(nodeId, output));
+    }
+
+    @Override
+    public Object get(Object key) {
+
+        return values.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+
+        return values.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+
+        return values.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+
+        return values.entrySet();
+    }
+
+}
@@ -0,0 +1,261 @@
+package com.agentica.core.state;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable per-node values of a workflow, such as outputs or durations, in execution order.
+ *
+ * <p>Values live in an append-only log shared by every version of the map; a version only
+ * knows how many log entries it sees. Recording a value appends to the log and returns a
+ * new version, so a step costs one entry instead of a copy of all earlier values. The log
+ * is only copied when an older version is extended a second time, which happens when two
+ * states fork from the same step. A node that runs again replaces its value but keeps the
+ * position of its first run, like a {@link java.util.LinkedHashMap}.
+ *
+ * <p>The empty version is shared by every workflow, so its log is never written or locked:
+ * the first value of a workflow starts a log of its own.
+ *
+ * @param <V> the type of the values
+ */
+public final class NodeValues<V> extends AbstractMap<String, V> {
+
+    private static final NodeValues<?> EMPTY = new NodeValues<>(new Log<>(), 0, 0);
+
+    private final Log<V> log;
+
+    private final int length;
+
+    private final int distinct;
+
+    private NodeValues(Log<V> log, int length, int distinct) {
+
+        this.log = log;
+        this.length = length;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Returns the values of a workflow that has not run any node yet.
+     *
+     * @param <V> the type of the values
+     * @return the empty values
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> NodeValues<V> empty() {
+
+        return (NodeValues<V>) EMPTY;
+    }
+
+    /**
+     * Returns node values holding the entries of the given map, in its iteration order.
+     *
+     * @param values the values to copy (may be null)
+     * @param <V>    the type of the values
+     * @return the node values
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> NodeValues<V> copyOf(Map<String, ? extends V> values) {
+
+        if (values instanceof NodeValues<?> nodeValues) {
+
+            return (NodeValues<V>) nodeValues;
+        }
+
+        NodeValues<V> copy = empty();
+
+        if (values != null) {
+
+            for (Map.Entry<String, ? extends V> entry : values.entrySet()) {
+
+                copy = copy.with(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Returns a version with the value of the given node recorded.
+     *
+     * @param nodeId the node ID
+     * @param value  the node value
+     * @return the new version; this one is unchanged
+     */
+    public NodeValues<V> with(String nodeId, V value) {
+
+        Log<V> target = length == 0 ? new Log<V>().append(0, nodeId, value)
+            : log.append(length, nodeId, value);
+
+        return new NodeValues<>(target, length + 1, containsKey(nodeId) ? distinct : distinct + 1);
+    }
+
+    @Override
+    public V get(Object key) {
+
+        if (length == 0) {
+
+            return null;
+        }
+
+        int position = log.latest(key, length);
+
+        return position < 0 ? null : log.value(position);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+
+        return length > 0 && log.latest(key, length) >= 0;
+    }
+
+    @Override
+    public int size() {
+
+        return distinct;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+
+                return length == 0 ? Collections.emptyIterator() : log.entries(length).iterator();
+            }
+
+            @Override
+            public int size() {
+
+                return distinct;
+            }
+        };
+    }
+
+    /**
+     * Append-only storage shared by node value versions.
+     */
+    private static final class Log<V> {
+
+        private String[] keys = new String[8];
+
+        private Object[] values = new Object[8];
+
+        private final Map<String, int[]> positions = new HashMap<>();
+
+        private int length;
+
+        /**
+         * Appends after the first {@code visible} entries, in place if nothing was appended
+         * after them yet, otherwise to a copy of them.
+         */
+        synchronized Log<V> append(int visible, String key, V value) {
+
+            Log<V> target = visible == length ? this : copy(visible);
+
+            target.add(key, value);
+
+            return target;
+        }
+
+        synchronized int latest(Object key, int visible) {
+
+            int[] keyPositions = positions.get(key);
+
+            if (keyPositions == null) {
+
+                return -1;
+            }
+
+            for (int i = keyPositions.length - 1; i >= 0; i--) {
+
+                if (keyPositions[i] < visible) {
+
+                    return keyPositions[i];
+                }
+            }
+
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V value(int position) {
+
+            return (V) values[position];
+        }
+
+        /**
+         * Returns the entries the first {@code visible} log entries resolve to, ordered by
+         * the first run of each node.
+         */
+        synchronized List<Entry<String, V>> entries(int visible) {
+
+            List<Entry<String, V>> entries = new ArrayList<>();
+
+            for (int i = 0; i < visible; i++) {
+
+                int[] keyPositions = positions.get(keys[i]);
+
+                if (keyPositions[0] == i) {
+
+                    entries.add(new SimpleImmutableEntry<>(keys[i],
+                        value(latest(keys[i], visible))));
+                }
+            }
+
+            return entries;
+        }
+
+        private Log<V> copy(int visible) {
+
+            Log<V> copy = new Log<>();
+
+            for (int i = 0; i < visible; i++) {
+
+                copy.add(keys[i], value(i));
+            }
+
+            return copy;
+        }
+
+        private void add(String key, V value) {
+
+            if (length == keys.length) {
+
+                keys = Arrays.copyOf(keys, length * 2);
+                values = Arrays.copyOf(values, length * 2);
+            }
+
+            keys[length] = key;
+            values[length] = value;
+
+            int[] keyPositions = positions.get(key);
+
+            if (keyPositions == null) {
+
+                positions.put(key, new int[] {length});
+
+            } else {
+
+                int[] extended = Arrays.copyOf(keyPositions, keyPositions.length + 1);
+
+                extended[keyPositions.length] = length;
+
+                positions.put(key, extended);
+            }
+
+            length++;
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.agentica.core.trace;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A span that has started and not yet ended.
+ * Ending it more than once has no effect, so it can be ended from whichever of several
+ * completion paths runs first.
+ */
+public class ActiveSpan {
+
+    /**
+     * Span returned when nothing is traced; ending it does nothing.
+     */
+    public static final ActiveSpan NOOP = new ActiveSpan(null, null, null, null, null,
+        Map.of(), span -> { });
+
+    private final String traceId;
+
+    private final String spanId;
+
+    private final String parentSpanId;
+
+    private final String eventId;
+
+    private final String name;
+
+    private final Map<String, String> attributes;
+
+    private final Consumer<ActiveSpan> onEnd;
+
+    private final Instant startedAt;
+
+    private final AtomicBoolean ended = new AtomicBoolean();
+
+    private Span finished;
+
+    ActiveSpan(String traceId, String spanId, String parentSpanId, String eventId, String name,
+        Map<String, String> attributes, Consumer<ActiveSpan> onEnd) {
+
+        this(traceId, spanId, parentSpanId, eventId, name, attributes, onEnd, Instant.now());
+    }
+
+    ActiveSpan(String traceId, String spanId, String parentSpanId, String eventId, String name,
+        Map<String, String> attributes, Consumer<ActiveSpan> onEnd, Instant startedAt) {
+
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.eventId = eventId;
+        this.name = name;
+        this.attributes = new HashMap<>(attributes);
+        this.onEnd = onEnd;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Adds an attribute, such as a result only known at the end of the span.
+     *
+     * @param key the attribute name
+     * @param value the attribute value; ignored if null
+     * @return this span
+     */
+    public synchronized ActiveSpan attribute(String key, Object value) {
+
+        if (value != null && !ended.get()) {
+
+            attributes.put(key, value.toString());
+        }
+
+        return this;
+    }
+
+    /**
+     * Ends the span successfully.
+     */
+    public void end() {
+
+        end((String) null);
+    }
+
+    /**
+     * Ends the span as failed with the given error.
+     *
+     * @param error the failure; null ends the span successfully
+     */
+    public void end(Throwable error) {
+
+        end(error != null ? String.valueOf(error.getMessage()) : null);
+    }
+
+    /**
+     * Ends the span, as failed if an error is given.
+     *
+     * @param error why the span failed; null if it succeeded
+     */
+    public void end(String error) {
+
+        if (this == NOOP || !ended.compareAndSet(false, true)) {
+
+            return;
+        }
+
+        synchronized (this) {
+
+            finished = Span.builder()
+                .traceId(traceId)
+                .spanId(spanId)
+                .parentSpanId(parentSpanId)
+                .eventId(eventId)
+                .name(name)
+                .attributes(Map.copyOf(attributes))
+                .startedAt(startedAt)
+                .durationMicros(Duration.between(startedAt, Instant.now()).toNanos() / 1_000)
+                .error(error)
+                .build();
+        }
+
+        onEnd.accept(this);
+    }
+
+    public String spanId() {
+
+        return spanId;
+    }
+
+    synchronized Span finished() {
+
+        return finished;
+    }
+
+}
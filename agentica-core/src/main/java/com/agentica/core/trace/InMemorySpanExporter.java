@@ -0,0 +1,46 @@
+package com.agentica.core.trace;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the spans of the most recent traces in memory, by event ID, for the debug API.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final Map<String, List<Span>> traces;
+
+    public InMemorySpanExporter(int maxTraces) {
+
+        this.traces = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Span>> eldest) {
+
+                return size() > maxTraces;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void export(Span span) {
+
+        traces.computeIfAbsent(span.eventId(), eventId -> new ArrayList<>()).add(span);
+    }
+
+    /**
+     * Returns the finished spans of an event's trace, in the order they ended.
+     *
+     * @param eventId the event ID
+     * @return the spans; empty if the event was not traced or its trace was evicted
+     */
+    public synchronized List<Span> spans(String eventId) {
+
+        List<Span> spans = traces.get(eventId);
+
+        return spans != null ? List.copyOf(spans) : List.of();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.agentica.core.trace;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A finished span of an event's trace.
+ * Trace and span IDs use the W3C trace context format, so spans can be handed to any
+ * tracing backend.
+ */
+@Builder(toBuilder = true)
+public record Span(
+
+    String traceId,
+
+    String spanId,
+
+    /**
+     * Span this one ran within; null for the root span of the trace.
+     */
+    String parentSpanId,
+
+    /**
+     * Event the trace follows from ingestion to its last action.
+     */
+    String eventId,
+
+    String name,
+
+    Map<String, String> attributes,
+
+    Instant startedAt,
+
+    long durationMicros,
+
+    /**
+     * Why the span failed; null if it succeeded.
+     */
+    String error
+
+) {
+}
@@ -0,0 +1,17 @@
+package com.agentica.core.trace;
+
+/**
+ * Receives spans as they finish.
+ * Called on the thread that ended the span, so implementations must be quick and must not
+ * throw.
+ */
+public interface SpanExporter {
+
+    /**
+     * Exports a finished span.
+     *
+     * @param span the span
+     */
+    void export(Span span);
+
+}
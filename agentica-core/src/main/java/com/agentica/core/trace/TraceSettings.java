@@ -0,0 +1,37 @@
+package com.agentica.core.trace;
+
+import lombok.Data;
+
+/**
+ * Settings of the tracer and its built-in exporters.
+ */
+@Data
+public class TraceSettings {
+
+    /**
+     * Whether spans are recorded. When disabled, every tracer call is a no-op.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Traces open at the same time; the oldest is dropped past it, so traces that are never
+     * ended cannot leak.
+     */
+    private int maxActiveTraces = 10_000;
+
+    /**
+     * Finished traces the in-memory exporter keeps for the debug API.
+     */
+    private int memoryTraces = 1_000;
+
+    /**
+     * Whether spans are also appended to a local file, one JSON document per line.
+     */
+    private boolean fileEnabled = false;
+
+    /**
+     * Directory holding the span file.
+     */
+    private String fileDirectory = "data/traces";
+
+}
@@ -0,0 +1,265 @@
+package com.agentica.core.trace;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traces each event from ingestion to its last action.
+ *
+ * <p>The trace of an event is found by its event ID rather than a thread-local context, so
+ * it follows the event across the async hand-off, the event processor, the workflow engine
+ * and the model and tool callbacks, whichever thread they run on. Spans that others nest
+ * under are opened under a key, such as {@link #WORKFLOW} or {@link #nodeKey(String)}; a
+ * span whose parent key is not open nests under the root. Finished spans go to every
+ * {@link SpanExporter}. Calls for an event that is not traced do nothing.
+ */
+public class Tracer {
+
+    /**
+     * Key of the root span, covering the event from ingestion to its last action.
+     */
+    public static final String ROOT = "event";
+
+    /**
+     * Key of the span planning or replanning the workflow.
+     */
+    public static final String PLAN = "plan";
+
+    /**
+     * Key of the span executing the workflow.
+     */
+    public static final String WORKFLOW = "workflow";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final TraceSettings settings;
+
+    private final List<SpanExporter> exporters;
+
+    private final Map<String, ActiveTrace> traces;
+
+    public Tracer(TraceSettings settings, List<SpanExporter> exporters) {
+
+        this.settings = settings;
+        this.exporters = List.copyOf(exporters);
+        this.traces = new LinkedHashMap<>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ActiveTrace> eldest) {
+
+                return size() > settings.getMaxActiveTraces();
+            }
+        };
+    }
+
+    /**
+     * Returns the key of the span of a workflow node.
+     *
+     * @param nodeId the node ID
+     * @return the span key
+     */
+    public static String nodeKey(String nodeId) {
+
+        return "node:" + nodeId;
+    }
+
+    /**
+     * Starts the trace of an event, unless it is already traced.
+     *
+     * @param eventId the event ID
+     * @param name the root span name
+     * @param attributes attributes of the root span
+     * @param startedAt when the event arrived
+     */
+    public void startTrace(String eventId, String name, Map<String, String> attributes,
+        Instant startedAt) {
+
+        if (!settings.isEnabled() || eventId == null) {
+
+            return;
+        }
+
+        synchronized (traces) {
+
+            if (!traces.containsKey(eventId)) {
+
+                String traceId = HEX.toHexDigits(ThreadLocalRandom.current().nextLong())
+                    + HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+
+                ActiveSpan root = new ActiveSpan(traceId, newSpanId(), null, eventId, name,
+                    attributes, this::export, startedAt);
+
+                traces.put(eventId, new ActiveTrace(traceId, root));
+            }
+        }
+    }
+
+    /**
+     * Starts a span that nothing else nests under.
+     *
+     * @param eventId the event ID
+     * @param parentKey key of the span to nest under
+     * @param name the span name
+     * @param attributes the span attributes
+     * @return the span, or {@link ActiveSpan#NOOP} if the event is not traced
+     */
+    public ActiveSpan span(String eventId, String parentKey, String name,
+        Map<String, String> attributes) {
+
+        ActiveTrace trace = trace(eventId);
+
+        if (trace == null) {
+
+            return ActiveSpan.NOOP;
+        }
+
+        return new ActiveSpan(trace.traceId(), newSpanId(), trace.parentSpanId(parentKey),
+            eventId, name, attributes, this::export);
+    }
+
+    /**
+     * Starts a span that later spans can nest under by its key, until it ends.
+     *
+     * @param eventId the event ID
+     * @param key the key to open the span under
+     * @param parentKey key of the span to nest under
+     * @param name the span name
+     * @param attributes the span attributes
+     * @return the span, or {@link ActiveSpan#NOOP} if the event is not traced
+     */
+    public ActiveSpan open(String eventId, String key, String parentKey, String name,
+        Map<String, String> attributes) {
+
+        ActiveTrace trace = trace(eventId);
+
+        if (trace == null) {
+
+            return ActiveSpan.NOOP;
+        }
+
+        ActiveSpan span = new ActiveSpan(trace.traceId(), newSpanId(),
+            trace.parentSpanId(parentKey), eventId, name, attributes, ended -> {
+
+                trace.open().remove(key, ended);
+
+                export(ended);
+            });
+
+        trace.open().put(key, span);
+
+        return span;
+    }
+
+    /**
+     * Records a span that started earlier and ends now, such as time spent in a queue or a
+     * call reported by a callback.
+     *
+     * @param eventId the event ID
+     * @param parentKey key of the span to nest under
+     * @param name the span name
+     * @param startedAt when the span started
+     * @param attributes the span attributes
+     * @param error why the span failed; null if it succeeded
+     */
+    public void record(String eventId, String parentKey, String name, Instant startedAt,
+        Map<String, String> attributes, String error) {
+
+        ActiveTrace trace = trace(eventId);
+
+        if (trace != null) {
+
+            new ActiveSpan(trace.traceId(), newSpanId(), trace.parentSpanId(parentKey), eventId,
+                name, attributes, this::export, startedAt).end(error);
+        }
+    }
+
+    /**
+     * Ends the trace of an event. Spans still open are ended first and marked unfinished.
+     *
+     * @param eventId the event ID
+     * @param error why the event failed; null if it succeeded
+     */
+    public void endTrace(String eventId, String error) {
+
+        if (eventId == null) {
+
+            return;
+        }
+
+        ActiveTrace trace;
+
+        synchronized (traces) {
+
+            trace = traces.remove(eventId);
+        }
+
+        if (trace != null) {
+
+            for (ActiveSpan span : List.copyOf(trace.open().values())) {
+
+                span.attribute("unfinished", true).end();
+            }
+
+            trace.root().end(error);
+        }
+    }
+
+    private ActiveTrace trace(String eventId) {
+
+        if (!settings.isEnabled() || eventId == null) {
+
+            return null;
+        }
+
+        synchronized (traces) {
+
+            return traces.get(eventId);
+        }
+    }
+
+    private void export(ActiveSpan span) {
+
+        Span finished = span.finished();
+
+        for (SpanExporter exporter : exporters) {
+
+            try {
+
+                exporter.export(finished);
+
+            } catch (RuntimeException e) {
+
+                // An exporter must not break the traced code path
+            }
+        }
+    }
+
+    private static String newSpanId() {
+
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * An event's trace: its root span and the spans open under a key.
+     */
+    private record ActiveTrace(String traceId, ActiveSpan root, Map<String, ActiveSpan> open) {
+
+        private ActiveTrace(String traceId, ActiveSpan root) {
+
+            this(traceId, root, new ConcurrentHashMap<>());
+        }
+
+        String parentSpanId(String parentKey) {
+
+            ActiveSpan parent = parentKey != null ? open.get(parentKey) : null;
+
+            return parent != null ? parent.spanId() : root.spanId();
+        }
+    }
+
+}
@@ -13,6 +13,12 @@ public enum EdgeType {
     /**
      * Conditional edge that routes based on state evaluation.
      */
-    CONDITIONAL
+    CONDITIONAL,
+
+    /**
+     * Fan-out edge that runs independent branch nodes concurrently and joins
+     * them before routing to the target node.
+     */
+    PARALLEL
 
 }
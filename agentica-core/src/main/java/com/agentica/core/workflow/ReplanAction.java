@@ -23,6 +23,12 @@ public enum ReplanAction {
     /**
      * Abort the workflow execution.
      */
-    ABORT
+    ABORT,
+
+    /**
+     * Park the workflow until the failing dependency recovers; it is retried later.
+     * Chosen by the local replan policy only, never offered to the LLM.
+     */
+    DEFER
 
 }
@@ -9,6 +9,7 @@ import jakarta.validation.constraints.NotNull;
 
 import lombok.Builder;
 
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -56,6 +57,11 @@ public record ReplanRequest(
     /**
      * Outputs from nodes that have already executed.
      */
-    Map<String, Object> nodeOutputs
+    Map<String, Object> nodeOutputs,
+
+    /**
+     * The workflow deadline the replan call is bounded by (may be null).
+     */
+    Instant deadline
 
 ) {}
@@ -8,10 +8,11 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * Represents an edge (transition) between nodes in a workflow graph.
- * Can be either a direct edge or a conditional edge based on state.
+ * Can be a direct edge, a conditional edge based on state, or a parallel fan-out.
  */
 @Builder(toBuilder = true)
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -26,12 +27,13 @@ public record WorkflowEdge(
     /**
      * The target node ID for direct edges.
      * For conditional edges, this is the default target.
+     * For parallel edges, this is the join target the branches continue to.
      */
     @NotBlank
     String to,
 
     /**
-     * The type of edge (DIRECT or CONDITIONAL).
+     * The type of edge (DIRECT, CONDITIONAL or PARALLEL).
      */
     @NotNull
     EdgeType type,
@@ -40,6 +42,12 @@ public record WorkflowEdge(
      * Configuration for conditional routing.
      * Only used when type is CONDITIONAL.
      */
-    ConditionalConfig condition
+    ConditionalConfig condition,
+
+    /**
+     * Independent nodes run concurrently after the source node.
+     * Only used when type is PARALLEL.
+     */
+    List<String> branches
 
 ) implements Serializable {}
@@ -0,0 +1,19 @@
+package com.agentica.core.workflow;
+
+/**
+ * Engines that can execute a workflow plan.
+ */
+public enum WorkflowEngine {
+
+    /**
+     * Builds and compiles a LangGraph4j StateGraph and streams its node outputs.
+     * The default engine.
+     */
+    LANGGRAPH,
+
+    /**
+     * Interprets the plan directly over a precomputed adjacency table. Opt-in.
+     */
+    NATIVE
+
+}
@@ -66,7 +66,12 @@ public record WorkflowPlan(
     /**
      * Version number for tracking workflow modifications during replanning.
      */
-    int version
+    int version,
+
+    /**
+     * Engine that executes the plan; null uses the configured default.
+     */
+    WorkflowEngine engine
 
 ) implements Serializable {
 
@@ -1,10 +1,15 @@
 package com.agentica.eventsources.facebook.client;
 
+import com.agentica.core.jfr.GraphApiCallEvent;
+import com.agentica.core.resilience.CircuitBreaker;
+import com.agentica.core.resilience.CircuitBreakerRegistry;
 import com.agentica.eventsources.common.EventSourceException;
 import com.agentica.eventsources.facebook.config.FacebookConfig;
 import com.agentica.eventsources.facebook.domain.FacebookComment;
 import com.agentica.eventsources.facebook.domain.FacebookCommentsResponse;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -24,11 +29,20 @@ public class FacebookGraphClientImpl implements FacebookGraphClient {
 
   private final WebClient webClient;
 
+  private static final String CIRCUIT_NAME = "graph:facebook";
+
   private final FacebookConfig config;
 
-  public FacebookGraphClientImpl(FacebookConfig config) {
+  private final CircuitBreaker circuit;
+
+  private final MeterRegistry meterRegistry;
+
+  public FacebookGraphClientImpl(FacebookConfig config, CircuitBreakerRegistry circuitBreakers,
+      MeterRegistry meterRegistry) {
 
     this.config = config;
+    this.circuit = circuitBreakers.get(CIRCUIT_NAME);
+    this.meterRegistry = meterRegistry;
 
     this.webClient = WebClient.builder()
         .baseUrl(config.getGraphApiBaseUrl() + "/" + config.getGraphApiVersion())
@@ -45,6 +59,16 @@ public class FacebookGraphClientImpl implements FacebookGraphClient {
     log.debug("Fetching comments from Facebook, pageId: {}, since: {}, cursor: {}",
         pageId, since, cursor != null ? "present" : "null");
 
+    circuit.acquirePermission();
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    GraphApiCallEvent jfrEvent = new GraphApiCallEvent();
+
+    jfrEvent.begin();
+
+    String outcome = "error";
+
     try {
 
       URI uri = buildCommentsUri(pageId, accessToken, since, cursor);
@@ -77,14 +101,35 @@ public class FacebookGraphClientImpl implements FacebookGraphClient {
           .timeout(Duration.ofMillis(config.getReadTimeoutMs()))
           .block();
 
-      return parseCommentsResponse(response, pageId);
+      FacebookCommentsResponse comments = parseCommentsResponse(response, pageId);
+
+      circuit.onSuccess();
+
+      outcome = "success";
+
+      return comments;
 
     } catch (FacebookRateLimitException e) {
 
+      circuit.onFailure();
+
+      outcome = "rate_limited";
+
       throw e;
 
     } catch (WebClientResponseException e) {
 
+      outcome = e.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+
+      if (e.getStatusCode().is5xxServerError()) {
+
+        circuit.onFailure();
+
+      } else {
+
+        circuit.onIgnore();
+      }
+
       log.error("Facebook API error, pageId: {}, status: {}, body: {}",
           pageId, e.getStatusCode(), e.getResponseBodyAsString(), e);
 
@@ -92,16 +137,30 @@ public class FacebookGraphClientImpl implements FacebookGraphClient {
 
     } catch (Exception e) {
 
+      circuit.onFailure();
+
       log.error("Failed to fetch Facebook comments, pageId: {}, error: {}",
           pageId, e.getMessage(), e);
 
       throw new EventSourceException("Failed to fetch Facebook comments", e);
+
+    } finally {
+
+      sample.stop(graphApiTimer("get_page_comments", outcome));
+
+      commit(jfrEvent, "get_page_comments", pageId, outcome);
     }
   }
 
   @Override
   public boolean validateToken(String accessToken) {
 
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    GraphApiCallEvent jfrEvent = new GraphApiCallEvent();
+
+    jfrEvent.begin();
+
     try {
 
       webClient.get()
@@ -114,16 +173,48 @@ public class FacebookGraphClientImpl implements FacebookGraphClient {
           .timeout(Duration.ofMillis(config.getConnectionTimeoutMs()))
           .block();
 
+      sample.stop(graphApiTimer("validate_token", "success"));
+
+      commit(jfrEvent, "validate_token", null, "success");
+
       return true;
 
     } catch (Exception e) {
 
+      sample.stop(graphApiTimer("validate_token", "error"));
+
+      commit(jfrEvent, "validate_token", null, "error");
+
       log.warn("Token validation failed, error: {}", e.getMessage());
 
       return false;
     }
   }
 
+  private Timer graphApiTimer(String operation, String outcome) {
+
+    return Timer.builder("agentica.graph.api.latency")
+        .description("Latency of Facebook Graph API calls")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static void commit(GraphApiCallEvent jfrEvent, String operation, String pageId,
+      String outcome) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setOperation(operation);
+      jfrEvent.setPageId(pageId);
+      jfrEvent.setOutcome(outcome);
+      jfrEvent.commit();
+    }
+  }
+
   private URI buildCommentsUri(
       String pageId,
       String accessToken,
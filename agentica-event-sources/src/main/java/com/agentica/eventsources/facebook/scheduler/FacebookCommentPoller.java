@@ -1,5 +1,6 @@
 package com.agentica.eventsources.facebook.scheduler;
 
+import com.agentica.core.exception.CircuitOpenException;
 import com.agentica.core.service.EventService;
 import com.agentica.eventsources.common.PollingState;
 import com.agentica.eventsources.common.PollingStatus;
@@ -84,6 +85,13 @@ public class FacebookCommentPoller {
 
         totalProcessed += processed;
 
+      } catch (final CircuitOpenException e) {
+
+        log.warn("Facebook Graph API circuit open, skipping remaining pages, retryAt: {}",
+            e.getRetryAt());
+
+        break;
+
       } catch (final Exception e) {
 
         log.error("Failed to poll Facebook page, tenantId: {}, pageId: {}, error: {}",
@@ -4,9 +4,14 @@ import com.agentica.agents.filter.FilterAgent;
 import com.agentica.core.domain.Event;
 import com.agentica.core.enums.EventStatus;
 import com.agentica.core.service.EventService;
+import com.agentica.core.trace.ActiveSpan;
+import com.agentica.core.trace.Tracer;
 import com.agentica.infrastructure.event.ActionableEventPublished;
 import com.agentica.infrastructure.persistence.repository.EventRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,18 +39,29 @@ public class EventServiceImpl implements EventService {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    private final MeterRegistry meterRegistry;
+
+    private final Tracer tracer;
+
     @Override
     public Event ingest(String tenantId, String eventType, String source, String externalId, Map<String, Object> payload) {
 
         log.info("Ingesting event, tenantId: {}, eventType: {}, source: {}, externalId: {}",
                 tenantId, eventType, source, externalId);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Instant startedAt = Instant.now();
+
         if (externalId != null && !externalId.isBlank()) {
             Optional<Event> existing = eventRepository.findByExternalId(tenantId, externalId);
 
             if (existing.isPresent()) {
                 log.info("Duplicate event detected, externalId: {}, existingEventId: {}",
                         externalId, existing.get().id());
+
+                sample.stop(ingestTimer("duplicate"));
+
                 return existing.get();
             }
         }
@@ -62,6 +78,15 @@ public class EventServiceImpl implements EventService {
 
         Event savedEvent = eventRepository.save(event);
 
+        sample.stop(ingestTimer("ingested"));
+
+        tracer.startTrace(savedEvent.id(), "event " + eventType, Map.of(
+                "tenantId", String.valueOf(tenantId),
+                "eventType", String.valueOf(eventType),
+                "source", String.valueOf(source)), startedAt);
+
+        tracer.record(savedEvent.id(), Tracer.ROOT, "ingest", startedAt, Map.of(), null);
+
         log.info("Event ingested successfully, eventId: {}, tenantId: {}", savedEvent.id(), tenantId);
 
         triggerAsyncProcessing(savedEvent);
@@ -136,7 +161,33 @@ public class EventServiceImpl implements EventService {
 
         log.debug("Triggering async processing for event, eventId: {}", event.id());
 
-        FilterAgent.FilterResult result = filterService.filterEvent(event);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        ActiveSpan filterSpan = tracer.span(event.id(), Tracer.ROOT, "filter", Map.of());
+
+        FilterAgent.FilterResult result;
+
+        try {
+
+            result = filterService.filterEvent(event);
+
+        } catch (RuntimeException e) {
+
+            filterSpan.end(e);
+            tracer.endTrace(event.id(), e.getMessage());
+
+            throw e;
+        }
+
+        filterSpan.attribute("actionable", result.isActionable())
+                .attribute("category", result.category())
+                .end();
+
+        sample.stop(Timer.builder("agentica.event.filter")
+                .description("Latency of deciding whether an event is actionable")
+                .tag("result", result.isActionable() ? "actionable" : "skipped")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
 
         if (result.isActionable()) {
 
@@ -151,8 +202,19 @@ public class EventServiceImpl implements EventService {
 
             updateStatus(event.id(), EventStatus.SKIPPED, null, null, result.reasoning());
 
+            tracer.endTrace(event.id(), null);
+
             log.info("Event marked as FILTERED, eventId: {}", event.id());
         }
     }
 
+    private Timer ingestTimer(String outcome) {
+
+        return Timer.builder("agentica.event.ingest")
+                .description("Latency of ingesting an event, up to its hand-off for filtering")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
 }
@@ -3,23 +3,42 @@ package com.agentica.workflows.builder;
 import static org.bsc.langgraph4j.StateGraph.END;
 import static org.bsc.langgraph4j.StateGraph.START;
 import static org.bsc.langgraph4j.action.AsyncEdgeAction.edge_async;
-import static org.bsc.langgraph4j.action.AsyncNodeAction.node_async;
 
 import com.agentica.agents.node.AgentNode;
 import com.agentica.agents.node.AgentNodeResult;
 import com.agentica.agents.orchestrator.OrchestratorAgent;
+import com.agentica.agents.orchestrator.ReplanPolicy;
 import com.agentica.agents.registry.AgentNodeRegistry;
+import com.agentica.core.jfr.PlanBuildEvent;
+import com.agentica.core.jfr.ReplanEvent;
+import com.agentica.core.resource.ResourceMeter;
+import com.agentica.core.resource.ResourceUsage;
 import com.agentica.core.state.AgenticaState;
+import com.agentica.core.state.NodeOutputs;
+import com.agentica.core.state.NodeValues;
+import com.agentica.core.trace.ActiveSpan;
+import com.agentica.core.trace.Tracer;
 import com.agentica.core.workflow.ConditionalConfig;
 import com.agentica.core.workflow.EdgeType;
+import com.agentica.core.workflow.ReplanAction;
 import com.agentica.core.workflow.ReplanRequest;
-import com.agentica.core.workflow.ReplanResult;
 import com.agentica.core.workflow.WorkflowEdge;
+import com.agentica.core.workflow.WorkflowEngine;
 import com.agentica.core.workflow.WorkflowNode;
 import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.engine.GraphSink;
+import com.agentica.workflows.engine.NativeGraph;
 import com.agentica.workflows.registry.WorkflowRegistry;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bsc.langgraph4j.CompiledGraph;
@@ -35,12 +54,20 @@ public class WorkflowBuilder {
 
   private static final String REPLAN_NODE_ID = "orchestrator_replan";
 
+  private static final String DEFER_ROUTE = "defer";
+
+  private static final String FAN_OUT_PREFIX = "parallel_";
+
   private final AgentNodeRegistry agentRegistry;
 
   private final OrchestratorAgent orchestratorAgent;
 
+  private final ReplanPolicy replanPolicy;
+
   private final WorkflowRegistry workflowRegistry;
 
+  private final Tracer tracer;
+
   /**
    * Builds a compiled LangGraph4j graph from a WorkflowPlan.
    *
@@ -50,8 +77,29 @@ public class WorkflowBuilder {
    */
   public CompiledGraph<AgenticaState> build(final WorkflowPlan plan, final String eventId) {
 
-    log.info("Building workflow graph, planId: {}, name: {}, nodes: {}, edges: {}",
-        plan.workflowId(), plan.workflowName(), plan.nodes().size(), plan.edges().size());
+    return build(plan, eventId, null);
+  }
+
+  /**
+   * Builds a compiled graph that enters the plan at the given node instead of its start
+   * edges. Used to resume a replanned workflow: the nodes before the entry node already
+   * ran and their outputs are carried in the state the graph is streamed with.
+   *
+   * @param plan the workflow plan to build
+   * @param eventId the event ID for tracking and visualization
+   * @param entryNodeId the node to start from, or null to start from the plan's start edges
+   * @return the compiled graph ready for execution
+   */
+  public CompiledGraph<AgenticaState> build(final WorkflowPlan plan, final String eventId,
+      final String entryNodeId) {
+
+    log.info("Building workflow graph, planId: {}, name: {}, nodes: {}, edges: {}, entry: {}",
+        plan.workflowId(), plan.workflowName(), plan.nodes().size(), plan.edges().size(),
+        entryNodeId != null ? entryNodeId : START);
+
+    final PlanBuildEvent jfrEvent = new PlanBuildEvent();
+
+    jfrEvent.begin();
 
     try {
 
@@ -60,84 +108,410 @@ public class WorkflowBuilder {
           AgenticaState::new
       );
 
-      graph.addNode(REPLAN_NODE_ID, createReplanNode());
-      graph.addEdge(REPLAN_NODE_ID, END);
+      populate(GraphSink.of(graph), plan, entryNodeId, this::createAgentNode);
 
-      log.debug("Added replan node with edge to END");
+      workflowRegistry.updateLatest(eventId, plan, graph);
 
-      for (final WorkflowNode node : plan.nodes()) {
+      final CompiledGraph<AgenticaState> compiledGraph = graph.compile();
 
-        graph.addNode(node.id(), createAgentNode(node));
+      log.info("Workflow graph built successfully, planId: {}", plan.workflowId());
 
-        log.debug("Added node, id: {}, agentType: {}", node.id(), node.agentType());
-      }
+      return compiledGraph;
 
-      for (final WorkflowEdge edge : plan.edges()) {
+    } catch (final Exception e) {
 
-        addEdgeWithEscalation(graph, edge);
-      }
+      log.error("Failed to build workflow graph, planId: {}, error: {}",
+          plan.workflowId(), e.getMessage(), e);
 
-      workflowRegistry.updateLatest(eventId, plan, graph);
+      throw new RuntimeException("Failed to build workflow graph: " + plan.workflowId(), e);
 
-      final CompiledGraph<AgenticaState> compiledGraph = graph.compile();
+    } finally {
 
-      log.info("Workflow graph built successfully, planId: {}", plan.workflowId());
+      commit(jfrEvent, eventId, plan, WorkflowEngine.LANGGRAPH);
+    }
+  }
 
-      return compiledGraph;
+  /**
+   * Builds the plan for the native engine: the same nodes and routing as
+   * {@link #build(WorkflowPlan, String, String)}, kept in an adjacency table instead of a
+   * compiled StateGraph.
+   *
+   * @param plan the workflow plan to build
+   * @param eventId the event ID for tracking and visualization
+   * @param entryNodeId the node to start from, or null to start from the plan's start edges
+   * @return the graph ready for execution
+   */
+  public NativeGraph buildNative(final WorkflowPlan plan, final String eventId,
+      final String entryNodeId) {
+
+    log.info("Building native workflow graph, planId: {}, name: {}, nodes: {}, edges: {}, "
+            + "entry: {}", plan.workflowId(), plan.workflowName(), plan.nodes().size(),
+        plan.edges().size(), entryNodeId != null ? entryNodeId : START);
+
+    final PlanBuildEvent jfrEvent = new PlanBuildEvent();
+
+    jfrEvent.begin();
+
+    try {
+
+      final NativeGraph graph = new NativeGraph();
+
+      populate(graph, plan, entryNodeId, this::createAgentNode);
+
+      graph.validate();
+
+      workflowRegistry.updateLatest(eventId, plan, null);
+
+      return graph;
 
     } catch (final Exception e) {
 
-      log.error("Failed to build workflow graph, planId: {}, error: {}",
+      log.error("Failed to build native workflow graph, planId: {}, error: {}",
           plan.workflowId(), e.getMessage(), e);
 
       throw new RuntimeException("Failed to build workflow graph: " + plan.workflowId(), e);
+
+    } finally {
+
+      commit(jfrEvent, eventId, plan, WorkflowEngine.NATIVE);
+    }
+  }
+
+  private static void commit(final PlanBuildEvent jfrEvent, final String eventId,
+      final WorkflowPlan plan, final WorkflowEngine engine) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId(eventId);
+      jfrEvent.setPlanId(plan.workflowId());
+      jfrEvent.setEngine(engine.name());
+      jfrEvent.setNodes(plan.nodes().size());
+      jfrEvent.commit();
     }
   }
 
+  /**
+   * Compiles the plan for LangGraph4j with the given actions in place of the agents, to
+   * measure engine overhead. Branches of parallel edges still run their agents.
+   *
+   * @param plan the workflow plan to build
+   * @param nodeActions creates the action of each plan node
+   * @return the compiled graph
+   * @throws GraphStateException if the plan cannot be built
+   */
+  public CompiledGraph<AgenticaState> compile(final WorkflowPlan plan,
+      final Function<WorkflowNode, AsyncNodeAction<AgenticaState>> nodeActions)
+      throws GraphStateException {
+
+    final StateGraph<AgenticaState> graph = new StateGraph<>(
+        AgenticaState.SCHEMA,
+        AgenticaState::new
+    );
+
+    populate(GraphSink.of(graph), plan, null, nodeActions);
+
+    return graph.compile();
+  }
+
+  /**
+   * Builds the plan for the native engine with the given actions in place of the agents,
+   * to measure engine overhead. Branches of parallel edges still run their agents.
+   *
+   * @param plan the workflow plan to build
+   * @param nodeActions creates the action of each plan node
+   * @return the graph
+   * @throws GraphStateException if the plan cannot be built
+   */
+  public NativeGraph compileNative(final WorkflowPlan plan,
+      final Function<WorkflowNode, AsyncNodeAction<AgenticaState>> nodeActions)
+      throws GraphStateException {
+
+    final NativeGraph graph = new NativeGraph();
+
+    populate(graph, plan, null, nodeActions);
+
+    graph.validate();
+
+    return graph;
+  }
+
+  /**
+   * Wires the replan node, the plan's nodes and its edges with escalation routing into
+   * either engine.
+   */
+  private void populate(final GraphSink graph, final WorkflowPlan plan, final String entryNodeId,
+      final Function<WorkflowNode, AsyncNodeAction<AgenticaState>> nodeActions)
+      throws GraphStateException {
+
+    graph.addNode(REPLAN_NODE_ID, createReplanNode());
+    graph.addEdge(REPLAN_NODE_ID, END);
+
+    log.debug("Added replan node with edge to END");
+
+    final Map<String, WorkflowNode> nodes = new LinkedHashMap<>();
+
+    for (final WorkflowNode node : plan.nodes()) {
+
+      nodes.put(node.id(), node);
+    }
+
+    final Set<String> branchNodes = new HashSet<>();
+
+    for (final WorkflowEdge edge : plan.edges()) {
+
+      if (edge.type() == EdgeType.PARALLEL && edge.branches() != null) {
+
+        branchNodes.addAll(edge.branches());
+      }
+    }
+
+    for (final WorkflowNode node : plan.nodes()) {
+
+      if (branchNodes.contains(node.id())) {
+
+        continue;
+      }
+
+      graph.addNode(node.id(), nodeActions.apply(node));
+
+      log.debug("Added node, id: {}, agentType: {}", node.id(), node.agentType());
+    }
+
+    if (entryNodeId != null) {
+
+      graph.addEdge(START, entryNodeId);
+
+      log.debug("Added resume edge, to: {}", entryNodeId);
+    }
+
+    for (final WorkflowEdge edge : plan.edges()) {
+
+      final boolean skipStart = entryNodeId != null
+          && START.equals(normalizeNodeId(edge.from()));
+
+      if (edge.type() == EdgeType.PARALLEL) {
+
+        addParallelEdge(graph, edge, nodes, !skipStart);
+
+      } else if (!skipStart) {
+
+        addEdgeWithEscalation(graph, edge);
+      }
+    }
+  }
+
+  /**
+   * Creates a node action that runs the agent asynchronously, so no thread is held while
+   * the agent waits for the model. A node that completed before a restart keeps its
+   * recovered output instead of running again. The CPU time and allocation of the node's
+   * work on the calling thread, such as building its prompt, are recorded in the state next
+   * to its duration.
+   */
   private AsyncNodeAction<AgenticaState> createAgentNode(final WorkflowNode node) {
 
-    return node_async(state -> {
+    return state -> {
 
-      log.debug("Executing agent node, id: {}, agentType: {}", node.id(), node.agentType());
+      if (state.recoveredNodes().contains(node.id())
+          && state.nodeOutputs().containsKey(node.id())) {
 
-      final AgentNode agentNode = agentRegistry.get(node.agentType());
+        return CompletableFuture.completedFuture(skipRecovered(node, state));
+      }
 
-      final AgentNodeResult result = agentNode.execute(state, node.instruction(), node.config());
+      return runAgent(node, state).thenApply(run -> toStateUpdates(node, state, run));
+    };
+  }
 
-      final Map<String, Object> updates = new HashMap<>();
+  /**
+   * Passes over a node that completed before a restart. The node is only skipped once, so
+   * it runs again if a later replan routes back to it.
+   */
+  private Map<String, Object> skipRecovered(final WorkflowNode node, final AgenticaState state) {
 
-      updates.put(AgenticaState.KEY_CURRENT_NODE_ID, node.id());
+    log.info("Skipping node completed before restart, id: {}", node.id());
 
-      if (result.needsEscalation()) {
+    final Set<String> recovered = new HashSet<>(state.recoveredNodes());
 
-        updates.put(AgenticaState.KEY_NEEDS_REPLAN, true);
-        updates.put(AgenticaState.KEY_ESCALATION_REASON, result.escalationReason());
-        updates.put(AgenticaState.KEY_ESCALATION_CONTEXT, result.escalationContext());
-        updates.put(AgenticaState.KEY_RESUME_FROM_NODE, node.id());
+    recovered.remove(node.id());
 
-        log.info("Agent node escalating, id: {}, reason: {}",
-            node.id(), result.escalationReason());
+    final Map<String, Object> updates = new HashMap<>();
+
+    updates.put(AgenticaState.KEY_CURRENT_NODE_ID, node.id());
+    updates.put(AgenticaState.KEY_NEEDS_REPLAN, false);
+    updates.put(AgenticaState.KEY_RECOVERED_NODES, Set.copyOf(recovered));
+
+    return updates;
+  }
 
-      } else {
+  private CompletableFuture<AgentRun> runAgent(final WorkflowNode node,
+      final AgenticaState state) {
 
-        updates.put(AgenticaState.KEY_NEEDS_REPLAN, false);
+    log.debug("Executing agent node, id: {}, agentType: {}", node.id(), node.agentType());
 
-        final Map<String, Object> nodeOutputs = new HashMap<>(state.nodeOutputs());
+    final AgentNode agentNode = agentRegistry.get(node.agentType());
 
-        nodeOutputs.put(node.id(), result.output());
+    final ActiveSpan span = tracer.open(state.eventId().orElse(null), Tracer.nodeKey(node.id()),
+        Tracer.WORKFLOW, "node " + node.id(), Map.of("agentType", node.agentType().name()));
 
-        updates.put(AgenticaState.KEY_NODE_OUTPUTS, nodeOutputs);
+    final long startedAt = System.currentTimeMillis();
 
-        log.debug("Agent node completed, id: {}", node.id());
+    final ResourceMeter.Sample sample = ResourceMeter.start();
+
+    final CompletableFuture<AgentNodeResult> execution = agentNode.executeAsync(state,
+        node.id(), node.instruction(), node.config());
+
+    final ResourceUsage resources = sample.stop();
+
+    return execution
+        .whenComplete((result, error) -> endNodeSpan(span, result, error))
+        .thenApply(result -> new AgentRun(node, result, System.currentTimeMillis() - startedAt,
+            resources));
+  }
+
+  private static void endNodeSpan(final ActiveSpan span, final AgentNodeResult result,
+      final Throwable error) {
+
+    if (error != null) {
+
+      span.end(error);
+
+    } else if (result.needsEscalation()) {
+
+      span.attribute("escalationReason", result.escalationReason())
+          .end(result.escalationReason());
+
+    } else {
+
+      span.end();
+    }
+  }
+
+  private Map<String, Object> toStateUpdates(final WorkflowNode node, final AgenticaState state,
+      final AgentRun run) {
+
+    final AgentNodeResult result = run.result();
+
+    final Map<String, Object> updates = new HashMap<>();
+
+    updates.put(AgenticaState.KEY_CURRENT_NODE_ID, node.id());
+
+    updates.put(AgenticaState.KEY_NODE_DURATIONS,
+        state.nodeDurations().with(node.id(), run.durationMs()));
+
+    updates.put(AgenticaState.KEY_NODE_RESOURCES,
+        state.nodeResources().with(node.id(), run.resources()));
+
+    if (result.needsEscalation()) {
+
+      updates.put(AgenticaState.KEY_NEEDS_REPLAN, true);
+      updates.put(AgenticaState.KEY_ESCALATION_REASON, result.escalationReason());
+      updates.put(AgenticaState.KEY_ESCALATION_CONTEXT, result.escalationContext());
+      updates.put(AgenticaState.KEY_RESUME_FROM_NODE, node.id());
+
+      log.info("Agent node escalating, id: {}, reason: {}",
+          node.id(), result.escalationReason());
+
+    } else {
+
+      updates.put(AgenticaState.KEY_NEEDS_REPLAN, false);
+
+      updates.put(AgenticaState.KEY_NODE_OUTPUTS,
+          state.nodeOutputs().with(node.id(), result.output()));
+
+      log.debug("Agent node completed, id: {}", node.id());
+    }
+
+    return updates;
+  }
+
+  /**
+   * Creates the node that runs the branches of a parallel edge concurrently. Every branch
+   * sees the state as it was before the fan-out. Branches that already have an output, from
+   * a run before a replan, are not run again. The join merges outputs in the order the
+   * branches are declared, not the order they finish, so the merged state is deterministic.
+   * If branches escalate, the first declared one is reported; the others keep their outputs.
+   */
+  private AsyncNodeAction<AgenticaState> createFanOutNode(final String fanOutId,
+      final List<WorkflowNode> branches) {
+
+    return state -> {
+
+      final List<CompletableFuture<AgentRun>> runs = branches.stream()
+          .filter(branch -> !state.nodeOutputs().containsKey(branch.id()))
+          .map(branch -> runAgent(branch, state))
+          .toList();
+
+      log.debug("Fanning out, id: {}, branches: {}", fanOutId, runs.size());
+
+      return CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new))
+          .thenApply(ignored -> join(fanOutId, state, runs));
+    };
+  }
+
+  private Map<String, Object> join(final String fanOutId, final AgenticaState state,
+      final List<CompletableFuture<AgentRun>> runs) {
+
+    NodeOutputs nodeOutputs = state.nodeOutputs();
+
+    NodeValues<Long> durations = state.nodeDurations();
+
+    NodeValues<ResourceUsage> resources = state.nodeResources();
+
+    final Map<String, Object> updates = new HashMap<>();
+
+    updates.put(AgenticaState.KEY_CURRENT_NODE_ID, fanOutId);
+    updates.put(AgenticaState.KEY_NEEDS_REPLAN, false);
+
+    AgentRun escalated = null;
+
+    for (final CompletableFuture<AgentRun> future : runs) {
+
+      final AgentRun run = future.join();
+
+      durations = durations.with(run.node().id(), run.durationMs());
+      resources = resources.with(run.node().id(), run.resources());
+
+      if (!run.result().needsEscalation()) {
+
+        nodeOutputs = nodeOutputs.with(run.node().id(), run.result().output());
+
+      } else if (escalated == null) {
+
+        escalated = run;
       }
+    }
+
+    updates.put(AgenticaState.KEY_NODE_OUTPUTS, nodeOutputs);
+    updates.put(AgenticaState.KEY_NODE_DURATIONS, durations);
+    updates.put(AgenticaState.KEY_NODE_RESOURCES, resources);
+
+    if (escalated != null) {
+
+      updates.putAll(AgenticaState.escalationUpdates(
+          escalated.result().escalationReason(),
+          escalated.result().escalationContext(),
+          escalated.node().id()
+      ));
 
-      return updates;
-    });
+      log.info("Parallel branch escalating, fanOut: {}, id: {}, reason: {}",
+          fanOutId, escalated.node().id(), escalated.result().escalationReason());
+    }
+
+    return updates;
   }
 
+  /**
+   * Creates the replan node. Well-known escalations are resolved by the local replan policy,
+   * waiting out its backoff without holding a thread; all others ask the orchestrator LLM.
+   */
   private AsyncNodeAction<AgenticaState> createReplanNode() {
 
-    return node_async(state -> {
+    return state -> {
+
+      final ReplanEvent jfrEvent = new ReplanEvent();
+
+      jfrEvent.begin();
 
       final ReplanRequest request = ReplanRequest.builder()
           .event(state.event().orElseThrow())
@@ -147,25 +521,148 @@ public class WorkflowBuilder {
           .escalationContext(state.escalationContext().orElse(null))
           .currentState(state.data())
           .nodeOutputs(state.nodeOutputs())
+          .deadline(state.deadline().orElse(null))
           .build();
 
-      final ReplanResult replanResult = orchestratorAgent.replan(request);
+      final Map<String, Integer> attempts = state.replanAttempts();
+
+      final Optional<ReplanPolicy.Resolution> resolution = replanPolicy.resolve(request,
+          attempts.getOrDefault(request.escalatingNodeId(), 0));
 
-      final Map<String, Object> updates = new HashMap<>();
+      if (resolution.isPresent()) {
 
-      updates.put(AgenticaState.KEY_REPLAN_DECISION, replanResult.decision());
-      updates.put(AgenticaState.KEY_REPLAN_LLM_PROMPT, replanResult.llmPrompt());
-      updates.put(AgenticaState.KEY_REPLAN_LLM_RESPONSE, replanResult.llmResponse());
+        commit(jfrEvent, request, "policy", resolution.get().decision().action().name());
 
-      return updates;
-    });
+        return applyResolution(request.escalatingNodeId(), attempts, resolution.get());
+      }
+
+      final ActiveSpan span = tracer.open(state.eventId().orElse(null), Tracer.PLAN,
+          Tracer.WORKFLOW, "replan", Map.of(
+              "escalatingNode", request.escalatingNodeId(),
+              "reason", request.escalationReason()));
+
+      return orchestratorAgent.replanAsync(request)
+          .whenComplete((replanResult, error) -> {
+
+            if (error != null) {
+
+              span.end(error);
+
+              commit(jfrEvent, request, "llm", "FAILED");
+
+            } else {
+
+              span.attribute("action", replanResult.decision().action()).end();
+
+              commit(jfrEvent, request, "llm", replanResult.decision().action().name());
+            }
+          })
+          .thenApply(replanResult -> {
+
+            final Map<String, Object> updates = new HashMap<>();
+
+            updates.put(AgenticaState.KEY_REPLAN_DECISION, replanResult.decision());
+            updates.put(AgenticaState.KEY_REPLAN_LLM_PROMPT, replanResult.llmPrompt());
+            updates.put(AgenticaState.KEY_REPLAN_LLM_RESPONSE, replanResult.llmResponse());
+
+            return updates;
+          });
+    };
+  }
+
+  private static void commit(final ReplanEvent jfrEvent, final ReplanRequest request,
+      final String source, final String action) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId(request.event().id());
+      jfrEvent.setEscalatingNode(request.escalatingNodeId());
+      jfrEvent.setReason(request.escalationReason());
+      jfrEvent.setSource(source);
+      jfrEvent.setAction(action);
+      jfrEvent.commit();
+    }
+  }
+
+  private CompletableFuture<Map<String, Object>> applyResolution(final String nodeId,
+      final Map<String, Integer> attempts, final ReplanPolicy.Resolution resolution) {
+
+    final Map<String, Object> updates = new HashMap<>();
+
+    updates.put(AgenticaState.KEY_REPLAN_DECISION, resolution.decision());
+    updates.put(AgenticaState.KEY_REPLAN_LLM_PROMPT, null);
+    updates.put(AgenticaState.KEY_REPLAN_LLM_RESPONSE, null);
+
+    if (resolution.decision().action() == ReplanAction.RETRY_WITH_GUIDANCE) {
+
+      final Map<String, Integer> retried = new HashMap<>(attempts);
+
+      retried.merge(nodeId, 1, Integer::sum);
+
+      updates.put(AgenticaState.KEY_REPLAN_ATTEMPTS, retried);
+    }
+
+    if (resolution.delayMs() <= 0) {
+
+      return CompletableFuture.completedFuture(updates);
+    }
+
+    return CompletableFuture.supplyAsync(() -> updates,
+        CompletableFuture.delayedExecutor(resolution.delayMs(), TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Adds a parallel edge as a fan-out node between the source and the join target, each
+   * connection with the usual escalation routing. The source connection is left out when
+   * the graph is entered at a resume node instead of its start edges.
+   */
+  private void addParallelEdge(final GraphSink graph, final WorkflowEdge edge,
+      final Map<String, WorkflowNode> nodes, final boolean connectSource)
+      throws GraphStateException {
+
+    final String fanOutId = fanOutNodeId(edge.from());
+
+    final List<WorkflowNode> branches = edge.branches().stream()
+        .map(nodes::get)
+        .toList();
+
+    graph.addNode(fanOutId, createFanOutNode(fanOutId, branches));
+
+    if (connectSource) {
+
+      addEdgeWithEscalation(graph, edge.toBuilder()
+          .to(fanOutId)
+          .type(EdgeType.DIRECT)
+          .build());
+    }
+
+    addEdgeWithEscalation(graph, edge.toBuilder()
+        .from(fanOutId)
+        .type(EdgeType.DIRECT)
+        .build());
+
+    log.debug("Added parallel edge, from: {}, branches: {}, join: {}",
+        edge.from(), edge.branches(), edge.to());
+  }
+
+  /**
+   * Returns the id of the graph node that runs the parallel branches leaving the given node.
+   *
+   * @param fromNodeId the source node of the parallel edge
+   * @return the fan-out node id
+   */
+  public static String fanOutNodeId(final String fromNodeId) {
+
+    return FAN_OUT_PREFIX + ("START".equalsIgnoreCase(fromNodeId) ? "start" : fromNodeId);
   }
 
   /**
    * Adds an edge with integrated escalation routing.
    * All edges from agent nodes include escalation check to replan node.
    */
-  private void addEdgeWithEscalation(final StateGraph<AgenticaState> graph, final WorkflowEdge edge)
+  private void addEdgeWithEscalation(final GraphSink graph, final WorkflowEdge edge)
       throws GraphStateException {
 
     final String from = normalizeNodeId(edge.from());
@@ -188,13 +685,14 @@ public class WorkflowBuilder {
 
             if (state.needsReplan()) {
 
-              return REPLAN_NODE_ID;
+              return escalationRoute(state);
             }
 
             return "continue";
           }),
           Map.of(
               REPLAN_NODE_ID, REPLAN_NODE_ID,
+              DEFER_ROUTE, END,
               "continue", to
           )
       );
@@ -207,6 +705,8 @@ public class WorkflowBuilder {
 
       routeMapping.put(REPLAN_NODE_ID, REPLAN_NODE_ID);
 
+      routeMapping.put(DEFER_ROUTE, END);
+
       final Map<String, String> routes = condition.routesAsMap();
 
       for (final Map.Entry<String, String> route : routes.entrySet()) {
@@ -222,7 +722,7 @@ public class WorkflowBuilder {
 
             if (state.needsReplan()) {
 
-              return REPLAN_NODE_ID;
+              return escalationRoute(state);
             }
 
             final String stateKey = condition.stateKey();
@@ -252,6 +752,28 @@ public class WorkflowBuilder {
     }
   }
 
+  /**
+   * Routes an escalation to the replan node, or straight to END when the node failed
+   * behind an open circuit breaker: replanning would call the same failing dependency,
+   * so the executor defers the workflow instead.
+   */
+  private static String escalationRoute(final AgenticaState state) {
+
+    final boolean circuitOpen = state.escalationReason()
+        .filter(AgentNodeResult.CIRCUIT_OPEN::equals)
+        .isPresent();
+
+    return circuitOpen ? DEFER_ROUTE : REPLAN_NODE_ID;
+  }
+
+  /**
+   * An agent node's result, how long it took, and the CPU time and allocation of the work it
+   * did on the calling thread before handing off its model call.
+   */
+  private record AgentRun(WorkflowNode node, AgentNodeResult result, long durationMs,
+      ResourceUsage resources) {
+  }
+
   private String findNextNode(final String nodeId, final WorkflowPlan plan) {
 
     for (final WorkflowEdge edge : plan.edges()) {
@@ -0,0 +1,47 @@
+package com.agentica.workflows.bus;
+
+import lombok.Builder;
+
+/**
+ * Point-in-time statistics of the workflow event bus.
+ */
+@Builder(toBuilder = true)
+public record EventBusStats(
+
+    /**
+     * Whether events are delivered asynchronously.
+     */
+    boolean enabled,
+
+    /**
+     * What happens to events published while a buffer is full.
+     */
+    OverflowPolicy overflow,
+
+    /**
+     * Events waiting for delivery.
+     */
+    int pending,
+
+    /**
+     * Events delivered since startup.
+     */
+    long dispatched,
+
+    /**
+     * Events dropped because a buffer was full.
+     */
+    long dropped,
+
+    /**
+     * Events whose delivery to a subscriber threw.
+     */
+    long failed,
+
+    /**
+     * Longest time an event waited for delivery since startup.
+     */
+    long maxLagMs
+
+) {
+}
@@ -0,0 +1,26 @@
+package com.agentica.workflows.bus;
+
+/**
+ * What the workflow event bus does with an agent execution event published while the
+ * buffer is full. Lifecycle and node events are never dropped: their publisher waits for
+ * room whatever the policy, because observers such as the execution store need every one
+ * of them to close their records.
+ */
+public enum OverflowPolicy {
+
+  /**
+   * Drops the oldest buffered agent execution event to make room, so observers stay current.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Drops the published event, so observers keep a consistent prefix.
+   */
+  DROP_NEWEST,
+
+  /**
+   * Blocks the publishing workflow until there is room, so no event is lost.
+   */
+  BLOCK
+
+}
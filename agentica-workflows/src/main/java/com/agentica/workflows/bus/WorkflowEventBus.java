@@ -0,0 +1,320 @@
+package com.agentica.workflows.bus;
+
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.event.workflow.WorkflowEvent;
+import com.agentica.workflows.config.WorkflowEventBusConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers workflow events to {@link WorkflowEventSubscriber}s off the workflow's thread.
+ *
+ * <p>Published events are handed to one of a fixed number of dispatchers, chosen by the
+ * event ID, so every workflow's events are delivered in order by a single thread. Each
+ * dispatcher buffers events in a bounded ring; when it is full the configured
+ * {@link OverflowPolicy} drops an agent execution event or blocks the publisher. Workflow
+ * lifecycle and node events are never dropped, since observers pair them up: their publisher
+ * waits for room instead, and delivers them itself if it is interrupted while waiting. The
+ * time events wait for delivery, dropped events and failing subscribers are recorded as
+ * metrics.
+ *
+ * <p>The workflow journal stays a synchronous listener: it has to be written before the
+ * workflow moves on, which is exactly what this bus avoids for observers.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowEventBus {
+
+  private final WorkflowEventBusConfig config;
+
+  private final List<WorkflowEventSubscriber> subscribers;
+
+  private final MeterRegistry meterRegistry;
+
+  private final List<Dispatcher> dispatchers = new ArrayList<>();
+
+  private final AtomicLong dispatched = new AtomicLong();
+
+  private final AtomicLong dropped = new AtomicLong();
+
+  private final AtomicLong failed = new AtomicLong();
+
+  private final AtomicLong maxLagNanos = new AtomicLong();
+
+  private Timer lag;
+
+  @PostConstruct
+  public void start() {
+
+    lag = Timer.builder("agentica.workflow.events.lag")
+        .description("Time a workflow event waited before its observers ran")
+        .register(meterRegistry);
+
+    Gauge.builder("agentica.workflow.events.pending", this, WorkflowEventBus::pending)
+        .description("Workflow events waiting for delivery")
+        .register(meterRegistry);
+
+    if (!config.isEnabled()) {
+
+      log.info("Workflow event bus disabled, observers run on the workflow thread");
+
+      return;
+    }
+
+    final int capacity = Math.max(1, config.getCapacity());
+
+    for (int i = 0; i < Math.max(1, config.getDispatchers()); i++) {
+
+      final Dispatcher dispatcher = new Dispatcher(new ArrayBlockingQueue<>(capacity));
+
+      dispatcher.thread = Thread.ofPlatform()
+          .name("workflow-events-" + i)
+          .daemon()
+          .start(dispatcher);
+
+      dispatchers.add(dispatcher);
+    }
+
+    log.info("Workflow event bus started, dispatchers: {}, capacity: {}, overflow: {}, "
+        + "subscribers: {}", dispatchers.size(), capacity, config.getOverflow(),
+        subscribers.size());
+  }
+
+  @PreDestroy
+  public void stop() {
+
+    dispatchers.forEach(dispatcher -> dispatcher.thread.interrupt());
+  }
+
+  @EventListener
+  public void onWorkflowEvent(final WorkflowEvent event) {
+
+    final Dispatch dispatch = new Dispatch(event, System.nanoTime());
+
+    if (dispatchers.isEmpty()) {
+
+      deliver(dispatch);
+
+      return;
+    }
+
+    final Dispatcher dispatcher = dispatchers.get(
+        Math.floorMod(String.valueOf(event.eventId()).hashCode(), dispatchers.size()));
+
+    enqueue(dispatcher.queue, dispatch);
+  }
+
+  /**
+   * Returns the current statistics of the bus.
+   */
+  public EventBusStats stats() {
+
+    return EventBusStats.builder()
+        .enabled(!dispatchers.isEmpty())
+        .overflow(config.getOverflow())
+        .pending(pending())
+        .dispatched(dispatched.get())
+        .dropped(dropped.get())
+        .failed(failed.get())
+        .maxLagMs(TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()))
+        .build();
+  }
+
+  private void enqueue(final BlockingQueue<Dispatch> queue, final Dispatch dispatch) {
+
+    if (queue.offer(dispatch)) {
+
+      return;
+    }
+
+    if (!droppable(dispatch)) {
+
+      put(queue, dispatch);
+
+      return;
+    }
+
+    switch (config.getOverflow()) {
+
+      case BLOCK -> put(queue, dispatch);
+
+      case DROP_NEWEST -> drop(dispatch);
+
+      case DROP_OLDEST -> {
+
+        final Dispatch oldest = removeOldestDroppable(queue);
+
+        if (oldest != null) {
+
+          drop(oldest);
+        }
+
+        if (oldest == null || !queue.offer(dispatch)) {
+
+          drop(dispatch);
+        }
+      }
+    }
+  }
+
+  /**
+   * Waits for room. An event that must not be lost is delivered on the publishing thread if
+   * the wait is interrupted.
+   */
+  private void put(final BlockingQueue<Dispatch> queue, final Dispatch dispatch) {
+
+    try {
+
+      queue.put(dispatch);
+
+    } catch (final InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+
+      if (droppable(dispatch)) {
+
+        drop(dispatch);
+
+      } else {
+
+        deliver(dispatch);
+      }
+    }
+  }
+
+  private static Dispatch removeOldestDroppable(final BlockingQueue<Dispatch> queue) {
+
+    final Iterator<Dispatch> buffered = queue.iterator();
+
+    while (buffered.hasNext()) {
+
+      final Dispatch candidate = buffered.next();
+
+      if (droppable(candidate)) {
+
+        buffered.remove();
+
+        return candidate;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Only agent execution details may be dropped; lifecycle and node events open and close
+   * the records observers keep per workflow and node.
+   */
+  private static boolean droppable(final Dispatch dispatch) {
+
+    return dispatch.event() instanceof AgentExecutionEvent;
+  }
+
+  private void deliver(final Dispatch dispatch) {
+
+    final long waited = System.nanoTime() - dispatch.publishedAt();
+
+    lag.record(waited, TimeUnit.NANOSECONDS);
+
+    maxLagNanos.accumulateAndGet(waited, Math::max);
+
+    for (final WorkflowEventSubscriber subscriber : subscribers) {
+
+      try {
+
+        subscriber.onEvent(dispatch.event());
+
+      } catch (final Exception e) {
+
+        failed.incrementAndGet();
+
+        log.error("Workflow event subscriber failed, subscriber: {}, eventId: {}, type: {}, "
+                + "error: {}", subscriber.getClass().getSimpleName(), dispatch.event().eventId(),
+            dispatch.event().getClass().getSimpleName(), e.getMessage(), e);
+      }
+    }
+
+    dispatched.incrementAndGet();
+  }
+
+  private void drop(final Dispatch dispatch) {
+
+    dropped.incrementAndGet();
+
+    Counter.builder("agentica.workflow.events.dropped")
+        .description("Workflow events dropped because the event bus buffer was full")
+        .tag("type", dispatch.event().getClass().getSimpleName())
+        .tag("policy", config.getOverflow().name())
+        .register(meterRegistry)
+        .increment();
+
+    log.debug("Dropped workflow event, eventId: {}, type: {}",
+        dispatch.event().eventId(), dispatch.event().getClass().getSimpleName());
+  }
+
+  private int pending() {
+
+    return dispatchers.stream().mapToInt(dispatcher -> dispatcher.queue.size()).sum();
+  }
+
+  /**
+   * A published event and when it was published.
+   */
+  private record Dispatch(WorkflowEvent event, long publishedAt) {
+  }
+
+  /**
+   * A buffer of events and the thread that delivers them in order.
+   */
+  private final class Dispatcher implements Runnable {
+
+    private final BlockingQueue<Dispatch> queue;
+
+    private Thread thread;
+
+    private Dispatcher(final BlockingQueue<Dispatch> queue) {
+
+      this.queue = queue;
+    }
+
+    @Override
+    public void run() {
+
+      try {
+
+        while (!Thread.currentThread().isInterrupted()) {
+
+          deliver(queue.take());
+        }
+
+      } catch (final InterruptedException e) {
+
+        Thread.currentThread().interrupt();
+      }
+
+      Dispatch remaining;
+
+      while ((remaining = queue.poll()) != null) {
+
+        deliver(remaining);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.agentica.workflows.bus;
+
+import com.agentica.core.event.workflow.WorkflowEvent;
+
+/**
+ * Observer of workflow events, called by the workflow event bus off the workflow's thread.
+ *
+ * <p>Events of one workflow arrive in the order they were published, one at a time. Events
+ * of different workflows may arrive concurrently.
+ */
+public interface WorkflowEventSubscriber {
+
+  /**
+   * Handles a workflow event.
+   *
+   * @param event the event
+   */
+  void onEvent(WorkflowEvent event);
+
+}
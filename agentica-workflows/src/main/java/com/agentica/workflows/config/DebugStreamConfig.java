@@ -0,0 +1,46 @@
+package com.agentica.workflows.config;
+
+import com.agentica.workflows.debug.SlowConsumerPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the debug dashboard's stream of execution deltas.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.debug-stream")
+public class DebugStreamConfig {
+
+  /**
+   * Whether execution deltas are streamed to dashboards.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Deltas buffered per subscriber before the slow-consumer policy applies.
+   */
+  private int bufferSize = 256;
+
+  /**
+   * Maximum number of concurrently connected subscribers.
+   */
+  private int maxSubscribers = 1000;
+
+  /**
+   * What happens to a subscriber whose buffer is full.
+   */
+  private SlowConsumerPolicy slowConsumer = SlowConsumerPolicy.RESYNC;
+
+  /**
+   * Idle time after which a heartbeat is sent, so proxies keep the connection open.
+   */
+  private long heartbeatMs = 15_000;
+
+  /**
+   * Time after which a connection is closed; the dashboard reconnects. Zero never closes.
+   */
+  private long timeoutMs = 1_800_000;
+
+}
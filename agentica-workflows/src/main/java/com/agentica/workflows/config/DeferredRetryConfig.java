@@ -0,0 +1,46 @@
+package com.agentica.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for workflows deferred while a dependency's circuit is open.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.deferred-retry")
+public class DeferredRetryConfig {
+
+  /**
+   * Times an event is deferred before it is marked as failed.
+   */
+  private int maxAttempts = 5;
+
+  /**
+   * Maximum number of deferred events held; further deferrals fail the event.
+   */
+  private int capacity = 10_000;
+
+  /**
+   * Delay before the first retry; doubles with every further attempt.
+   */
+  private long initialDelayMs = 5_000;
+
+  /**
+   * Upper bound for the retry delay.
+   */
+  private long maxDelayMs = 300_000;
+
+  /**
+   * Random extra delay as a fraction of the delay, so deferred workflows do not all
+   * hit a recovering dependency at once.
+   */
+  private double jitter = 0.2;
+
+  /**
+   * Interval between checks for due retries.
+   */
+  private long pollIntervalMs = 1_000;
+
+}
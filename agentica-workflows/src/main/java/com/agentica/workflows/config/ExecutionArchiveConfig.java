@@ -0,0 +1,45 @@
+package com.agentica.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the on-disk archive of finished executions.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.archive")
+public class ExecutionArchiveConfig {
+
+  /**
+   * Whether finished executions are written to disk for the debug UI.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Directory holding the segment files.
+   */
+  private String directory = "data/executions";
+
+  /**
+   * Compressed size at which a segment is sealed and a new one started.
+   */
+  private long segmentBytes = 16L * 1024 * 1024;
+
+  /**
+   * Age after which a sealed segment is deleted, measured from its newest execution.
+   */
+  private long maxAgeMs = 7L * 24 * 60 * 60 * 1000;
+
+  /**
+   * Total size of all segments; the oldest sealed segments are deleted past it.
+   */
+  private long maxTotalBytes = 1024L * 1024 * 1024;
+
+  /**
+   * Interval between retention sweeps.
+   */
+  private long retentionSweepIntervalMs = 60_000;
+
+}
@@ -0,0 +1,34 @@
+package com.agentica.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the history of finished executions kept for the debug UI.
+ * The entry and byte limits apply per tenant; whichever is reached first evicts the oldest
+ * executions of that tenant. The total byte limit applies across tenants and evicts from
+ * the largest tenant, so retained memory stays bounded however many tenants there are.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.history")
+public class ExecutionHistoryConfig {
+
+  /**
+   * Finished executions kept per tenant.
+   */
+  private int maxEntries = 1000;
+
+  /**
+   * Estimated size of the finished executions kept per tenant. Snapshots carry full LLM
+   * prompts and responses, so this is usually the limit that applies.
+   */
+  private long maxBytes = 64L * 1024 * 1024;
+
+  /**
+   * Estimated size of the finished executions kept across all tenants.
+   */
+  private long maxTotalBytes = 256L * 1024 * 1024;
+
+}
@@ -0,0 +1,41 @@
+package com.agentica.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the workflow execution journal.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.journal")
+public class JournalConfig {
+
+  /**
+   * Whether workflow domain events are journaled to disk.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Directory holding the journal file.
+   */
+  private String directory = "data/journal";
+
+  /**
+   * Whether every entry is forced to the storage device. Without it an entry survives a
+   * process crash but not an operating system crash.
+   */
+  private boolean fsync = false;
+
+  /**
+   * Journal size at which it is rewritten to hold only unfinished workflows.
+   */
+  private long compactBytes = 64L * 1024 * 1024;
+
+  /**
+   * Whether workflows interrupted by the previous shutdown are resumed on startup.
+   */
+  private boolean recoverOnStartup = true;
+
+}
@@ -0,0 +1,39 @@
+package com.agentica.workflows.config;
+
+import com.agentica.workflows.bus.OverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the asynchronous delivery of workflow events to observers.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "agentica.workflow.event-bus")
+public class WorkflowEventBusConfig {
+
+  /**
+   * Whether observers run on dispatcher threads; when disabled they run on the workflow's
+   * own thread as the events are published.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of dispatcher threads. Events of one workflow always go to the same dispatcher,
+   * so observers see them in publication order.
+   */
+  private int dispatchers = 4;
+
+  /**
+   * Events each dispatcher buffers before the overflow policy applies.
+   */
+  private int capacity = 4_096;
+
+  /**
+   * What happens to an agent execution event published while its dispatcher's buffer is
+   * full. Lifecycle and node events always wait for room.
+   */
+  private OverflowPolicy overflow = OverflowPolicy.DROP_OLDEST;
+
+}
@@ -0,0 +1,162 @@
+package com.agentica.workflows.debug;
+
+import com.agentica.workflows.config.DebugStreamConfig;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams execution deltas to debug dashboards instead of letting them poll the full state.
+ *
+ * <p>A delta is serialized once and the same frame is offered to every subscriber's
+ * bounded buffer, which never blocks, so publishing costs the same however slow the
+ * dashboards are. Each subscriber drains its buffer on its own thread; one that falls
+ * behind is handled by the configured {@link SlowConsumerPolicy}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DebugStream {
+
+    private final DebugStreamConfig config;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<DebugSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Counter slowConsumers;
+
+    @PostConstruct
+    public void start() {
+
+        Gauge.builder("agentica.debug.stream.subscribers", subscriptions, Set::size)
+            .description("Dashboards connected to the debug stream")
+            .register(meterRegistry);
+
+        slowConsumers = Counter.builder("agentica.debug.stream.slow.consumers")
+            .description("Times a dashboard fell behind the debug stream")
+            .tag("policy", config.getSlowConsumer().name())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to execution deltas.
+     *
+     * @param eventId the execution to follow, or null for all executions
+     * @return the subscription, or empty if the stream is disabled or full
+     */
+    public Optional<DebugSubscription> subscribe(String eventId) {
+
+        if (!config.isEnabled() || subscriptions.size() >= config.getMaxSubscribers()) {
+
+            return Optional.empty();
+        }
+
+        DebugSubscription subscription = new DebugSubscription(eventId, config.getBufferSize(),
+            config.getSlowConsumer(), resyncFrame(eventId), subscriptions::remove);
+
+        subscriptions.add(subscription);
+
+        log.debug("Debug stream subscribed, eventId: {}, subscribers: {}",
+            eventId, subscriptions.size());
+
+        return Optional.of(subscription);
+    }
+
+    /**
+     * Publishes a delta to every subscriber following its execution.
+     *
+     * @param delta the delta; its sequence is assigned here
+     */
+    public void publish(ExecutionDelta delta) {
+
+        if (subscriptions.isEmpty()) {
+
+            return;
+        }
+
+        ExecutionDelta sequenced = delta.toBuilder()
+            .sequence(sequence.incrementAndGet())
+            .build();
+
+        DebugSubscription.Frame frame;
+
+        try {
+
+            frame = new DebugSubscription.Frame(sequenced.sequence(), sequenced.type().name(),
+                objectMapper.writeValueAsString(sequenced));
+
+        } catch (JsonProcessingException e) {
+
+            log.warn("Failed to serialize execution delta, eventId: {}, type: {}, error: {}",
+                delta.eventId(), delta.type(), e.getMessage());
+
+            return;
+        }
+
+        for (DebugSubscription subscription : subscriptions) {
+
+            if (subscription.accepts(sequenced.eventId()) && !subscription.offer(frame)) {
+
+                slowConsumers.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the heartbeat interval subscribers should keep connections alive with.
+     */
+    public long heartbeatMs() {
+
+        return config.getHeartbeatMs();
+    }
+
+    /**
+     * Returns the time after which subscriber connections are closed.
+     */
+    public long timeoutMs() {
+
+        return config.getTimeoutMs();
+    }
+
+    private DebugSubscription.Frame resyncFrame(String eventId) {
+
+        ExecutionDelta resync = ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.RESYNC)
+            .eventId(eventId)
+            .timestamp(Instant.now())
+            .build();
+
+        try {
+
+            return new DebugSubscription.Frame(0, resync.type().name(),
+                objectMapper.writeValueAsString(resync));
+
+        } catch (JsonProcessingException e) {
+
+            return new DebugSubscription.Frame(0, resync.type().name(), "{}");
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.agentica.workflows.debug;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A dashboard's subscription to the debug stream, with its own bounded buffer.
+ *
+ * <p>The stream offers frames without ever blocking; the subscriber takes them on its own
+ * thread. When the buffer is full the {@link SlowConsumerPolicy} decides whether the
+ * buffer is replaced by a resync marker or the subscription is closed.
+ */
+public class DebugSubscription implements AutoCloseable {
+
+    private final String eventId;
+
+    private final SlowConsumerPolicy policy;
+
+    private final Frame resync;
+
+    private final BlockingQueue<Frame> buffer;
+
+    private final Consumer<DebugSubscription> onClose;
+
+    private volatile boolean closed;
+
+    DebugSubscription(String eventId, int bufferSize, SlowConsumerPolicy policy, Frame resync,
+        Consumer<DebugSubscription> onClose) {
+
+        this.eventId = eventId;
+        this.policy = policy;
+        this.resync = resync;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(2, bufferSize));
+        this.onClose = onClose;
+    }
+
+    /**
+     * Returns whether this subscription wants deltas of the given execution.
+     */
+    boolean accepts(String executionEventId) {
+
+        return eventId == null || eventId.equals(executionEventId);
+    }
+
+    /**
+     * Buffers a frame, applying the slow-consumer policy if the buffer is full.
+     *
+     * @return false if the subscriber was too slow and the policy applied
+     */
+    synchronized boolean offer(Frame frame) {
+
+        if (closed || buffer.offer(frame)) {
+
+            return true;
+        }
+
+        if (policy == SlowConsumerPolicy.DISCONNECT) {
+
+            close();
+
+        } else {
+
+            buffer.clear();
+            buffer.offer(resync);
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits for the next frame.
+     *
+     * @param timeoutMs maximum time to wait
+     * @return the frame, or null if none arrived in time or the subscription is closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Frame next(long timeoutMs) throws InterruptedException {
+
+        return closed ? null : buffer.poll(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isClosed() {
+
+        return closed;
+    }
+
+    @Override
+    public void close() {
+
+        if (!closed) {
+
+            closed = true;
+
+            buffer.clear();
+
+            onClose.accept(this);
+        }
+    }
+
+    /**
+     * A delta as sent to subscribers, serialized once for all of them.
+     *
+     * @param sequence the delta's position in the stream
+     * @param name the delta type
+     * @param data the delta as JSON
+     */
+    public record Frame(long sequence, String name, String data) {
+    }
+
+}
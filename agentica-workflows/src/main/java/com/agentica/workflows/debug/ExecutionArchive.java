@@ -0,0 +1,481 @@
+package com.agentica.workflows.debug;
+
+import com.agentica.workflows.config.ExecutionArchiveConfig;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Archive of finished executions on local disk, kept for days of incident analysis.
+ *
+ * <p>Every finished execution is appended to the active segment as deflated JSON. Once the
+ * segment reaches the configured size it is sealed and a new one is started. Sealed
+ * segments are deleted once their newest execution passes the maximum age, and oldest
+ * first while the archive exceeds its total size. The location of each event's latest
+ * execution is kept in memory, so a lookup by event reads one entry; listing recent
+ * executions walks the segment indexes from newest to oldest. Only the executions returned
+ * are decompressed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionArchive {
+
+    private final ExecutionArchiveConfig config;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final List<ExecutionSegment> segments = new ArrayList<>();
+
+    /**
+     * Segment and index position of the latest execution of each event hash.
+     */
+    private final Map<Long, Location> locations = new ConcurrentHashMap<>();
+
+    private ObjectReader reader;
+
+    private Path directory;
+
+    private ExecutionSegment active;
+
+    private long nextSequence;
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+
+        if (!config.isEnabled()) {
+
+            log.info("Execution archive disabled");
+
+            return;
+        }
+
+        directory = Path.of(config.getDirectory());
+
+        Files.createDirectories(directory);
+
+        reader = objectMapper.readerFor(ExecutionSnapshot.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        try (Stream<Path> files = Files.list(directory)) {
+
+            for (Path path : files.sorted().toList()) {
+
+                long sequence = ExecutionSegment.sequenceOf(path);
+
+                if (sequence >= 0) {
+
+                    ExecutionSegment segment = ExecutionSegment.open(path, sequence);
+
+                    segments.add(segment);
+
+                    index(segment);
+
+                    nextSequence = Math.max(nextSequence, sequence + 1);
+                }
+            }
+        }
+
+        Gauge.builder("agentica.workflow.archive.bytes", this, ExecutionArchive::bytes)
+            .description("Size of the execution archive on disk")
+            .register(meterRegistry);
+
+        enforceRetention();
+
+        log.info("Execution archive opened, directory: {}, segments: {}, bytes: {}",
+            directory, segments.size(), bytes());
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+
+        for (ExecutionSegment segment : segments) {
+
+            segment.close();
+        }
+
+        segments.clear();
+        locations.clear();
+
+        active = null;
+    }
+
+    /**
+     * Appends a finished execution. Failures are logged and counted, never thrown, so the
+     * archive cannot break the debug store.
+     *
+     * @param snapshot the finished execution
+     */
+    public void append(ExecutionSnapshot snapshot) {
+
+        if (!config.isEnabled()) {
+
+            return;
+        }
+
+        try {
+
+            byte[] data = compress(objectMapper.writeValueAsBytes(snapshot));
+
+            long completedAtMillis = snapshot.completedAt() != null
+                ? snapshot.completedAt().toEpochMilli()
+                : System.currentTimeMillis();
+
+            synchronized (this) {
+
+                if (active == null || active.bytes() >= config.getSegmentBytes()) {
+
+                    rotate();
+                }
+
+                long eventHash = hash(snapshot.eventId());
+
+                int position = active.entries();
+
+                active.append(eventHash, hash(ExecutionHistory.tenantOf(snapshot)),
+                    completedAtMillis, data);
+
+                locations.put(eventHash, new Location(active, position));
+            }
+
+        } catch (IOException e) {
+
+            failures().increment();
+
+            log.error("Failed to archive execution, eventId: {}, error: {}",
+                snapshot.eventId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds the most recently archived execution of an event.
+     *
+     * @param eventId the event ID
+     * @return the execution, or empty if it is not archived
+     */
+    public Optional<ExecutionSnapshot> find(String eventId) {
+
+        if (!config.isEnabled()) {
+
+            return Optional.empty();
+        }
+
+        long eventHash = hash(eventId);
+
+        Location location = locations.get(eventHash);
+
+        if (location == null) {
+
+            return Optional.empty();
+        }
+
+        try {
+
+            ExecutionSnapshot snapshot = read(location.segment(),
+                location.segment().entry(location.position()));
+
+            if (eventId.equals(snapshot.eventId())) {
+
+                return Optional.of(snapshot);
+            }
+
+        } catch (IOException e) {
+
+            log.warn("Failed to read execution segment, sequence: {}, error: {}",
+                location.segment().sequence(), e.getMessage());
+
+            return Optional.empty();
+        }
+
+        return scan(eventId, eventHash);
+    }
+
+    /**
+     * Finds an execution by walking the segment indexes, for the rare event whose hash
+     * collides with a later one.
+     */
+    private Optional<ExecutionSnapshot> scan(String eventId, long eventHash) {
+
+        for (ExecutionSegment segment : newestFirst()) {
+
+            try {
+
+                for (int i = segment.entries() - 1; i >= 0; i--) {
+
+                    ExecutionSegment.Entry entry = segment.entry(i);
+
+                    if (entry.eventHash() == eventHash) {
+
+                        ExecutionSnapshot snapshot = read(segment, entry);
+
+                        if (eventId.equals(snapshot.eventId())) {
+
+                            return Optional.of(snapshot);
+                        }
+                    }
+                }
+
+            } catch (IOException e) {
+
+                log.warn("Failed to read execution segment, sequence: {}, error: {}",
+                    segment.sequence(), e.getMessage());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the most recently archived executions, most recent first, each event once.
+     *
+     * @param tenantId the tenant to return executions of, or null for all tenants
+     * @param limit maximum number of executions
+     * @param excludedEventIds events to skip, such as those still held in memory
+     * @return the executions
+     */
+    public List<ExecutionSnapshot> recent(String tenantId, int limit,
+        Set<String> excludedEventIds) {
+
+        List<ExecutionSnapshot> recent = new ArrayList<>();
+
+        if (!config.isEnabled() || limit <= 0) {
+
+            return recent;
+        }
+
+        Set<Long> seen = new HashSet<>();
+
+        for (String eventId : excludedEventIds) {
+
+            seen.add(hash(eventId));
+        }
+
+        long tenantHash = tenantId != null ? hash(tenantId) : 0;
+
+        for (ExecutionSegment segment : newestFirst()) {
+
+            try {
+
+                for (int i = segment.entries() - 1; i >= 0 && recent.size() < limit; i--) {
+
+                    ExecutionSegment.Entry entry = segment.entry(i);
+
+                    if ((tenantId != null && entry.tenantHash() != tenantHash)
+                        || !seen.add(entry.eventHash())) {
+
+                        continue;
+                    }
+
+                    ExecutionSnapshot snapshot = read(segment, entry);
+
+                    if (tenantId == null || tenantId.equals(ExecutionHistory.tenantOf(snapshot))) {
+
+                        recent.add(snapshot);
+                    }
+                }
+
+            } catch (IOException e) {
+
+                log.warn("Failed to read execution segment, sequence: {}, error: {}",
+                    segment.sequence(), e.getMessage());
+            }
+
+            if (recent.size() >= limit) {
+
+                break;
+            }
+        }
+
+        return recent;
+    }
+
+    /**
+     * Deletes sealed segments past the maximum age, then the oldest sealed segments while
+     * the archive exceeds its total size.
+     */
+    @Scheduled(fixedDelayString = "${agentica.workflow.archive.retention-sweep-interval-ms:60000}")
+    public synchronized void enforceRetention() {
+
+        if (!config.isEnabled()) {
+
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - config.getMaxAgeMs();
+
+        long total = bytes();
+
+        int deleted = 0;
+
+        while (!segments.isEmpty() && segments.getFirst().isSealed()) {
+
+            ExecutionSegment oldest = segments.getFirst();
+
+            if (oldest.lastCompletedAtMillis() >= cutoff && total <= config.getMaxTotalBytes()) {
+
+                break;
+            }
+
+            total -= oldest.bytes();
+
+            segments.removeFirst();
+
+            locations.values().removeIf(location -> location.segment() == oldest);
+
+            try {
+
+                oldest.delete();
+
+                deleted++;
+
+            } catch (IOException e) {
+
+                log.warn("Failed to delete execution segment, sequence: {}, error: {}",
+                    oldest.sequence(), e.getMessage());
+            }
+        }
+
+        if (deleted > 0) {
+
+            log.info("Deleted expired execution segments, deleted: {}, bytes: {}",
+                deleted, total);
+        }
+    }
+
+    /**
+     * Records the location of every execution in a segment, later ones replacing earlier.
+     */
+    private void index(ExecutionSegment segment) {
+
+        try {
+
+            for (int i = 0; i < segment.entries(); i++) {
+
+                locations.put(segment.entry(i).eventHash(), new Location(segment, i));
+            }
+
+        } catch (IOException e) {
+
+            log.warn("Failed to index execution segment, sequence: {}, error: {}",
+                segment.sequence(), e.getMessage());
+        }
+    }
+
+    private void rotate() throws IOException {
+
+        if (active != null) {
+
+            active.seal();
+        }
+
+        active = ExecutionSegment.create(directory, nextSequence++);
+
+        segments.add(active);
+
+        log.debug("Started execution segment, sequence: {}", active.sequence());
+    }
+
+    private synchronized List<ExecutionSegment> newestFirst() {
+
+        return List.copyOf(segments).reversed();
+    }
+
+    private synchronized long bytes() {
+
+        long bytes = 0;
+
+        for (ExecutionSegment segment : segments) {
+
+            bytes += segment.bytes();
+        }
+
+        return bytes;
+    }
+
+    private ExecutionSnapshot read(ExecutionSegment segment, ExecutionSegment.Entry entry)
+        throws IOException {
+
+        try (InputStream in = new InflaterInputStream(
+            new ByteArrayInputStream(segment.read(entry)))) {
+
+            return reader.readValue(in.readAllBytes());
+        }
+    }
+
+    private static byte[] compress(byte[] json) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+
+            out.write(json);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a string; index entries are verified after reading, so
+     * collisions only cost a read.
+     */
+    private static long hash(String value) {
+
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Where an archived execution's index entry is.
+     */
+    private record Location(ExecutionSegment segment, int position) {
+    }
+
+    private Counter failures() {
+
+        return Counter.builder("agentica.workflow.archive.failures")
+            .description("Finished executions that could not be archived")
+            .register(meterRegistry);
+    }
+
+}
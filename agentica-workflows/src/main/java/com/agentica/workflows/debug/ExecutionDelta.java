@@ -0,0 +1,53 @@
+package com.agentica.workflows.debug;
+
+import com.agentica.core.enums.AgentType;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Incremental change to an execution, streamed to the debug dashboard.
+ * Carries only what the dashboard needs to update its view; outputs, prompts and
+ * responses are fetched with the full execution.
+ */
+@Builder(toBuilder = true)
+public record ExecutionDelta(
+
+    /**
+     * Position in the stream across all executions; lost deltas are signalled by a RESYNC
+     * delta instead.
+     */
+    long sequence,
+
+    DeltaType type,
+
+    String eventId,
+
+    String nodeId,
+
+    AgentType agentType,
+
+    ExecutionSnapshot.ExecutionState state,
+
+    Long durationMs,
+
+    String reason,
+
+    Integer replanNumber,
+
+    Instant timestamp
+
+) {
+
+    public enum DeltaType {
+        EXECUTION_STARTED,
+        NODE_STARTED,
+        NODE_COMPLETED,
+        NODE_ESCALATED,
+        REPLANNED,
+        EXECUTION_FINISHED,
+        RESYNC
+    }
+
+}
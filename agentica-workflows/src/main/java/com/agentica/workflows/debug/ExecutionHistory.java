@@ -0,0 +1,424 @@
+package com.agentica.workflows.debug;
+
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.config.ExecutionHistoryConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finished executions kept for the debug UI, partitioned by tenant and indexed by event ID.
+ *
+ * <p>Each tenant gets a ring buffer bounded by both entry count and estimated bytes, so a
+ * busy tenant evicts its own executions instead of everybody's. A total byte budget across
+ * tenants bounds the memory however many tenants there are: past it, the oldest executions
+ * of the largest tenant are evicted, and a tenant left without executions is dropped.
+ * Ring buffers grow on demand, so a tenant with few executions costs little. Adding an
+ * execution and looking one up by event ID are constant time in the number of executions.
+ * Sizes are estimated from the strings a snapshot carries, which are dominated by LLM
+ * prompts and responses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionHistory {
+
+    /**
+     * Partition of executions whose trigger event is unknown.
+     */
+    static final String UNKNOWN_TENANT = "unknown";
+
+    private static final long SNAPSHOT_OVERHEAD_BYTES = 512;
+
+    private static final long NODE_OVERHEAD_BYTES = 256;
+
+    private static final long EXECUTION_OVERHEAD_BYTES = 128;
+
+    private static final int INITIAL_PARTITION_CAPACITY = 16;
+
+    private final ExecutionHistoryConfig config;
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final Map<String, ExecutionSnapshot> index = new ConcurrentHashMap<>();
+
+    /**
+     * Estimated size of all partitions; guarded by this history's lock.
+     */
+    private long totalBytes;
+
+    /**
+     * Adds a finished execution, evicting the oldest executions of its tenant past the
+     * tenant limits, then of the largest tenants past the total limit.
+     *
+     * @param snapshot the finished execution
+     */
+    public synchronized void add(ExecutionSnapshot snapshot) {
+
+        String tenantId = tenantOf(snapshot);
+
+        long bytes = estimateBytes(snapshot);
+
+        index.put(snapshot.eventId(), snapshot);
+
+        Partition partition = partitions.computeIfAbsent(tenantId,
+            ignored -> new Partition(config.getMaxEntries()));
+
+        long before = partition.bytes();
+
+        int evicted = partition.add(snapshot, bytes);
+
+        totalBytes += partition.bytes() - before;
+
+        if (evicted > 0) {
+
+            log.debug("Evicted executions from history, tenantId: {}, evicted: {}",
+                tenantId, evicted);
+        }
+
+        enforceTotalBytes();
+    }
+
+    /**
+     * Evicts the oldest executions of the largest partition until the total fits the budget,
+     * dropping partitions left empty. The last execution is always kept.
+     */
+    private void enforceTotalBytes() {
+
+        while (totalBytes > config.getMaxTotalBytes() && index.size() > 1) {
+
+            Map.Entry<String, Partition> largest = null;
+
+            for (Map.Entry<String, Partition> entry : partitions.entrySet()) {
+
+                if (largest == null || entry.getValue().bytes() > largest.getValue().bytes()) {
+
+                    largest = entry;
+                }
+            }
+
+            if (largest == null) {
+
+                return;
+            }
+
+            totalBytes -= largest.getValue().evictOldest();
+
+            if (largest.getValue().isEmpty()) {
+
+                partitions.remove(largest.getKey(), largest.getValue());
+            }
+
+            log.debug("Evicted execution from history over the total budget, tenantId: {}, "
+                + "totalBytes: {}", largest.getKey(), totalBytes);
+        }
+    }
+
+    /**
+     * Finds a finished execution by event ID.
+     *
+     * @param eventId the event ID
+     * @return the execution, or empty if it was never added or has been evicted
+     */
+    public Optional<ExecutionSnapshot> find(String eventId) {
+
+        return Optional.ofNullable(index.get(eventId));
+    }
+
+    /**
+     * Returns the most recent executions of all tenants, most recent first.
+     *
+     * @param limit maximum number of executions
+     * @return the executions
+     */
+    public List<ExecutionSnapshot> recent(int limit) {
+
+        List<ExecutionSnapshot> recent = new ArrayList<>();
+
+        for (Partition partition : partitions.values()) {
+
+            recent.addAll(partition.recent(limit));
+        }
+
+        return recent.stream()
+            .sorted(Comparator.comparing(ExecutionSnapshot::completedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())))
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Returns the most recent executions of one tenant, most recent first.
+     *
+     * @param tenantId the tenant ID
+     * @param limit maximum number of executions
+     * @return the executions
+     */
+    public List<ExecutionSnapshot> recent(String tenantId, int limit) {
+
+        Partition partition = partitions.get(tenantId);
+
+        return partition != null ? partition.recent(limit) : List.of();
+    }
+
+    /**
+     * Returns the number of executions kept across all tenants.
+     */
+    public int size() {
+
+        return index.size();
+    }
+
+    /**
+     * Removes all executions.
+     */
+    public synchronized void clear() {
+
+        partitions.clear();
+        index.clear();
+
+        totalBytes = 0;
+    }
+
+    static String tenantOf(ExecutionSnapshot snapshot) {
+
+        return snapshot.triggerEvent() != null && snapshot.triggerEvent().tenantId() != null
+            ? snapshot.triggerEvent().tenantId()
+            : UNKNOWN_TENANT;
+    }
+
+    /**
+     * Estimates the heap a snapshot retains, counting two bytes per character of the strings
+     * it carries and a fixed overhead per object that holds them.
+     */
+    static long estimateBytes(ExecutionSnapshot snapshot) {
+
+        long bytes = SNAPSHOT_OVERHEAD_BYTES + chars(snapshot.errorMessage());
+
+        if (snapshot.triggerEvent() != null) {
+
+            bytes += chars(String.valueOf(snapshot.triggerEvent().payload()));
+        }
+
+        if (snapshot.nodeExecutions() != null) {
+
+            for (NodeExecution node : snapshot.nodeExecutions().values()) {
+
+                bytes += NODE_OVERHEAD_BYTES
+                    + chars(node.output() != null ? node.output().toString() : null)
+                    + chars(node.escalationReason())
+                    + chars(node.escalationContext());
+
+                if (node.agentExecutions() != null) {
+
+                    for (AgentExecutionEvent execution : node.agentExecutions()) {
+
+                        bytes += estimateBytes(execution);
+                    }
+                }
+            }
+        }
+
+        if (snapshot.replanHistory() != null) {
+
+            for (ReplanInfo replan : snapshot.replanHistory()) {
+
+                bytes += NODE_OVERHEAD_BYTES
+                    + chars(replan.escalationContext())
+                    + chars(replan.guidance())
+                    + chars(replan.abortReason())
+                    + chars(replan.llmPrompt())
+                    + chars(replan.llmResponse());
+            }
+        }
+
+        if (snapshot.planHistory() != null) {
+
+            for (WorkflowPlan plan : snapshot.planHistory()) {
+
+                bytes += NODE_OVERHEAD_BYTES
+                    * (1 + (plan != null && plan.nodes() != null ? plan.nodes().size() : 0));
+            }
+        }
+
+        return bytes;
+    }
+
+    private static long estimateBytes(AgentExecutionEvent execution) {
+
+        long bytes = EXECUTION_OVERHEAD_BYTES
+            + chars(execution.instruction())
+            + chars(execution.error())
+            + chars(execution.output() != null ? execution.output().toString() : null);
+
+        AgentExecutionEvent.LlmInteraction interaction = execution.llmInteraction();
+
+        if (interaction != null) {
+
+            bytes += chars(interaction.systemPrompt())
+                + chars(interaction.rawRequest())
+                + chars(interaction.rawResponse());
+
+            if (interaction.messages() != null) {
+
+                for (AgentExecutionEvent.Message message : interaction.messages()) {
+
+                    bytes += EXECUTION_OVERHEAD_BYTES / 4 + chars(message.content());
+                }
+            }
+        }
+
+        if (execution.toolCalls() != null) {
+
+            for (AgentExecutionEvent.ToolCall toolCall : execution.toolCalls()) {
+
+                bytes += EXECUTION_OVERHEAD_BYTES
+                    + chars(toolCall.toolInput())
+                    + chars(toolCall.toolOutput())
+                    + chars(toolCall.error());
+            }
+        }
+
+        return bytes;
+    }
+
+    private static long chars(String value) {
+
+        return value != null ? 2L * value.length() : 0;
+    }
+
+    /**
+     * Ring buffer of one tenant's executions, oldest at {@code head}, growing up to its
+     * capacity as executions are added.
+     */
+    private final class Partition {
+
+        private final int capacity;
+
+        private ExecutionSnapshot[] snapshots;
+
+        private long[] sizes;
+
+        private int head;
+
+        private int count;
+
+        private long bytes;
+
+        private Partition(int capacity) {
+
+            this.capacity = Math.max(1, capacity);
+            this.snapshots = new ExecutionSnapshot[Math.min(this.capacity,
+                INITIAL_PARTITION_CAPACITY)];
+            this.sizes = new long[snapshots.length];
+        }
+
+        /**
+         * Appends an execution and returns how many older ones were evicted to make room.
+         * An execution larger than the byte limit on its own is still kept, as the only one.
+         */
+        synchronized int add(ExecutionSnapshot snapshot, long size) {
+
+            int evicted = 0;
+
+            while (count > 0
+                && (count == capacity || bytes + size > config.getMaxBytes())) {
+
+                evictOldest();
+
+                evicted++;
+            }
+
+            if (count == snapshots.length) {
+
+                grow();
+            }
+
+            int tail = (head + count) % snapshots.length;
+
+            snapshots[tail] = snapshot;
+            sizes[tail] = size;
+
+            count++;
+            bytes += size;
+
+            return evicted;
+        }
+
+        synchronized List<ExecutionSnapshot> recent(int limit) {
+
+            int n = Math.min(Math.max(0, limit), count);
+
+            List<ExecutionSnapshot> recent = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++) {
+
+                recent.add(snapshots[(head + count - 1 - i) % snapshots.length]);
+            }
+
+            return recent;
+        }
+
+        synchronized long bytes() {
+
+            return bytes;
+        }
+
+        synchronized boolean isEmpty() {
+
+            return count == 0;
+        }
+
+        /**
+         * Evicts the oldest execution and returns its estimated size.
+         */
+        synchronized long evictOldest() {
+
+            ExecutionSnapshot oldest = snapshots[head];
+
+            long size = sizes[head];
+
+            index.remove(oldest.eventId(), oldest);
+
+            bytes -= size;
+
+            snapshots[head] = null;
+            sizes[head] = 0;
+
+            head = (head + 1) % snapshots.length;
+            count--;
+
+            return size;
+        }
+
+        private void grow() {
+
+            int length = Math.min(capacity, snapshots.length * 2);
+
+            ExecutionSnapshot[] grownSnapshots = new ExecutionSnapshot[length];
+
+            long[] grownSizes = new long[length];
+
+            for (int i = 0; i < count; i++) {
+
+                grownSnapshots[i] = snapshots[(head + i) % snapshots.length];
+                grownSizes[i] = sizes[(head + i) % snapshots.length];
+            }
+
+            snapshots = grownSnapshots;
+            sizes = grownSizes;
+            head = 0;
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.agentica.workflows.debug;
+
+import com.agentica.core.domain.Event;
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.resource.ResourceUsage;
+import com.agentica.core.workflow.WorkflowPlan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the execution of one workflow for the debug UI.
+ *
+ * <p>Updates mutate the recorder in place, so each one costs the same however long the
+ * execution already is. The workflow event bus delivers an execution's events from a single
+ * thread, so there is one writer. An immutable {@link ExecutionSnapshot} is only built when
+ * the debug API reads the execution, and is reused until the next update. Every update
+ * increments the execution's version, so readers can tell whether anything changed.
+ *
+ * <p>Times are taken from the domain events rather than from their delivery, so the bus's
+ * queueing delay never shows up in the timeline or the durations.
+ */
+public class ExecutionRecorder {
+
+    private final String eventId;
+
+    private final Event triggerEvent;
+
+    private final Instant startedAt;
+
+    private final Map<String, NodeRecord> nodes = new HashMap<>();
+
+    private final List<String> executionOrder = new ArrayList<>();
+
+    private final List<WorkflowPlan> planHistory = new ArrayList<>();
+
+    private final List<ReplanInfo> replanHistory = new ArrayList<>();
+
+    private WorkflowPlan plan;
+
+    private ExecutionSnapshot.ExecutionState state = ExecutionSnapshot.ExecutionState.RUNNING;
+
+    private String activeNodeId;
+
+    private Instant completedAt;
+
+    private long totalDurationMs;
+
+    private String errorMessage;
+
+    private long version;
+
+    private ExecutionSnapshot snapshot;
+
+    public ExecutionRecorder(String eventId, WorkflowPlan plan, Event triggerEvent,
+                             Instant startedAt) {
+
+        this.eventId = eventId;
+        this.triggerEvent = triggerEvent;
+        this.plan = plan;
+        this.startedAt = startedAt;
+
+        planHistory.add(plan);
+    }
+
+    /**
+     * Records that a node has started execution.
+     * Keeps an entry already opened by agent execution data that arrived first.
+     */
+    public synchronized void nodeStarted(String nodeId, AgentType agentType, Instant startedAt) {
+
+        NodeRecord existing = nodes.get(nodeId);
+
+        if (existing != null && existing.status == NodeExecution.NodeStatus.RUNNING) {
+
+            existing.agentType = agentType;
+
+            if (startedAt.isBefore(existing.startedAt)) {
+
+                existing.startedAt = startedAt;
+            }
+
+        } else {
+
+            open(nodeId, agentType, startedAt);
+        }
+
+        activeNodeId = nodeId;
+        changed();
+    }
+
+    /**
+     * Records that a node has completed successfully, with the CPU time and allocation of
+     * its own work.
+     */
+    public synchronized void nodeCompleted(String nodeId, Object output, long durationMs,
+                                           ResourceUsage resources, Instant completedAt) {
+
+        NodeRecord node = nodes.get(nodeId);
+
+        if (node != null) {
+
+            node.status = NodeExecution.NodeStatus.COMPLETED;
+            node.completedAt = completedAt;
+            node.durationMs = durationMs;
+            node.resources = resources;
+            node.output = output;
+        }
+
+        activeNodeId = null;
+        changed();
+    }
+
+    /**
+     * Records that a node has escalated to the orchestrator.
+     */
+    public synchronized void nodeEscalated(String nodeId, String reason, String context,
+                                           Instant escalatedAt) {
+
+        NodeRecord node = nodes.get(nodeId);
+
+        if (node != null) {
+
+            node.status = NodeExecution.NodeStatus.ESCALATED;
+            node.completedAt = escalatedAt;
+            node.durationMs = node.completedAt.toEpochMilli() - node.startedAt.toEpochMilli();
+            node.escalationReason = reason;
+            node.escalationContext = context;
+        }
+
+        activeNodeId = null;
+        changed();
+    }
+
+    /**
+     * Records a replan event with full details.
+     */
+    public synchronized void replanOccurred(ReplanInfo replanInfo) {
+
+        plan = replanInfo.newPlan();
+
+        planHistory.add(replanInfo.newPlan());
+        replanHistory.add(replanInfo);
+
+        changed();
+    }
+
+    /**
+     * Records a replan event (simple version for backwards compatibility).
+     */
+    public synchronized void replanOccurred(WorkflowPlan newPlan) {
+
+        replanOccurred(ReplanInfo.builder()
+            .replanNumber(replanHistory.size() + 1)
+            .newPlan(newPlan)
+            .previousPlan(plan)
+            .build());
+    }
+
+    /**
+     * Adds rich agent execution data to a node.
+     * Node events are published once the node has run, so LLM and tool data usually
+     * arrives first; in that case a RUNNING entry is opened for the node.
+     */
+    public synchronized void addAgentExecution(String nodeId, AgentExecutionEvent executionEvent) {
+
+        NodeRecord node = nodes.get(nodeId);
+
+        if (node == null || node.status != NodeExecution.NodeStatus.RUNNING) {
+
+            node = open(nodeId, executionEvent.agentType(), executionEvent.timestamp());
+        }
+
+        node.agentExecutions.add(executionEvent);
+
+        changed();
+    }
+
+    /**
+     * Marks the execution as finished in the given state.
+     */
+    public synchronized void complete(ExecutionSnapshot.ExecutionState finalState,
+                                      Instant completedAt) {
+
+        finish(finalState, null, completedAt);
+    }
+
+    /**
+     * Marks the execution as failed with an error message.
+     */
+    public synchronized void failed(String error, Instant completedAt) {
+
+        finish(ExecutionSnapshot.ExecutionState.FAILED, error, completedAt);
+    }
+
+    /**
+     * Returns an immutable view of the execution, built on the first read after an update.
+     */
+    public synchronized ExecutionSnapshot snapshot() {
+
+        if (snapshot == null) {
+
+            Map<String, NodeExecution> nodeExecutions = new LinkedHashMap<>();
+
+            for (String nodeId : executionOrder) {
+
+                nodeExecutions.put(nodeId, nodes.get(nodeId).toNodeExecution());
+            }
+
+            snapshot = ExecutionSnapshot.builder()
+                .eventId(eventId)
+                .version(version)
+                .triggerEvent(triggerEvent)
+                .plan(plan)
+                .state(state)
+                .activeNodeId(activeNodeId)
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .totalDurationMs(totalDurationMs)
+                .nodeExecutions(nodeExecutions)
+                .executionOrder(List.copyOf(executionOrder))
+                .replanCount(replanHistory.size())
+                .errorMessage(errorMessage)
+                .planHistory(List.copyOf(planHistory))
+                .replanHistory(List.copyOf(replanHistory))
+                .build();
+        }
+
+        return snapshot;
+    }
+
+    private void changed() {
+
+        version++;
+        snapshot = null;
+    }
+
+    private NodeRecord open(String nodeId, AgentType agentType, Instant startedAt) {
+
+        NodeRecord node = new NodeRecord(nodeId, agentType, startedAt);
+
+        nodes.put(nodeId, node);
+        executionOrder.add(nodeId);
+
+        return node;
+    }
+
+    private void finish(ExecutionSnapshot.ExecutionState finalState, String error,
+                        Instant completedAt) {
+
+        this.completedAt = completedAt;
+        totalDurationMs = completedAt.toEpochMilli() - startedAt.toEpochMilli();
+        state = finalState;
+        activeNodeId = null;
+        errorMessage = error;
+        changed();
+    }
+
+    /**
+     * Mutable state of a node's latest run.
+     */
+    private static final class NodeRecord {
+
+        private final String nodeId;
+
+        private final List<AgentExecutionEvent> agentExecutions = new ArrayList<>();
+
+        private AgentType agentType;
+
+        private Instant startedAt;
+
+        private NodeExecution.NodeStatus status = NodeExecution.NodeStatus.RUNNING;
+
+        private Instant completedAt;
+
+        private long durationMs;
+
+        private ResourceUsage resources = ResourceUsage.UNMEASURED;
+
+        private Object output;
+
+        private String escalationReason;
+
+        private String escalationContext;
+
+        private NodeRecord(String nodeId, AgentType agentType, Instant startedAt) {
+
+            this.nodeId = nodeId;
+            this.agentType = agentType;
+            this.startedAt = startedAt;
+        }
+
+        private NodeExecution toNodeExecution() {
+
+            return NodeExecution.builder()
+                .nodeId(nodeId)
+                .agentType(agentType)
+                .status(status)
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .durationMs(durationMs)
+                .cpuNanos(resources.cpuNanos())
+                .allocatedBytes(resources.allocatedBytes())
+                .output(output)
+                .escalationReason(escalationReason)
+                .escalationContext(escalationContext)
+                .agentExecutions(List.copyOf(agentExecutions))
+                .build();
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.agentica.workflows.debug;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One segment of the execution archive: a data file of compressed snapshots and an index
+ * file of fixed-width entries pointing into it.
+ *
+ * <p>An index entry holds hashes of the event and tenant IDs, the completion time, and the
+ * offset and length of the snapshot in the data file. Entries are appended in completion
+ * order, so the index doubles as a time index. Lookups read the index through a memory
+ * mapping that is extended as the segment grows. A snapshot is written before its index
+ * entry, so a crash can leave unreferenced data but never an entry without data.
+ */
+class ExecutionSegment implements Closeable {
+
+    static final String DATA_SUFFIX = ".seg";
+
+    static final String INDEX_SUFFIX = ".idx";
+
+    static final int ENTRY_BYTES = 36;
+
+    private final long sequence;
+
+    private final Path dataPath;
+
+    private final Path indexPath;
+
+    private final FileChannel reader;
+
+    private FileChannel dataWriter;
+
+    private FileChannel indexWriter;
+
+    private MappedByteBuffer index;
+
+    private int entries;
+
+    private long dataBytes;
+
+    private long lastCompletedAtMillis;
+
+    private ExecutionSegment(long sequence, Path dataPath, Path indexPath, boolean writable)
+        throws IOException {
+
+        this.sequence = sequence;
+        this.dataPath = dataPath;
+        this.indexPath = indexPath;
+
+        if (writable) {
+
+            this.dataWriter = FileChannel.open(dataPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            this.indexWriter = FileChannel.open(indexPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        this.reader = FileChannel.open(dataPath, StandardOpenOption.READ);
+        this.dataBytes = reader.size();
+
+        try (FileChannel indexReader = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+
+            this.entries = (int) (indexReader.size() / ENTRY_BYTES);
+        }
+
+        while (entries > 0 && entry(entries - 1).end() > dataBytes) {
+
+            entries--;
+        }
+
+        this.lastCompletedAtMillis = entries > 0 ? entry(entries - 1).completedAtMillis() : 0;
+    }
+
+    /**
+     * Creates an empty segment that executions are appended to.
+     */
+    static ExecutionSegment create(Path directory, long sequence) throws IOException {
+
+        Path dataPath = directory.resolve(name(sequence) + DATA_SUFFIX);
+
+        Path indexPath = directory.resolve(name(sequence) + INDEX_SUFFIX);
+
+        return new ExecutionSegment(sequence, dataPath, indexPath, true);
+    }
+
+    /**
+     * Opens a sealed segment for reading. Index entries torn by a crash are ignored.
+     */
+    static ExecutionSegment open(Path dataPath, long sequence) throws IOException {
+
+        Path indexPath = dataPath.resolveSibling(name(sequence) + INDEX_SUFFIX);
+
+        if (!Files.exists(indexPath)) {
+
+            Files.createFile(indexPath);
+        }
+
+        return new ExecutionSegment(sequence, dataPath, indexPath, false);
+    }
+
+    /**
+     * Returns the sequence number encoded in a segment data file name, or -1 if the file is
+     * not a segment.
+     */
+    static long sequenceOf(Path path) {
+
+        String fileName = path.getFileName().toString();
+
+        if (!fileName.endsWith(DATA_SUFFIX)) {
+
+            return -1;
+        }
+
+        try {
+
+            return Long.parseLong(fileName.substring(0, fileName.length() - DATA_SUFFIX.length()));
+
+        } catch (NumberFormatException e) {
+
+            return -1;
+        }
+    }
+
+    /**
+     * Appends a compressed snapshot and its index entry.
+     */
+    synchronized void append(long eventHash, long tenantHash, long completedAtMillis,
+        byte[] data) throws IOException {
+
+        if (dataWriter == null) {
+
+            throw new IOException("Segment is sealed: " + dataPath);
+        }
+
+        long offset = dataBytes;
+
+        writeFully(dataWriter, ByteBuffer.wrap(data));
+
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES)
+            .putLong(eventHash)
+            .putLong(tenantHash)
+            .putLong(completedAtMillis)
+            .putLong(offset)
+            .putInt(data.length)
+            .flip();
+
+        writeFully(indexWriter, entry);
+
+        dataBytes += data.length;
+        entries++;
+        lastCompletedAtMillis = completedAtMillis;
+    }
+
+    /**
+     * Stops accepting appends.
+     */
+    synchronized void seal() throws IOException {
+
+        if (dataWriter != null) {
+
+            dataWriter.force(true);
+            indexWriter.force(true);
+
+            dataWriter.close();
+            indexWriter.close();
+
+            dataWriter = null;
+            indexWriter = null;
+        }
+    }
+
+    synchronized int entries() {
+
+        return entries;
+    }
+
+    /**
+     * Returns the index entry at the given position, oldest first.
+     */
+    synchronized Entry entry(int position) throws IOException {
+
+        if (index == null || index.capacity() < (long) (position + 1) * ENTRY_BYTES) {
+
+            try (FileChannel indexReader = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+
+                index = indexReader.map(FileChannel.MapMode.READ_ONLY, 0, indexReader.size());
+            }
+        }
+
+        int at = position * ENTRY_BYTES;
+
+        return new Entry(index.getLong(at), index.getLong(at + 8), index.getLong(at + 16),
+            index.getLong(at + 24), index.getInt(at + 32));
+    }
+
+    /**
+     * Reads the compressed snapshot an index entry points to.
+     */
+    byte[] read(Entry entry) throws IOException {
+
+        ByteBuffer data = ByteBuffer.allocate(entry.length());
+
+        while (data.hasRemaining()) {
+
+            if (reader.read(data, entry.offset() + data.position()) < 0) {
+
+                throw new EOFException("Segment truncated: " + dataPath);
+            }
+        }
+
+        return data.array();
+    }
+
+    long sequence() {
+
+        return sequence;
+    }
+
+    synchronized long bytes() {
+
+        return dataBytes + (long) entries * ENTRY_BYTES;
+    }
+
+    synchronized long lastCompletedAtMillis() {
+
+        return lastCompletedAtMillis;
+    }
+
+    synchronized boolean isSealed() {
+
+        return dataWriter == null;
+    }
+
+    /**
+     * Closes the segment and deletes its files.
+     */
+    void delete() throws IOException {
+
+        close();
+
+        Files.deleteIfExists(dataPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+
+        seal();
+
+        reader.close();
+
+        index = null;
+    }
+
+    private static String name(long sequence) {
+
+        return String.format("%020d", sequence);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+        while (buffer.hasRemaining()) {
+
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Index entry of one archived execution.
+     */
+    record Entry(long eventHash, long tenantHash, long completedAtMillis, long offset,
+        int length) {
+
+        long end() {
+
+            return offset + length;
+        }
+    }
+
+}
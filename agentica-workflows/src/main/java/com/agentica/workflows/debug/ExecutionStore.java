@@ -3,35 +3,48 @@ package com.agentica.workflows.debug;
 import com.agentica.core.domain.Event;
 import com.agentica.core.enums.AgentType;
 import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.resource.ResourceUsage;
 import com.agentica.core.workflow.WorkflowPlan;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 
-import java.util.Deque;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Simple storage for execution snapshots.
  * Does NOT know about the workflow execution - only stores data received from events.
+ * Running executions are kept as recorders that are updated in place; snapshots of them
+ * are built when read. Finished executions move to the bounded {@link ExecutionHistory}
+ * and are written to the {@link ExecutionArchive}; reads fall back to the archive for
+ * executions that are no longer in memory.
  *
  * <p>This component is completely decoupled from the core execution logic.
  * Data is populated by WorkflowEventObserver which listens to domain events.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ExecutionStore {
 
-    private static final int MAX_HISTORY = 50;
+    private final Map<String, ExecutionRecorder> currentExecutions = new ConcurrentHashMap<>();
 
-    private final Map<String, ExecutionSnapshot> currentExecutions = new ConcurrentHashMap<>();
+    private final AtomicLong historyVersion = new AtomicLong();
 
-    private final Deque<ExecutionSnapshot> history = new ConcurrentLinkedDeque<>();
+    private final ExecutionHistory history;
+
+    private final ExecutionArchive archive;
 
     /**
      * Stores a new execution snapshot when a workflow starts.
@@ -41,7 +54,7 @@ public class ExecutionStore {
      */
     public void startExecution(String eventId, WorkflowPlan plan) {
 
-        startExecution(eventId, plan, null);
+        startExecution(eventId, plan, null, Instant.now());
     }
 
     /**
@@ -50,12 +63,13 @@ public class ExecutionStore {
      * @param eventId the event ID being processed
      * @param plan the initial workflow plan
      * @param triggerEvent the event that triggered this workflow
+     * @param startedAt when the workflow started
      */
-    public void startExecution(String eventId, WorkflowPlan plan, Event triggerEvent) {
-
-        ExecutionSnapshot snapshot = ExecutionSnapshot.start(eventId, plan, triggerEvent);
+    public void startExecution(String eventId, WorkflowPlan plan, Event triggerEvent,
+                               Instant startedAt) {
 
-        currentExecutions.put(eventId, snapshot);
+        currentExecutions.put(eventId,
+            new ExecutionRecorder(eventId, plan, triggerEvent, startedAt));
 
         log.debug("Stored execution start, eventId: {}, workflowName: {}, hasEvent: {}",
             eventId, plan.workflowName(), triggerEvent != null);
@@ -67,15 +81,19 @@ public class ExecutionStore {
      * @param eventId the event ID
      * @param nodeId the node ID
      * @param agentType the type of agent executing
+     * @param startedAt when the node started
      */
-    public void nodeStarted(String eventId, String nodeId, AgentType agentType) {
+    public void nodeStarted(String eventId, String nodeId, AgentType agentType,
+                            Instant startedAt) {
+
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        if (recorder != null) {
 
             log.debug("Storing node start, eventId: {}, nodeId: {}", eventId, nodeId);
 
-            return snapshot.nodeStarted(nodeId, agentType);
-        });
+            recorder.nodeStarted(nodeId, agentType, startedAt);
+        }
     }
 
     /**
@@ -85,15 +103,20 @@ public class ExecutionStore {
      * @param nodeId the node ID
      * @param output the node's output
      * @param durationMs execution duration in milliseconds
+     * @param resources CPU time and allocation of the node's own work
+     * @param completedAt when the node completed
      */
-    public void nodeCompleted(String eventId, String nodeId, Object output, long durationMs) {
+    public void nodeCompleted(String eventId, String nodeId, Object output, long durationMs,
+                              ResourceUsage resources, Instant completedAt) {
+
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        if (recorder != null) {
 
             log.debug("Storing node completion, eventId: {}, nodeId: {}", eventId, nodeId);
 
-            return snapshot.nodeCompleted(nodeId, output, durationMs);
-        });
+            recorder.nodeCompleted(nodeId, output, durationMs, resources, completedAt);
+        }
     }
 
     /**
@@ -103,15 +126,19 @@ public class ExecutionStore {
      * @param nodeId the node ID
      * @param reason the escalation reason
      * @param context additional context
+     * @param escalatedAt when the node escalated
      */
-    public void nodeEscalated(String eventId, String nodeId, String reason, String context) {
+    public void nodeEscalated(String eventId, String nodeId, String reason, String context,
+                              Instant escalatedAt) {
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
+
+        if (recorder != null) {
 
             log.debug("Storing node escalation, eventId: {}, nodeId: {}", eventId, nodeId);
 
-            return snapshot.nodeEscalated(nodeId, reason, context);
-        });
+            recorder.nodeEscalated(nodeId, reason, context, escalatedAt);
+        }
     }
 
     /**
@@ -122,13 +149,15 @@ public class ExecutionStore {
      */
     public void replanOccurred(String eventId, WorkflowPlan newPlan) {
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
+
+        if (recorder != null) {
 
             log.debug("Storing replan, eventId: {}, newVersion: {}",
                 eventId, newPlan.version());
 
-            return snapshot.replanOccurred(newPlan);
-        });
+            recorder.replanOccurred(newPlan);
+        }
     }
 
     /**
@@ -139,17 +168,20 @@ public class ExecutionStore {
      */
     public void replanOccurred(String eventId, ReplanInfo replanInfo) {
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
+
+        if (recorder != null) {
 
             log.debug("Storing replan with details, eventId: {}, action: {}, triggerNode: {}",
                 eventId, replanInfo.action(), replanInfo.triggerNodeId());
 
-            return snapshot.replanOccurred(replanInfo);
-        });
+            recorder.replanOccurred(replanInfo);
+        }
     }
 
     /**
      * Adds rich agent execution data to a node.
+     * Orchestrator calls carry no node ID and are not attached to a node.
      *
      * @param eventId the event ID
      * @param nodeId the node ID
@@ -157,13 +189,20 @@ public class ExecutionStore {
      */
     public void addAgentExecution(String eventId, String nodeId, AgentExecutionEvent executionEvent) {
 
-        currentExecutions.computeIfPresent(eventId, (k, snapshot) -> {
+        if (nodeId == null) {
+
+            return;
+        }
+
+        ExecutionRecorder recorder = currentExecutions.get(eventId);
+
+        if (recorder != null) {
 
             log.debug("Storing agent execution, eventId: {}, nodeId: {}, phase: {}",
                 eventId, nodeId, executionEvent.phase());
 
-            return snapshot.addAgentExecution(nodeId, executionEvent);
-        });
+            recorder.addAgentExecution(nodeId, executionEvent);
+        }
     }
 
     /**
@@ -171,18 +210,24 @@ public class ExecutionStore {
      *
      * @param eventId the event ID
      * @param state the final execution state
+     * @param completedAt when the execution finished
      */
-    public void executionCompleted(String eventId, ExecutionSnapshot.ExecutionState state) {
+    public void executionCompleted(String eventId, ExecutionSnapshot.ExecutionState state,
+                                   Instant completedAt) {
+
+        ExecutionRecorder recorder = currentExecutions.remove(eventId);
+
+        if (recorder != null) {
 
-        ExecutionSnapshot snapshot = currentExecutions.remove(eventId);
+            recorder.complete(state, completedAt);
 
-        if (snapshot != null) {
+            ExecutionSnapshot completed = recorder.snapshot();
 
-            ExecutionSnapshot completed = snapshot.complete(state);
+            history.add(completed);
 
-            history.addFirst(completed);
+            archive.append(completed);
 
-            trimHistory();
+            historyVersion.incrementAndGet();
 
             log.info("Stored execution completion, eventId: {}, state: {}, durationMs: {}",
                 eventId, state, completed.totalDurationMs());
@@ -194,18 +239,23 @@ public class ExecutionStore {
      *
      * @param eventId the event ID
      * @param errorMessage the error message
+     * @param completedAt when the execution failed
      */
-    public void executionFailed(String eventId, String errorMessage) {
+    public void executionFailed(String eventId, String errorMessage, Instant completedAt) {
+
+        ExecutionRecorder recorder = currentExecutions.remove(eventId);
+
+        if (recorder != null) {
 
-        ExecutionSnapshot snapshot = currentExecutions.remove(eventId);
+            recorder.failed(errorMessage, completedAt);
 
-        if (snapshot != null) {
+            ExecutionSnapshot failed = recorder.snapshot();
 
-            ExecutionSnapshot failed = snapshot.failed(errorMessage);
+            history.add(failed);
 
-            history.addFirst(failed);
+            archive.append(failed);
 
-            trimHistory();
+            historyVersion.incrementAndGet();
 
             log.warn("Stored execution failure, eventId: {}, error: {}",
                 eventId, errorMessage);
@@ -219,7 +269,7 @@ public class ExecutionStore {
      */
     public Optional<ExecutionSnapshot> getCurrent() {
 
-        return currentExecutions.values().stream().findFirst();
+        return currentExecutions.values().stream().findFirst().map(ExecutionRecorder::snapshot);
     }
 
     /**
@@ -230,17 +280,40 @@ public class ExecutionStore {
      */
     public Optional<ExecutionSnapshot> getCurrentByEventId(String eventId) {
 
-        return Optional.ofNullable(currentExecutions.get(eventId));
+        return Optional.ofNullable(currentExecutions.get(eventId)).map(ExecutionRecorder::snapshot);
     }
 
     /**
-     * Returns the execution history (most recent first).
+     * Returns the execution history of all tenants (most recent first).
      *
+     * @param limit maximum number of executions
      * @return immutable list of recent executions
      */
-    public List<ExecutionSnapshot> getHistory() {
+    public List<ExecutionSnapshot> getHistory(int limit) {
 
-        return List.copyOf(history);
+        return withArchived(history.recent(limit), null, limit);
+    }
+
+    /**
+     * Returns the execution history of one tenant (most recent first).
+     *
+     * @param tenantId the tenant ID
+     * @param limit maximum number of executions
+     * @return immutable list of recent executions
+     */
+    public List<ExecutionSnapshot> getHistory(String tenantId, int limit) {
+
+        return withArchived(history.recent(tenantId, limit), tenantId, limit);
+    }
+
+    /**
+     * Returns a version of the history that changes whenever an execution finishes.
+     *
+     * @return the history version
+     */
+    public long getHistoryVersion() {
+
+        return historyVersion.get();
     }
 
     /**
@@ -251,16 +324,14 @@ public class ExecutionStore {
      */
     public Optional<ExecutionSnapshot> findByEventId(String eventId) {
 
-        ExecutionSnapshot current = currentExecutions.get(eventId);
+        ExecutionRecorder current = currentExecutions.get(eventId);
 
         if (current != null) {
 
-            return Optional.of(current);
+            return Optional.of(current.snapshot());
         }
 
-        return history.stream()
-            .filter(snapshot -> eventId.equals(snapshot.eventId()))
-            .findFirst();
+        return history.find(eventId).or(() -> archive.find(eventId));
     }
 
     /**
@@ -273,15 +344,35 @@ public class ExecutionStore {
 
         history.clear();
 
+        historyVersion.incrementAndGet();
+
         log.debug("Execution store cleared");
     }
 
-    private void trimHistory() {
+    /**
+     * Fills up recent executions held in memory with older ones from the archive.
+     */
+    private List<ExecutionSnapshot> withArchived(List<ExecutionSnapshot> recent, String tenantId,
+        int limit) {
 
-        while (history.size() > MAX_HISTORY) {
+        if (recent.size() >= limit) {
 
-            history.removeLast();
+            return recent;
         }
+
+        Set<String> inMemory = recent.stream()
+            .map(ExecutionSnapshot::eventId)
+            .collect(Collectors.toSet());
+
+        List<ExecutionSnapshot> merged = new ArrayList<>(recent);
+
+        merged.addAll(archive.recent(tenantId, limit, inMemory));
+
+        return merged.stream()
+            .sorted(Comparator.comparing(ExecutionSnapshot::completedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())))
+            .limit(limit)
+            .toList();
     }
 
 }
@@ -31,6 +31,17 @@ public record NodeExecution(
 
     long durationMs,
 
+    /**
+     * CPU time of the node's own work, such as building its prompt, or -1 if it could not
+     * be measured.
+     */
+    long cpuNanos,
+
+    /**
+     * Bytes allocated by the node's own work, or -1 if it could not be measured.
+     */
+    long allocatedBytes,
+
     Object output,
 
     String escalationReason,
@@ -0,0 +1,19 @@
+package com.agentica.workflows.debug;
+
+/**
+ * What the debug stream does with a subscriber that cannot keep up with execution deltas.
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * Discards the subscriber's buffered deltas and sends a resync marker, after which the
+     * dashboard reloads the full state.
+     */
+    RESYNC,
+
+    /**
+     * Closes the subscriber's stream; the dashboard reconnects and reloads the full state.
+     */
+    DISCONNECT
+
+}
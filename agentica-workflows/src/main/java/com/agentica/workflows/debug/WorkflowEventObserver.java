@@ -6,12 +6,13 @@ import com.agentica.core.event.workflow.NodeEscalatedEvent;
 import com.agentica.core.event.workflow.NodeStartedEvent;
 import com.agentica.core.event.workflow.WorkflowCompletedEvent;
 import com.agentica.core.event.workflow.WorkflowReplanEvent;
+import com.agentica.core.event.workflow.WorkflowEvent;
 import com.agentica.core.event.workflow.WorkflowStartedEvent;
+import com.agentica.workflows.bus.WorkflowEventSubscriber;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
@@ -19,26 +20,50 @@ import org.springframework.stereotype.Component;
  * This completely decouples the debug/observability layer from core execution logic.
  *
  * <p>The core workflow executor publishes domain events via Spring's ApplicationEventPublisher.
- * This observer listens to those events and builds the ExecutionSnapshot for the debug UI.
+ * The workflow event bus delivers them to this observer off the workflow's thread, and it
+ * builds the ExecutionSnapshot for the debug UI. Each change is also published to the
+ * {@link DebugStream} as an {@link ExecutionDelta} for connected dashboards.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class WorkflowEventObserver {
+public class WorkflowEventObserver implements WorkflowEventSubscriber {
 
     private final ExecutionStore executionStore;
 
-    @EventListener
-    public void onWorkflowStarted(WorkflowStartedEvent event) {
+    private final DebugStream debugStream;
+
+    @Override
+    public void onEvent(WorkflowEvent event) {
+
+        switch (event) {
+            case WorkflowStartedEvent started -> onWorkflowStarted(started);
+            case WorkflowCompletedEvent completed -> onWorkflowCompleted(completed);
+            case WorkflowReplanEvent replan -> onWorkflowReplan(replan);
+            case NodeStartedEvent started -> onNodeStarted(started);
+            case NodeCompletedEvent completed -> onNodeCompleted(completed);
+            case NodeEscalatedEvent escalated -> onNodeEscalated(escalated);
+            case AgentExecutionEvent execution -> onAgentExecution(execution);
+        }
+    }
+
+    private void onWorkflowStarted(WorkflowStartedEvent event) {
 
         log.debug("Observed workflow started, eventId: {}, workflowName: {}, hasEvent: {}",
             event.eventId(), event.plan().workflowName(), event.triggerEvent() != null);
 
-        executionStore.startExecution(event.eventId(), event.plan(), event.triggerEvent());
+        executionStore.startExecution(event.eventId(), event.plan(), event.triggerEvent(),
+            event.timestamp());
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.EXECUTION_STARTED)
+            .eventId(event.eventId())
+            .state(ExecutionSnapshot.ExecutionState.RUNNING)
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onWorkflowCompleted(WorkflowCompletedEvent event) {
+    private void onWorkflowCompleted(WorkflowCompletedEvent event) {
 
         log.debug("Observed workflow completed, eventId: {}, status: {}",
             event.eventId(), event.status());
@@ -47,20 +72,29 @@ public class WorkflowEventObserver {
             case COMPLETED -> ExecutionSnapshot.ExecutionState.COMPLETED;
             case ABORTED -> ExecutionSnapshot.ExecutionState.ABORTED;
             case FAILED -> ExecutionSnapshot.ExecutionState.FAILED;
+            case DEFERRED -> ExecutionSnapshot.ExecutionState.DEFERRED;
         };
 
-        if (event.errorMessage() != null) {
+        if (event.errorMessage() != null && state != ExecutionSnapshot.ExecutionState.DEFERRED) {
 
-            executionStore.executionFailed(event.eventId(), event.errorMessage());
+            executionStore.executionFailed(event.eventId(), event.errorMessage(),
+                event.timestamp());
 
         } else {
 
-            executionStore.executionCompleted(event.eventId(), state);
+            executionStore.executionCompleted(event.eventId(), state, event.timestamp());
         }
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.EXECUTION_FINISHED)
+            .eventId(event.eventId())
+            .state(state)
+            .reason(event.errorMessage())
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onWorkflowReplan(WorkflowReplanEvent event) {
+    private void onWorkflowReplan(WorkflowReplanEvent event) {
 
         log.debug("Observed workflow replan, eventId: {}, replanNumber: {}, action: {}, triggerNode: {}",
             event.eventId(),
@@ -105,28 +139,53 @@ public class WorkflowEventObserver {
         );
 
         executionStore.replanOccurred(event.eventId(), replanInfo);
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.REPLANNED)
+            .eventId(event.eventId())
+            .nodeId(event.triggerNodeId())
+            .reason(event.escalationReason())
+            .replanNumber(event.replanNumber())
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onNodeStarted(NodeStartedEvent event) {
+    private void onNodeStarted(NodeStartedEvent event) {
 
         log.debug("Observed node started, eventId: {}, nodeId: {}, agentType: {}",
             event.eventId(), event.nodeId(), event.agentType());
 
-        executionStore.nodeStarted(event.eventId(), event.nodeId(), event.agentType());
+        executionStore.nodeStarted(event.eventId(), event.nodeId(), event.agentType(),
+            event.timestamp());
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.NODE_STARTED)
+            .eventId(event.eventId())
+            .nodeId(event.nodeId())
+            .agentType(event.agentType())
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onNodeCompleted(NodeCompletedEvent event) {
+    private void onNodeCompleted(NodeCompletedEvent event) {
 
         log.debug("Observed node completed, eventId: {}, nodeId: {}, durationMs: {}",
             event.eventId(), event.nodeId(), event.durationMs());
 
-        executionStore.nodeCompleted(event.eventId(), event.nodeId(), event.output(), event.durationMs());
+        executionStore.nodeCompleted(event.eventId(), event.nodeId(), event.output(),
+            event.durationMs(), event.resources(), event.timestamp());
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.NODE_COMPLETED)
+            .eventId(event.eventId())
+            .nodeId(event.nodeId())
+            .agentType(event.agentType())
+            .durationMs(event.durationMs())
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onNodeEscalated(NodeEscalatedEvent event) {
+    private void onNodeEscalated(NodeEscalatedEvent event) {
 
         log.debug("Observed node escalated, eventId: {}, nodeId: {}, reason: {}",
             event.eventId(), event.nodeId(), event.escalationReason());
@@ -135,12 +194,22 @@ public class WorkflowEventObserver {
             event.eventId(),
             event.nodeId(),
             event.escalationReason(),
-            event.escalationContext()
+            event.escalationContext(),
+            event.timestamp()
         );
+
+        debugStream.publish(ExecutionDelta.builder()
+            .type(ExecutionDelta.DeltaType.NODE_ESCALATED)
+            .eventId(event.eventId())
+            .nodeId(event.nodeId())
+            .agentType(event.agentType())
+            .durationMs(event.durationMs())
+            .reason(event.escalationReason())
+            .timestamp(event.timestamp())
+            .build());
     }
 
-    @EventListener
-    public void onAgentExecution(AgentExecutionEvent event) {
+    private void onAgentExecution(AgentExecutionEvent event) {
 
         log.debug("Observed agent execution, eventId: {}, nodeId: {}, phase: {}",
             event.eventId(), event.nodeId(), event.phase());
@@ -0,0 +1,57 @@
+package com.agentica.workflows.engine;
+
+import com.agentica.core.state.AgenticaState;
+import java.util.Map;
+import org.bsc.langgraph4j.GraphStateException;
+import org.bsc.langgraph4j.StateGraph;
+import org.bsc.langgraph4j.action.AsyncEdgeAction;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+
+/**
+ * Target a workflow plan is wired into: a LangGraph4j StateGraph or a {@link NativeGraph}.
+ * Both engines are populated by the same code, so they share node actions, escalation
+ * routing and edge semantics.
+ */
+public interface GraphSink {
+
+  void addNode(String id, AsyncNodeAction<AgenticaState> action) throws GraphStateException;
+
+  void addEdge(String from, String to) throws GraphStateException;
+
+  void addConditionalEdges(String from, AsyncEdgeAction<AgenticaState> route,
+      Map<String, String> targets) throws GraphStateException;
+
+  /**
+   * Adapts a LangGraph4j StateGraph.
+   *
+   * @param graph the graph to populate
+   * @return the sink
+   */
+  static GraphSink of(final StateGraph<AgenticaState> graph) {
+
+    return new GraphSink() {
+
+      @Override
+      public void addNode(final String id, final AsyncNodeAction<AgenticaState> action)
+          throws GraphStateException {
+
+        graph.addNode(id, action);
+      }
+
+      @Override
+      public void addEdge(final String from, final String to) throws GraphStateException {
+
+        graph.addEdge(from, to);
+      }
+
+      @Override
+      public void addConditionalEdges(final String from,
+          final AsyncEdgeAction<AgenticaState> route, final Map<String, String> targets)
+          throws GraphStateException {
+
+        graph.addConditionalEdges(from, route, targets);
+      }
+    };
+  }
+
+}
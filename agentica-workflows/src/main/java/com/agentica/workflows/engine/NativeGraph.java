@@ -0,0 +1,368 @@
+package com.agentica.workflows.engine;
+
+import static org.bsc.langgraph4j.StateGraph.END;
+import static org.bsc.langgraph4j.StateGraph.START;
+
+import com.agentica.core.state.AgenticaState;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.bsc.langgraph4j.GraphStateException;
+import org.bsc.langgraph4j.action.AsyncEdgeAction;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+
+/**
+ * Interprets a workflow plan directly over an adjacency table, without compiling a
+ * LangGraph4j graph.
+ *
+ * <p>Node actions and edge routing are the same ones the StateGraph gets, and a run yields
+ * the same steps as LangGraph4j's node outputs: the start, each node after it ran, then
+ * the end. Steps are computed lazily, so a caller that stops iterating stops the run. Only
+ * the keys a node returned are merged into the state: null values remove a key, appender
+ * keys of the {@link AgenticaState#SCHEMA} are appended to, every other key is replaced.
+ * Appender values are versions of an append-only buffer, so appending does not copy the
+ * entries earlier steps added.
+ */
+public class NativeGraph implements GraphSink {
+
+  /**
+   * Same default as LangGraph4j, so a routing loop fails the same way on both engines.
+   */
+  private static final int MAX_STEPS = 25;
+
+  private final Map<String, AsyncNodeAction<AgenticaState>> nodes = new HashMap<>();
+
+  private final Map<String, String> edges = new HashMap<>();
+
+  private final Map<String, Route> routes = new HashMap<>();
+
+  @Override
+  public void addNode(final String id, final AsyncNodeAction<AgenticaState> action)
+      throws GraphStateException {
+
+    if (START.equals(id) || END.equals(id) || nodes.putIfAbsent(id, action) != null) {
+
+      throw new GraphStateException("node '" + id + "' already exist!");
+    }
+  }
+
+  @Override
+  public void addEdge(final String from, final String to) throws GraphStateException {
+
+    requireNoEdge(from);
+
+    edges.put(from, to);
+  }
+
+  @Override
+  public void addConditionalEdges(final String from, final AsyncEdgeAction<AgenticaState> route,
+      final Map<String, String> targets) throws GraphStateException {
+
+    requireNoEdge(from);
+
+    routes.put(from, new Route(route, Map.copyOf(targets)));
+  }
+
+  /**
+   * Checks that the graph has an entry and every edge leads to a known node.
+   *
+   * @throws GraphStateException if the graph cannot be run
+   */
+  public void validate() throws GraphStateException {
+
+    if (!edges.containsKey(START)) {
+
+      throw new GraphStateException("missing Entry Point");
+    }
+
+    for (final String target : edges.values()) {
+
+      requireTarget(target);
+    }
+
+    for (final Route route : routes.values()) {
+
+      for (final String target : route.targets().values()) {
+
+        requireTarget(target);
+      }
+    }
+  }
+
+  /**
+   * Runs the graph from its entry.
+   *
+   * @param input the initial state data
+   * @return the steps of the run, computed as they are iterated
+   */
+  public Iterable<WorkflowStep> stream(final Map<String, Object> input) {
+
+    return () -> new Run(input);
+  }
+
+  private void requireNoEdge(final String from) throws GraphStateException {
+
+    if (edges.containsKey(from) || routes.containsKey(from)) {
+
+      throw new GraphStateException("edge from '" + from + "' already exist!");
+    }
+  }
+
+  private void requireTarget(final String target) throws GraphStateException {
+
+    if (!END.equals(target) && !nodes.containsKey(target)) {
+
+      throw new GraphStateException("edge target '" + target + "' is not a node!");
+    }
+  }
+
+  private String next(final String node, final AgenticaState state) {
+
+    final String target = edges.get(node);
+
+    if (target != null) {
+
+      return target;
+    }
+
+    final Route route = routes.get(node);
+
+    if (route == null) {
+
+      throw new IllegalStateException("No edge from node: " + node);
+    }
+
+    final String key = await(route.action().apply(state));
+
+    final String routed = route.targets().get(key);
+
+    if (routed == null) {
+
+      throw new IllegalStateException("No route '" + key + "' from node: " + node);
+    }
+
+    return routed;
+  }
+
+  private static void merge(final Map<String, Object> data, final Map<String, Object> updates) {
+
+    for (final Map.Entry<String, Object> update : updates.entrySet()) {
+
+      final String key = update.getKey();
+
+      final Object value = update.getValue();
+
+      if (value == null) {
+
+        data.remove(key);
+
+      } else if (AgenticaState.SCHEMA.containsKey(key)) {
+
+        data.put(key, Appended.of(data.get(key))
+            .plus(value instanceof Collection<?> values ? values : List.of(value)));
+
+      } else {
+
+        data.put(key, value);
+      }
+    }
+  }
+
+  private static <T> T await(final CompletableFuture<T> future) {
+
+    try {
+
+      return future.join();
+
+    } catch (final CompletionException e) {
+
+      if (e.getCause() instanceof RuntimeException cause) {
+
+        throw cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * A conditional edge: the routing action and the node each route key leads to.
+   */
+  private record Route(AsyncEdgeAction<AgenticaState> action, Map<String, String> targets) {
+  }
+
+  /**
+   * Immutable version of an appender value. Versions share an append-only buffer and only
+   * know how many of its entries they see; the buffer is copied only when an older version
+   * is appended to a second time.
+   */
+  private static final class Appended extends AbstractList<Object> {
+
+    private final Buffer buffer;
+
+    private final int size;
+
+    private Appended(final Buffer buffer, final int size) {
+
+      this.buffer = buffer;
+      this.size = size;
+    }
+
+    private static Appended of(final Object existing) {
+
+      if (existing instanceof Appended appended) {
+
+        return appended;
+      }
+
+      final Appended empty = new Appended(new Buffer(), 0);
+
+      return existing instanceof Collection<?> values ? empty.plus(values) : empty;
+    }
+
+    private Appended plus(final Collection<?> values) {
+
+      return new Appended(buffer.append(size, values), size + values.size());
+    }
+
+    @Override
+    public Object get(final int index) {
+
+      Objects.checkIndex(index, size);
+
+      return buffer.get(index);
+    }
+
+    @Override
+    public int size() {
+
+      return size;
+    }
+  }
+
+  /**
+   * Append-only storage shared by appender value versions.
+   */
+  private static final class Buffer {
+
+    private Object[] items = new Object[8];
+
+    private int length;
+
+    /**
+     * Appends after the first {@code visible} entries, in place if nothing was appended
+     * after them yet, otherwise to a copy of them.
+     */
+    private synchronized Buffer append(final int visible, final Collection<?> values) {
+
+      final Buffer target = visible == length ? this : copy(visible);
+
+      for (final Object value : values) {
+
+        target.add(value);
+      }
+
+      return target;
+    }
+
+    private synchronized Object get(final int index) {
+
+      return items[index];
+    }
+
+    private Buffer copy(final int visible) {
+
+      final Buffer copy = new Buffer();
+
+      for (int i = 0; i < visible; i++) {
+
+        copy.add(items[i]);
+      }
+
+      return copy;
+    }
+
+    private void add(final Object value) {
+
+      if (length == items.length) {
+
+        items = Arrays.copyOf(items, length * 2);
+      }
+
+      items[length++] = value;
+    }
+  }
+
+  /**
+   * A single run over the graph.
+   */
+  private final class Run implements Iterator<WorkflowStep> {
+
+    private final Map<String, Object> data;
+
+    private AgenticaState state;
+
+    private String node;
+
+    private int steps;
+
+    private Run(final Map<String, Object> input) {
+
+      this.data = new HashMap<>(input);
+      this.state = new AgenticaState(data);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+      return !END.equals(node);
+    }
+
+    @Override
+    public WorkflowStep next() {
+
+      if (!hasNext()) {
+
+        throw new NoSuchElementException();
+      }
+
+      if (node == null) {
+
+        node = START;
+
+        return new WorkflowStep(START, state);
+      }
+
+      final String target = NativeGraph.this.next(node, state);
+
+      node = target;
+
+      if (END.equals(target)) {
+
+        return new WorkflowStep(END, state);
+      }
+
+      if (++steps > MAX_STEPS) {
+
+        throw new IllegalStateException("Maximum number of steps (" + MAX_STEPS
+            + ") reached, last node: " + target);
+      }
+
+      merge(data, await(nodes.get(target).apply(state)));
+
+      // AgentState copies its input, so later merges do not leak into this step's state
+      state = new AgenticaState(data);
+
+      return new WorkflowStep(target, state);
+    }
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.agentica.workflows.engine;
+
+import com.agentica.core.state.AgenticaState;
+
+/**
+ * One step of a workflow run: the node that just ran and the state after it.
+ * The first step is the graph start and the last one the graph end.
+ *
+ * @param node  the node ID, or the start or end marker
+ * @param state the state after the node ran
+ */
+public record WorkflowStep(String node, AgenticaState state) {
+}
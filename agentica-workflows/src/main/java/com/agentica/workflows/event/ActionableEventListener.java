@@ -1,15 +1,29 @@
 package com.agentica.workflows.event;
 
+import com.agentica.agents.config.LlmCallConfig;
+import com.agentica.agents.metrics.LlmUsageRecorder;
 import com.agentica.agents.orchestrator.OrchestratorAgent;
+import com.agentica.agents.session.AdkSessionManager;
 import com.agentica.core.domain.Event;
 import com.agentica.core.enums.EventStatus;
+import com.agentica.core.exception.CircuitOpenException;
 import com.agentica.core.service.EventService;
+import com.agentica.core.trace.ActiveSpan;
+import com.agentica.core.trace.Tracer;
 import com.agentica.core.workflow.WorkflowPlan;
 import com.agentica.infrastructure.event.ActionableEventPublished;
 import com.agentica.workflows.executor.DynamicWorkflowExecutor;
 import com.agentica.workflows.executor.ExecutionResult;
+import com.agentica.workflows.journal.RecoveredWorkflow;
+import com.agentica.workflows.retry.DeferredRetryQueue;
 import com.agentica.workflows.validator.WorkflowPlanValidator;
 import com.agentica.workflows.validator.WorkflowValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -29,25 +43,132 @@ public class ActionableEventListener {
 
   private final EventService eventService;
 
+  private final AdkSessionManager sessionManager;
+
+  private final LlmUsageRecorder llmUsageRecorder;
+
+  private final LlmCallConfig llmCallConfig;
+
+  private final DeferredRetryQueue deferredRetryQueue;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Tracer tracer;
+
   @Async("eventProcessorExecutor")
   @EventListener
   public void handleActionableEvent(final ActionableEventPublished publishedEvent) {
 
     final Event event = publishedEvent.getEvent();
 
+    Timer.builder("agentica.event.queue.wait")
+        .description("Time an actionable event waited for a processor thread")
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(System.currentTimeMillis() - publishedEvent.getTimestamp(),
+            TimeUnit.MILLISECONDS);
+
+    tracer.record(event.id(), Tracer.ROOT, "queue",
+        Instant.ofEpochMilli(publishedEvent.getTimestamp()), Map.of(), null);
+
     log.info("Processing actionable event, eventId: {}, type: {}, source: {}",
         event.id(), event.eventType(), event.source());
 
+    process(event, deadline -> {
+
+      final WorkflowPlan plan = plan(event, deadline);
+
+      return workflowExecutor.execute(plan, event, deadline);
+    });
+  }
+
+  /**
+   * Resumes a workflow that was interrupted by a restart, without running the nodes it
+   * completed before again.
+   *
+   * @param workflow the workflow recovered from the journal
+   */
+  @Async("eventProcessorExecutor")
+  public void resumeInterrupted(final RecoveredWorkflow workflow) {
+
+    final Event event = workflow.event();
+
+    log.info("Resuming interrupted event, eventId: {}, planId: {}, completedNodes: {}",
+        event.id(), workflow.plan().workflowId(), workflow.outputs().size());
+
+    process(event, deadline ->
+        workflowExecutor.resume(workflow.plan(), event, deadline, workflow.outputs()));
+  }
+
+  private WorkflowPlan plan(final Event event, final Instant deadline) {
+
+    final Timer.Sample sample = Timer.start(meterRegistry);
+
+    final ActiveSpan span = tracer.open(event.id(), Tracer.PLAN, Tracer.ROOT, "plan", Map.of());
+
+    String outcome = "error";
+
+    try {
+
+      final WorkflowPlan plan = orchestratorAgent.planWorkflow(event, deadline);
+
+      outcome = "success";
+
+      span.attribute("planId", plan.workflowId());
+
+      return plan;
+
+    } catch (final RuntimeException e) {
+
+      span.end(e);
+
+      throw e;
+
+    } finally {
+
+      span.end();
+
+      sample.stop(Timer.builder("agentica.workflow.plan")
+          .description("Latency of planning a workflow for an actionable event")
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  /**
+   * Runs the workflow of an event within its trace. Resumed and retried events start a new
+   * trace when their original one has already ended.
+   */
+  private void process(final Event event, final Function<Instant, ExecutionResult> workflow) {
+
+    tracer.startTrace(event.id(), "event " + event.eventType(), Map.of(
+        "tenantId", String.valueOf(event.tenantId()),
+        "eventType", String.valueOf(event.eventType()),
+        "source", String.valueOf(event.source())), Instant.now());
+
+    String traceError = null;
+
     try {
 
-      final WorkflowPlan plan = orchestratorAgent.planWorkflow(event);
+      final Instant deadline = Instant.now().plusMillis(llmCallConfig.getWorkflowTimeoutMs());
+
+      final ExecutionResult result = workflow.apply(deadline);
 
-      final ExecutionResult result = workflowExecutor.execute(plan, event);
+      if (result.status() == ExecutionResult.ExecutionStatus.FAILED
+          || result.status() == ExecutionResult.ExecutionStatus.ABORTED) {
+
+        traceError = result.errorMessage();
+      }
 
       handleExecutionResult(event, result);
 
     } catch (final WorkflowValidationException e) {
 
+      traceError = e.getMessage();
+
+      deferredRetryQueue.clear(event.id());
+
       log.error("Workflow validation failed, eventId: {}, planId: {}, errors: {}",
           event.id(), e.getPlanId(), e.getErrors(), e);
 
@@ -55,15 +176,41 @@ public class ActionableEventListener {
 
     } catch (final Exception e) {
 
+      traceError = e.getMessage();
+
+      final CircuitOpenException circuitOpen = CircuitOpenException.find(e);
+
+      if (circuitOpen != null) {
+
+        deferOrFail(event, circuitOpen.getMessage(), circuitOpen.getRetryAt());
+
+        return;
+      }
+
       log.error("Failed to process actionable event, eventId: {}, error: {}",
           event.id(), e.getMessage(), e);
 
+      deferredRetryQueue.clear(event.id());
+
       markEventFailed(event, e.getMessage());
+
+    } finally {
+
+      sessionManager.releaseSession(event.id());
+
+      llmUsageRecorder.closeWorkflow(event.id());
+
+      tracer.endTrace(event.id(), traceError);
     }
   }
 
   private void handleExecutionResult(final Event event, final ExecutionResult result) {
 
+    if (result.status() != ExecutionResult.ExecutionStatus.DEFERRED) {
+
+      deferredRetryQueue.clear(event.id());
+    }
+
     switch (result.status()) {
 
       case COMPLETED -> {
@@ -90,6 +237,8 @@ public class ActionableEventListener {
         log.error("Event workflow failed, eventId: {}, error: {}",
             event.id(), result.errorMessage());
       }
+
+      case DEFERRED -> deferOrFail(event, result.errorMessage(), result.retryAt());
     }
 
     if (result.planHistory() != null && !result.planHistory().isEmpty()) {
@@ -101,6 +250,22 @@ public class ActionableEventListener {
     }
   }
 
+  /**
+   * Queues the event for a later retry instead of replanning against a dependency whose
+   * circuit is open; fails it once retries are exhausted.
+   */
+  private void deferOrFail(final Event event, final String reason, final Instant retryAt) {
+
+    if (deferredRetryQueue.defer(event, retryAt)) {
+
+      log.warn("Event workflow deferred, eventId: {}, reason: {}", event.id(), reason);
+
+      return;
+    }
+
+    markEventFailed(event, "Dependency unavailable: " + reason);
+  }
+
   private void markEventFailed(final Event event, final String errorMessage) {
 
     try {
@@ -1,5 +1,7 @@
 package com.agentica.workflows.executor;
 
+import com.agentica.agents.metrics.LlmUsageRecorder;
+import com.agentica.agents.node.AgentNodeResult;
 import com.agentica.core.domain.Event;
 import com.agentica.core.event.workflow.NodeCompletedEvent;
 import com.agentica.core.event.workflow.NodeEscalatedEvent;
@@ -7,17 +9,38 @@ import com.agentica.core.event.workflow.NodeStartedEvent;
 import com.agentica.core.event.workflow.WorkflowCompletedEvent;
 import com.agentica.core.event.workflow.WorkflowReplanEvent;
 import com.agentica.core.event.workflow.WorkflowStartedEvent;
+import com.agentica.core.exception.CircuitOpenException;
+import com.agentica.core.jfr.WorkflowExecutionEvent;
+import com.agentica.core.resource.ResourceMeter;
+import com.agentica.core.resource.ResourceUsage;
 import com.agentica.core.state.AgenticaState;
+import com.agentica.core.state.NodeOutputs;
+import com.agentica.core.trace.ActiveSpan;
+import com.agentica.core.trace.Tracer;
+import com.agentica.core.workflow.EdgeType;
 import com.agentica.core.workflow.ReplanAction;
 import com.agentica.core.workflow.ReplanDecision;
 import com.agentica.core.workflow.WorkflowEdge;
+import com.agentica.core.workflow.WorkflowEngine;
 import com.agentica.core.workflow.WorkflowNode;
 import com.agentica.core.workflow.WorkflowPlan;
 import com.agentica.workflows.builder.WorkflowBuilder;
+import com.agentica.workflows.engine.WorkflowStep;
 import com.agentica.workflows.validator.WorkflowPlanValidator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -39,15 +62,162 @@ public class DynamicWorkflowExecutor {
 
   private final ApplicationEventPublisher eventPublisher;
 
+  private final LlmUsageRecorder llmUsageRecorder;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Tracer tracer;
+
   @Value("${agentica.workflow.max-replan-iterations:5}")
   private int maxReplanIterations;
 
+  @Value("${agentica.workflow.engine:LANGGRAPH}")
+  private WorkflowEngine defaultEngine;
+
   public ExecutionResult execute(final WorkflowPlan initialPlan, final Event event) {
 
+    return execute(initialPlan, event, null);
+  }
+
+  /**
+   * Executes the plan with every LLM call of the workflow bounded by the given deadline.
+   *
+   * @param initialPlan the plan to execute
+   * @param event       the event being processed
+   * @param deadline    the workflow deadline (may be null for the per-call timeout only)
+   * @return the execution result
+   */
+  public ExecutionResult execute(final WorkflowPlan initialPlan, final Event event,
+      final Instant deadline) {
+
+    return execute(initialPlan, event, AgenticaState.forEvent(event, initialPlan, deadline));
+  }
+
+  /**
+   * Resumes a workflow that was interrupted by a restart. Nodes with a recovered output are
+   * not run again, but routing still sees their outputs, so the workflow continues after
+   * the last node that completed.
+   *
+   * @param plan     the latest plan of the interrupted workflow
+   * @param event    the event being processed
+   * @param deadline the workflow deadline (may be null for the per-call timeout only)
+   * @param outputs  the outputs of the nodes that completed before the restart
+   * @return the execution result
+   */
+  public ExecutionResult resume(final WorkflowPlan plan, final Event event,
+      final Instant deadline, final NodeOutputs outputs) {
+
+    log.info("Resuming interrupted workflow, planId: {}, eventId: {}, completedNodes: {}",
+        plan.workflowId(), event.id(), outputs.keySet());
+
+    return execute(plan, event, AgenticaState.forRecovery(event, plan, deadline, outputs));
+  }
+
+  /**
+   * Executes the workflow within a span of the event's trace, which the node spans nest
+   * under, and records it as a JFR event. The CPU time and allocation of the executing
+   * thread beyond the nodes' own work are recorded as the engine's overhead.
+   */
+  private ExecutionResult execute(final WorkflowPlan initialPlan, final Event event,
+      final AgenticaState initialState) {
+
+    final ResourceAccount resources = new ResourceAccount();
+
+    final ActiveSpan span = tracer.open(event.id(), Tracer.WORKFLOW, Tracer.ROOT, "workflow",
+        Map.of("planId", String.valueOf(initialPlan.workflowId())));
+
+    final WorkflowExecutionEvent jfrEvent = new WorkflowExecutionEvent();
+
+    jfrEvent.begin();
+
+    try {
+
+      final ExecutionResult result = executeWorkflow(initialPlan, event, initialState,
+          resources);
+
+      final int replans = result.planHistory() != null ? result.planHistory().size() - 1 : 0;
+
+      span.attribute("status", result.status())
+          .attribute("replans", replans)
+          .end(result.status() == ExecutionResult.ExecutionStatus.FAILED
+              ? result.errorMessage()
+              : null);
+
+      commit(jfrEvent, event.id(), initialPlan, result.status().name(), replans);
+
+      return result;
+
+    } catch (final RuntimeException e) {
+
+      span.end(e);
+
+      commit(jfrEvent, event.id(), initialPlan, ExecutionResult.ExecutionStatus.FAILED.name(),
+          0);
+
+      throw e;
+
+    } finally {
+
+      recordOverhead(event.id(), engineOf(initialPlan), resources.overhead());
+    }
+  }
+
+  /**
+   * Records the overhead figures that could be measured. Workflows on virtual threads
+   * cannot be measured, so the meters are not registered rather than reporting zero.
+   */
+  private void recordOverhead(final String eventId, final WorkflowEngine engine,
+      final ResourceUsage overhead) {
+
+    if (overhead.isCpuMeasured()) {
+
+      Timer.builder("agentica.workflow.overhead.cpu")
+          .description("CPU time of a workflow execution's thread outside of the nodes' own "
+              + "work")
+          .tag("engine", engine.name())
+          .register(meterRegistry)
+          .record(overhead.cpuNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    if (overhead.isAllocationMeasured()) {
+
+      DistributionSummary.builder("agentica.workflow.overhead.allocated")
+          .description("Bytes allocated by a workflow execution's thread outside of the "
+              + "nodes' own work")
+          .baseUnit("bytes")
+          .tag("engine", engine.name())
+          .register(meterRegistry)
+          .record(overhead.allocatedBytes());
+    }
+
+    log.debug("Workflow overhead, eventId: {}, engine: {}, cpuNanos: {}, allocatedBytes: {}",
+        eventId, engine, overhead.cpuNanos(), overhead.allocatedBytes());
+  }
+
+  private static void commit(final WorkflowExecutionEvent jfrEvent, final String eventId,
+      final WorkflowPlan plan, final String status, final int replans) {
+
+    jfrEvent.end();
+
+    if (jfrEvent.shouldCommit()) {
+
+      jfrEvent.setEventId(eventId);
+      jfrEvent.setPlanId(plan.workflowId());
+      jfrEvent.setStatus(status);
+      jfrEvent.setReplans(replans);
+      jfrEvent.commit();
+    }
+  }
+
+  private ExecutionResult executeWorkflow(final WorkflowPlan initialPlan, final Event event,
+      final AgenticaState initialState, final ResourceAccount resources) {
+
     final long executionStartTime = System.currentTimeMillis();
 
-    log.info("Starting workflow execution, planId: {}, eventId: {}",
-        initialPlan.workflowId(), event.id());
+    final WorkflowEngine engine = engineOf(initialPlan);
+
+    log.info("Starting workflow execution, planId: {}, eventId: {}, engine: {}",
+        initialPlan.workflowId(), event.id(), engine);
 
     validator.validate(initialPlan);
 
@@ -57,7 +227,7 @@ public class DynamicWorkflowExecutor {
 
     WorkflowPlan currentPlan = initialPlan;
 
-    AgenticaState state = AgenticaState.forEvent(event, initialPlan);
+    AgenticaState state = initialState;
 
     final List<WorkflowPlan> planHistory = new ArrayList<>();
 
@@ -65,36 +235,48 @@ public class DynamicWorkflowExecutor {
 
     int replanCount = 0;
 
+    String resumeNode = null;
+
     try {
 
       while (replanCount <= maxReplanIterations) {
 
-        final CompiledGraph<AgenticaState> graph = workflowBuilder.build(currentPlan, event.id());
+        final Iterable<WorkflowStep> steps = run(engine, currentPlan, event.id(), resumeNode,
+            state);
 
         nodeMap = buildNodeMap(currentPlan);
 
+        final Map<String, List<String>> fanOuts = buildFanOuts(currentPlan);
+
         boolean needsRebuild = false;
 
         String previousNode = null;
 
         long nodeStartTime = System.currentTimeMillis();
 
-        for (final NodeOutput<AgenticaState> nodeOutput : graph.stream(state.data())) {
+        for (final WorkflowStep step : steps) {
+
+          final AgenticaState previousState = state;
 
-          state = nodeOutput.state();
+          state = step.state();
 
-          final String currentNode = nodeOutput.node();
+          resources.step(previousState, state);
 
-          if (previousNode != null && !previousNode.equals(currentNode)) {
+          final String currentNode = step.node();
 
-            publishNodeCompletion(event.id(), previousNode, nodeMap, nodeStartTime, state);
+          if (fanOuts.containsKey(currentNode)) {
 
-            nodeStartTime = System.currentTimeMillis();
+            publishBranches(event.id(), fanOuts.get(currentNode), nodeMap, previousState, state);
           }
 
           if (!isSpecialNode(currentNode) && !currentNode.equals(previousNode)) {
 
             publishNodeStart(event.id(), currentNode, nodeMap);
+
+            if (!state.needsReplan()) {
+
+              publishNodeCompletion(event.id(), currentNode, nodeMap, nodeStartTime, state);
+            }
           }
 
           if (state.hasReplanDecision()) {
@@ -105,7 +287,7 @@ public class DynamicWorkflowExecutor {
 
               publishNodeEscalation(
                   event.id(),
-                  previousNode,
+                  state.resumeFromNode().orElse(previousNode),
                   nodeMap,
                   state.escalationReason().orElse("unknown"),
                   state.escalationContext().orElse(null),
@@ -131,10 +313,29 @@ public class DynamicWorkflowExecutor {
               return ExecutionResult.aborted(decision.reason(), planHistory);
             }
 
+            if (decision.action() == ReplanAction.DEFER) {
+
+              log.warn("Workflow parked by replan policy, eventId: {}, reason: {}",
+                  event.id(), decision.reason());
+
+              final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
+
+              eventPublisher.publishEvent(WorkflowCompletedEvent.deferred(
+                  event.id(), decision.reason(), totalDurationMs, replanCount));
+
+              return ExecutionResult.deferred(decision.reason(), null, planHistory);
+            }
+
             final WorkflowPlan previousPlan = currentPlan;
 
+            final String escalatingNode = state.resumeFromNode().orElse(previousNode);
+
             currentPlan = applyReplan(currentPlan, decision);
 
+            resumeNode = resolveResumeNode(decision, escalatingNode, previousPlan, currentPlan);
+
+            recordResume(event.id(), resumeNode, currentPlan, state);
+
             planHistory.add(currentPlan);
 
             replanCount++;
@@ -161,9 +362,10 @@ public class DynamicWorkflowExecutor {
 
           if ("__end__".equals(currentNode)) {
 
-            if (previousNode != null && !isSpecialNode(previousNode)) {
+            if (isDeferred(state)) {
 
-              publishNodeCompletion(event.id(), previousNode, nodeMap, nodeStartTime, state);
+              return defer(event, previousNode, nodeMap, state, nodeStartTime,
+                  executionStartTime, replanCount, planHistory);
             }
 
             final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
@@ -172,17 +374,20 @@ public class DynamicWorkflowExecutor {
                 WorkflowCompletedEvent.completed(event.id(), totalDurationMs, replanCount)
             );
 
-            return ExecutionResult.completed(state, planHistory);
+            return completed(event.id(), currentPlan, state, planHistory, totalDurationMs);
           }
 
           previousNode = currentNode;
+
+          nodeStartTime = System.currentTimeMillis();
         }
 
         if (!needsRebuild) {
 
-          if (previousNode != null && !isSpecialNode(previousNode)) {
+          if (isDeferred(state)) {
 
-            publishNodeCompletion(event.id(), previousNode, nodeMap, nodeStartTime, state);
+            return defer(event, previousNode, nodeMap, state, nodeStartTime,
+                executionStartTime, replanCount, planHistory);
           }
 
           final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
@@ -191,7 +396,7 @@ public class DynamicWorkflowExecutor {
               WorkflowCompletedEvent.completed(event.id(), totalDurationMs, replanCount)
           );
 
-          return ExecutionResult.completed(state, planHistory);
+          return completed(event.id(), currentPlan, state, planHistory, totalDurationMs);
         }
       }
 
@@ -207,11 +412,25 @@ public class DynamicWorkflowExecutor {
 
     } catch (final Exception e) {
 
+      final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
+
+      final CircuitOpenException circuitOpen = CircuitOpenException.find(e);
+
+      if (circuitOpen != null) {
+
+        log.warn("Workflow deferred, eventId: {}, circuit: {}, retryAt: {}",
+            event.id(), circuitOpen.getCircuitName(), circuitOpen.getRetryAt());
+
+        eventPublisher.publishEvent(WorkflowCompletedEvent.deferred(
+            event.id(), circuitOpen.getMessage(), totalDurationMs, replanCount));
+
+        return ExecutionResult.deferred(circuitOpen.getMessage(), circuitOpen.getRetryAt(),
+            planHistory);
+      }
+
       log.error("Workflow execution failed, eventId: {}, error: {}",
           event.id(), e.getMessage(), e);
 
-      final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
-
       eventPublisher.publishEvent(
           WorkflowCompletedEvent.failed(event.id(), e.getMessage(), totalDurationMs, replanCount)
       );
@@ -220,6 +439,323 @@ public class DynamicWorkflowExecutor {
     }
   }
 
+  private WorkflowEngine engineOf(final WorkflowPlan plan) {
+
+    return plan.engine() != null ? plan.engine() : defaultEngine;
+  }
+
+  /**
+   * Builds the plan for the chosen engine and starts it from the current state.
+   */
+  private Iterable<WorkflowStep> run(final WorkflowEngine engine, final WorkflowPlan plan,
+      final String eventId, final String resumeNode, final AgenticaState state) {
+
+    if (engine == WorkflowEngine.NATIVE) {
+
+      return workflowBuilder.buildNative(plan, eventId, resumeNode).stream(state.data());
+    }
+
+    final CompiledGraph<AgenticaState> graph = workflowBuilder.build(plan, eventId, resumeNode);
+
+    final Iterable<NodeOutput<AgenticaState>> outputs = graph.stream(state.data());
+
+    return () -> new Iterator<>() {
+
+      private final Iterator<NodeOutput<AgenticaState>> delegate = outputs.iterator();
+
+      @Override
+      public boolean hasNext() {
+
+        return delegate.hasNext();
+      }
+
+      @Override
+      public WorkflowStep next() {
+
+        final NodeOutput<AgenticaState> output = delegate.next();
+
+        return new WorkflowStep(output.node(), output.state());
+      }
+    };
+  }
+
+  /**
+   * Whether the graph stopped because a node escalated behind an open circuit breaker.
+   */
+  private static boolean isDeferred(final AgenticaState state) {
+
+    return state.needsReplan()
+        && state.escalationReason().filter(AgentNodeResult.CIRCUIT_OPEN::equals).isPresent();
+  }
+
+  private ExecutionResult defer(final Event event, final String escalatingNode,
+      final Map<String, WorkflowNode> nodeMap, final AgenticaState state,
+      final long nodeStartTime, final long executionStartTime, final int replanCount,
+      final List<WorkflowPlan> planHistory) {
+
+    final String reason = state.escalationContext().orElse(AgentNodeResult.CIRCUIT_OPEN);
+
+    final String nodeId = state.resumeFromNode().orElse(escalatingNode);
+
+    if (nodeId != null && !isSpecialNode(nodeId)) {
+
+      publishNodeEscalation(event.id(), nodeId, nodeMap, AgentNodeResult.CIRCUIT_OPEN,
+          reason, nodeStartTime);
+    }
+
+    log.warn("Workflow deferred, eventId: {}, node: {}, reason: {}",
+        event.id(), nodeId, reason);
+
+    final long totalDurationMs = System.currentTimeMillis() - executionStartTime;
+
+    eventPublisher.publishEvent(
+        WorkflowCompletedEvent.deferred(event.id(), reason, totalDurationMs, replanCount));
+
+    return ExecutionResult.deferred(reason, null, planHistory);
+  }
+
+  /**
+   * Reports the critical path of a completed execution: the latest run of every node, where
+   * a parallel fan-out only counts its slowest branch. Compared with the summed node time it
+   * shows how much latency the fan-outs saved.
+   */
+  private ExecutionResult completed(final String eventId, final WorkflowPlan plan,
+      final AgenticaState state, final List<WorkflowPlan> planHistory, final long totalDurationMs) {
+
+    final Map<String, Long> durations = state.nodeDurations();
+
+    final Set<String> branchNodes = new HashSet<>();
+
+    long criticalPathMs = 0;
+
+    for (final WorkflowEdge edge : plan.edges()) {
+
+      if (edge.type() == EdgeType.PARALLEL && edge.branches() != null) {
+
+        branchNodes.addAll(edge.branches());
+
+        criticalPathMs += edge.branches().stream()
+            .mapToLong(branch -> durations.getOrDefault(branch, 0L))
+            .max()
+            .orElse(0);
+      }
+    }
+
+    for (final Map.Entry<String, Long> duration : durations.entrySet()) {
+
+      if (!branchNodes.contains(duration.getKey())) {
+
+        criticalPathMs += duration.getValue();
+      }
+    }
+
+    final long nodeTimeMs = durations.values().stream().mapToLong(Long::longValue).sum();
+
+    Timer.builder("agentica.workflow.critical.path")
+        .description("Sum of node latencies on the critical path of a workflow execution")
+        .register(meterRegistry)
+        .record(criticalPathMs, TimeUnit.MILLISECONDS);
+
+    log.info("Workflow completed, eventId: {}, durationMs: {}, criticalPathMs: {}, "
+        + "nodeTimeMs: {}", eventId, totalDurationMs, criticalPathMs, nodeTimeMs);
+
+    return ExecutionResult.completed(state, planHistory).toBuilder()
+        .criticalPathMs(criticalPathMs)
+        .build();
+  }
+
+  /**
+   * Publishes start and completion of the parallel branches that finished in a fan-out step.
+   * Escalated branches are reported by the replan handling.
+   */
+  private void publishBranches(final String eventId, final List<String> branches,
+      final Map<String, WorkflowNode> nodeMap, final AgenticaState before,
+      final AgenticaState after) {
+
+    for (final String branch : branches) {
+
+      final WorkflowNode node = nodeMap.get(branch);
+
+      if (node == null || before.nodeOutputs().containsKey(branch)
+          || !after.nodeOutputs().containsKey(branch)) {
+
+        continue;
+      }
+
+      publishNodeStart(eventId, branch, nodeMap);
+
+      eventPublisher.publishEvent(NodeCompletedEvent.of(
+          eventId,
+          branch,
+          node.agentType(),
+          after.nodeOutputs().get(branch),
+          after.nodeDurations().getOrDefault(branch, 0L),
+          after.nodeResources().getOrDefault(branch, ResourceUsage.UNMEASURED)
+      ));
+    }
+  }
+
+  private Map<String, List<String>> buildFanOuts(final WorkflowPlan plan) {
+
+    final Map<String, List<String>> fanOuts = new HashMap<>();
+
+    for (final WorkflowEdge edge : plan.edges()) {
+
+      if (edge.type() == EdgeType.PARALLEL && edge.branches() != null) {
+
+        fanOuts.put(WorkflowBuilder.fanOutNodeId(edge.from()), edge.branches());
+      }
+    }
+
+    return fanOuts;
+  }
+
+  /**
+   * Picks the node a replanned workflow resumes at, so nodes that already completed are not
+   * executed again. The decision's resumeFrom wins; otherwise the escalating node, moved back
+   * over any nodes the replan inserted in front of it. Returns null to restart from the plan's
+   * start edges when neither node is part of the new plan.
+   */
+  private String resolveResumeNode(final ReplanDecision decision, final String escalatingNode,
+      final WorkflowPlan previousPlan, final WorkflowPlan plan) {
+
+    final Map<String, WorkflowNode> nodeMap = buildNodeMap(plan);
+
+    final String resumeFrom = decision.resumeFrom();
+
+    if (resumeFrom != null && !resumeFrom.isBlank()) {
+
+      if (nodeMap.containsKey(resumeFrom)) {
+
+        return fanOutOf(resumeFrom, plan);
+      }
+
+      if (!"START".equalsIgnoreCase(resumeFrom)) {
+
+        log.warn("Replan resume node not in plan, resumeFrom: {}, planId: {}",
+            resumeFrom, plan.workflowId());
+      }
+    }
+
+    if (escalatingNode == null || !nodeMap.containsKey(escalatingNode)) {
+
+      return null;
+    }
+
+    final Set<String> previousNodes = buildNodeMap(previousPlan).keySet();
+
+    final Set<String> visited = new HashSet<>();
+
+    String entry = escalatingNode;
+
+    while (visited.add(entry)) {
+
+      final String target = entry;
+
+      final String inserted = plan.edges().stream()
+          .filter(edge -> targets(edge).contains(target))
+          .map(WorkflowEdge::from)
+          .filter(from -> nodeMap.containsKey(from) && !previousNodes.contains(from))
+          .findFirst()
+          .orElse(null);
+
+      if (inserted == null) {
+
+        break;
+      }
+
+      entry = inserted;
+    }
+
+    return fanOutOf(entry, plan);
+  }
+
+  /**
+   * Parallel branches are not graph nodes of their own, so a branch resumes at the fan-out
+   * that runs it; the fan-out skips branches that already have an output.
+   */
+  private static String fanOutOf(final String nodeId, final WorkflowPlan plan) {
+
+    return plan.edges().stream()
+        .filter(edge -> edge.type() == EdgeType.PARALLEL && edge.branches() != null
+            && edge.branches().contains(nodeId))
+        .findFirst()
+        .map(edge -> WorkflowBuilder.fanOutNodeId(edge.from()))
+        .orElse(nodeId);
+  }
+
+  /**
+   * Records the completed nodes a resume skips, i.e. those the new plan still contains but
+   * that are not reachable from the resume node, so the LLM calls they spent are not repeated.
+   */
+  private void recordResume(final String eventId, final String resumeNode,
+      final WorkflowPlan plan, final AgenticaState state) {
+
+    if (resumeNode == null) {
+
+      log.info("Replanned workflow restarts from start, eventId: {}", eventId);
+
+      llmUsageRecorder.recordResume(eventId, Set.of());
+
+      return;
+    }
+
+    final Set<String> rerun = reachableFrom(resumeNode, plan);
+
+    final Set<String> planNodes = buildNodeMap(plan).keySet();
+
+    final List<String> skipped = state.nodeOutputs().keySet().stream()
+        .filter(nodeId -> planNodes.contains(nodeId) && !rerun.contains(nodeId))
+        .toList();
+
+    log.info("Replanned workflow resumes, eventId: {}, resumeNode: {}, skippedNodes: {}",
+        eventId, resumeNode, skipped);
+
+    llmUsageRecorder.recordResume(eventId, skipped);
+  }
+
+  private Set<String> reachableFrom(final String nodeId, final WorkflowPlan plan) {
+
+    final Set<String> reachable = new HashSet<>();
+
+    final Deque<String> pending = new ArrayDeque<>(List.of(nodeId));
+
+    while (!pending.isEmpty()) {
+
+      final String current = pending.pop();
+
+      if (!reachable.add(current)) {
+
+        continue;
+      }
+
+      plan.edges().stream()
+          .filter(edge -> current.equals(edge.from()))
+          .forEach(edge -> pending.addAll(targets(edge)));
+    }
+
+    return reachable;
+  }
+
+  private static Set<String> targets(final WorkflowEdge edge) {
+
+    final Set<String> targets = new HashSet<>();
+
+    targets.add(edge.to());
+
+    if (edge.condition() != null) {
+
+      targets.addAll(edge.condition().routesAsMap().values());
+    }
+
+    if (edge.branches() != null) {
+
+      targets.addAll(edge.branches());
+    }
+
+    return targets;
+  }
+
   private Map<String, WorkflowNode> buildNodeMap(final WorkflowPlan plan) {
 
     return plan.nodes().stream()
@@ -251,7 +787,8 @@ public class DynamicWorkflowExecutor {
       return;
     }
 
-    final long durationMs = System.currentTimeMillis() - startTime;
+    final long durationMs = state.nodeDurations()
+        .getOrDefault(nodeId, System.currentTimeMillis() - startTime);
 
     final WorkflowNode node = nodeMap.get(nodeId);
 
@@ -264,7 +801,8 @@ public class DynamicWorkflowExecutor {
           nodeId,
           node.agentType(),
           output,
-          durationMs
+          durationMs,
+          state.nodeResources().getOrDefault(nodeId, ResourceUsage.UNMEASURED)
       ));
     }
   }
@@ -322,19 +860,33 @@ public class DynamicWorkflowExecutor {
 
       case ADD_NODES -> {
 
-        final List<WorkflowNode> allNodes = new ArrayList<>(current.nodes());
+        final List<WorkflowNode> newNodes =
+            decision.newNodes() != null ? decision.newNodes() : List.of();
 
-        if (decision.newNodes() != null) {
+        final List<WorkflowEdge> newEdges =
+            decision.newEdges() != null ? decision.newEdges() : List.of();
 
-          allNodes.addAll(decision.newNodes());
-        }
+        final Set<String> replacedNodes = newNodes.stream()
+            .map(WorkflowNode::id)
+            .collect(Collectors.toSet());
 
-        final List<WorkflowEdge> allEdges = new ArrayList<>(current.edges());
+        final Set<String> rewiredSources = newEdges.stream()
+            .map(WorkflowEdge::from)
+            .collect(Collectors.toSet());
 
-        if (decision.newEdges() != null) {
+        // New nodes replace same-id nodes, and new edges replace the outgoing edges of their
+        // source, since a node can only have one outgoing edge set in the graph.
+        final List<WorkflowNode> allNodes = new ArrayList<>(current.nodes().stream()
+            .filter(node -> !replacedNodes.contains(node.id()))
+            .toList());
 
-          allEdges.addAll(decision.newEdges());
-        }
+        allNodes.addAll(newNodes);
+
+        final List<WorkflowEdge> allEdges = new ArrayList<>(current.edges().stream()
+            .filter(edge -> !rewiredSources.contains(edge.from()))
+            .toList());
+
+        allEdges.addAll(newEdges);
 
         yield current.toBuilder()
             .nodes(allNodes)
@@ -345,13 +897,13 @@ public class DynamicWorkflowExecutor {
 
       case RETRY_WITH_GUIDANCE -> current;
 
-      case ABORT -> throw new WorkflowAbortedException(decision.reason());
+      case ABORT, DEFER -> throw new WorkflowAbortedException(decision.reason());
     };
   }
 
   private AgenticaState clearReplanState(final AgenticaState state, final WorkflowPlan newPlan) {
 
-    final var data = new java.util.HashMap<>(state.data());
+    final var data = new HashMap<>(state.data());
 
     data.put(AgenticaState.KEY_NEEDS_REPLAN, false);
     data.put(AgenticaState.KEY_ESCALATION_REASON, null);
@@ -364,4 +916,35 @@ public class DynamicWorkflowExecutor {
     return new AgenticaState(data);
   }
 
+  /**
+   * CPU time and allocation of the thread executing a workflow, split into the nodes' own
+   * work and everything around it: routing, state merges and copies, and event publishing.
+   * Nodes report their own work in the state; a node's entry is counted in the step that
+   * replaced it. A figure any part of which could not be measured is unmeasured overall.
+   */
+  private static final class ResourceAccount {
+
+    private final ResourceMeter.Sample sample = ResourceMeter.start();
+
+    private ResourceUsage nodes = ResourceUsage.ZERO;
+
+    void step(final AgenticaState before, final AgenticaState after) {
+
+      final Map<String, ResourceUsage> previous = before.nodeResources();
+
+      for (final Map.Entry<String, ResourceUsage> entry : after.nodeResources().entrySet()) {
+
+        if (previous.get(entry.getKey()) != entry.getValue()) {
+
+          nodes = nodes.plus(entry.getValue());
+        }
+      }
+    }
+
+    ResourceUsage overhead() {
+
+      return sample.stop().minus(nodes);
+    }
+  }
+
 }
@@ -5,6 +5,7 @@ import com.agentica.core.state.AgenticaState;
 
 import lombok.Builder;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -20,14 +21,19 @@ public record ExecutionResult(
 
     List<WorkflowPlan> planHistory,
 
-    String errorMessage
+    String errorMessage,
+
+    Instant retryAt,
+
+    long criticalPathMs
 
 ) {
 
     public enum ExecutionStatus {
         COMPLETED,
         ABORTED,
-        FAILED
+        FAILED,
+        DEFERRED
     }
 
     /**
@@ -78,6 +84,25 @@ public record ExecutionResult(
             .build();
     }
 
+    /**
+     * Creates a deferred result for a workflow stopped by an open circuit breaker.
+     *
+     * @param reason the reason for deferral
+     * @param retryAt when the blocking circuit lets calls through again (may be null)
+     * @param planHistory the history of all plan versions
+     * @return the execution result
+     */
+    public static ExecutionResult deferred(String reason, Instant retryAt,
+                                           List<WorkflowPlan> planHistory) {
+
+        return ExecutionResult.builder()
+            .status(ExecutionStatus.DEFERRED)
+            .errorMessage(reason)
+            .retryAt(retryAt)
+            .planHistory(planHistory)
+            .build();
+    }
+
     /**
      * Checks if the workflow completed successfully.
      *
@@ -0,0 +1,148 @@
+package com.agentica.workflows.journal;
+
+import com.agentica.core.domain.Event;
+import com.agentica.core.event.workflow.NodeCompletedEvent;
+import com.agentica.core.event.workflow.WorkflowCompletedEvent;
+import com.agentica.core.event.workflow.WorkflowCompletedEvent.ExecutionStatus;
+import com.agentica.core.event.workflow.WorkflowReplanEvent;
+import com.agentica.core.event.workflow.WorkflowStartedEvent;
+import com.agentica.core.workflow.WorkflowPlan;
+import com.agentica.workflows.retry.WorkflowDeferred;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * One line of the workflow journal: the part of a workflow domain event needed to resume
+ * the workflow after a restart.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JournalEntry(
+
+    /**
+     * Kind of domain event the entry records.
+     */
+    EntryType type,
+
+    /**
+     * Event the workflow processes.
+     */
+    String eventId,
+
+    /**
+     * When the domain event happened.
+     */
+    Instant timestamp,
+
+    /**
+     * Event that triggered the workflow, for started workflows.
+     */
+    Event event,
+
+    /**
+     * Plan the workflow started with or was replanned to.
+     */
+    WorkflowPlan plan,
+
+    /**
+     * Node that completed.
+     */
+    String nodeId,
+
+    /**
+     * Output of the completed node.
+     */
+    Object output,
+
+    /**
+     * Final status of a finished workflow.
+     */
+    ExecutionStatus status,
+
+    /**
+     * When a deferred workflow is due for its retry.
+     */
+    Instant dueAt,
+
+    /**
+     * Deferred retries the event used so far, including the pending one.
+     */
+    Integer attempt
+
+) {
+
+  /**
+   * Kinds of journaled domain events.
+   */
+  public enum EntryType {
+
+    STARTED,
+
+    NODE_COMPLETED,
+
+    REPLANNED,
+
+    FINISHED,
+
+    DEFERRED
+
+  }
+
+  public static JournalEntry of(final WorkflowStartedEvent event) {
+
+    return JournalEntry.builder()
+        .type(EntryType.STARTED)
+        .eventId(event.eventId())
+        .timestamp(event.timestamp())
+        .event(event.triggerEvent())
+        .plan(event.plan())
+        .build();
+  }
+
+  public static JournalEntry of(final NodeCompletedEvent event) {
+
+    return JournalEntry.builder()
+        .type(EntryType.NODE_COMPLETED)
+        .eventId(event.eventId())
+        .timestamp(event.timestamp())
+        .nodeId(event.nodeId())
+        .output(event.output())
+        .build();
+  }
+
+  public static JournalEntry of(final WorkflowReplanEvent event) {
+
+    return JournalEntry.builder()
+        .type(EntryType.REPLANNED)
+        .eventId(event.eventId())
+        .timestamp(event.timestamp())
+        .plan(event.newPlan())
+        .build();
+  }
+
+  public static JournalEntry of(final WorkflowCompletedEvent event) {
+
+    return JournalEntry.builder()
+        .type(EntryType.FINISHED)
+        .eventId(event.eventId())
+        .timestamp(event.timestamp())
+        .status(event.status())
+        .build();
+  }
+
+  public static JournalEntry of(final WorkflowDeferred deferred) {
+
+    return JournalEntry.builder()
+        .type(deferred.scheduled() ? EntryType.DEFERRED : EntryType.FINISHED)
+        .eventId(deferred.event().id())
+        .timestamp(Instant.now())
+        .event(deferred.event())
+        .dueAt(deferred.dueAt())
+        .attempt(deferred.attempt())
+        .build();
+  }
+
+}
@@ -0,0 +1,222 @@
+package com.agentica.workflows.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of journal entries, one JSON document per line.
+ *
+ * <p>Entries are written with a single channel write each, so a crash can only tear the
+ * last line; reading skips lines that do not parse. A rewrite goes to a temporary file
+ * that atomically replaces the journal, so a crash during compaction leaves either the old
+ * or the new journal. The temporary file can be written while entries are still appended
+ * to the journal; those are added to it just before it replaces the journal.
+ *
+ * <p>Not thread-safe: {@link WorkflowJournal} serializes access.
+ */
+@Slf4j
+public class JournalFile implements Closeable {
+
+  private final Path path;
+
+  private final ObjectMapper objectMapper;
+
+  private final boolean fsync;
+
+  private FileChannel channel;
+
+  private long size;
+
+  public JournalFile(final Path path, final ObjectMapper objectMapper, final boolean fsync)
+      throws IOException {
+
+    this.path = path;
+    this.objectMapper = objectMapper;
+    this.fsync = fsync;
+    this.channel = openForAppend(path);
+    this.size = channel.size();
+  }
+
+  /**
+   * Reads every intact entry of a journal file.
+   *
+   * @param path         the journal file
+   * @param objectMapper the mapper the entries were written with
+   * @return the entries in the order they were written; empty if the file does not exist
+   * @throws IOException if the file cannot be read
+   */
+  public static List<JournalEntry> read(final Path path, final ObjectMapper objectMapper)
+      throws IOException {
+
+    final List<JournalEntry> entries = new ArrayList<>();
+
+    if (!Files.exists(path)) {
+
+      return entries;
+    }
+
+    int skipped = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+
+        if (line.isBlank()) {
+
+          continue;
+        }
+
+        try {
+
+          entries.add(objectMapper.readValue(line, JournalEntry.class));
+
+        } catch (final IOException e) {
+
+          skipped++;
+        }
+      }
+    }
+
+    if (skipped > 0) {
+
+      log.warn("Skipped unreadable journal entries, path: {}, skipped: {}", path, skipped);
+    }
+
+    return entries;
+  }
+
+  /**
+   * Appends an entry.
+   *
+   * @param entry the entry to append
+   * @throws IOException if the entry cannot be written
+   */
+  public void append(final JournalEntry entry) throws IOException {
+
+    size += write(channel, entry);
+
+    if (fsync) {
+
+      channel.force(false);
+    }
+  }
+
+  /**
+   * Replaces the journal with the given entries.
+   *
+   * @param entries the entries the journal holds afterwards
+   * @throws IOException if the journal cannot be rewritten
+   */
+  public void rewrite(final Collection<JournalEntry> entries) throws IOException {
+
+    replace(writeSnapshot(entries), List.of());
+  }
+
+  /**
+   * Writes entries to the temporary file a later {@link #replace} swaps in. Does not touch
+   * the journal itself, so it may run while entries are appended.
+   *
+   * @param entries the entries the compacted journal starts with
+   * @return the temporary file
+   * @throws IOException if the file cannot be written
+   */
+  public Path writeSnapshot(final Collection<JournalEntry> entries) throws IOException {
+
+    final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+    try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+      for (final JournalEntry entry : entries) {
+
+        write(out, entry);
+      }
+    }
+
+    return temporary;
+  }
+
+  /**
+   * Appends the entries journaled since the snapshot was taken and atomically replaces the
+   * journal with the snapshot.
+   *
+   * @param snapshot the file written by {@link #writeSnapshot}
+   * @param tail     entries appended to the journal after the snapshot was taken
+   * @throws IOException if the journal cannot be replaced
+   */
+  public void replace(final Path snapshot, final Collection<JournalEntry> tail)
+      throws IOException {
+
+    try (FileChannel out = FileChannel.open(snapshot, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND)) {
+
+      for (final JournalEntry entry : tail) {
+
+        write(out, entry);
+      }
+
+      out.force(true);
+    }
+
+    channel.close();
+
+    Files.move(snapshot, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+
+    channel = openForAppend(path);
+    size = channel.size();
+  }
+
+  /**
+   * Returns the current size of the journal in bytes.
+   */
+  public long size() {
+
+    return size;
+  }
+
+  @Override
+  public void close() throws IOException {
+
+    channel.close();
+  }
+
+  private int write(final FileChannel target, final JournalEntry entry) throws IOException {
+
+    final byte[] json = objectMapper.writeValueAsBytes(entry);
+
+    final ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n')
+        .flip();
+
+    int written = 0;
+
+    while (line.hasRemaining()) {
+
+      written += target.write(line);
+    }
+
+    return written;
+  }
+
+  private static FileChannel openForAppend(final Path path) throws IOException {
+
+    return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+}
@@ -0,0 +1,135 @@
+package com.agentica.workflows.journal;
+
+import com.agentica.core.domain.Event;
+import com.agentica.core.state.NodeOutputs;
+import com.agentica.core.workflow.WorkflowPlan;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * An unfinished workflow as rebuilt from the journal.
+ */
+@Builder(toBuilder = true)
+public record RecoveredWorkflow(
+
+    /**
+     * Event the workflow processes.
+     */
+    Event event,
+
+    /**
+     * Latest plan of the workflow; null for a deferred workflow, which is planned again.
+     */
+    WorkflowPlan plan,
+
+    /**
+     * Outputs of the nodes that completed.
+     */
+    NodeOutputs outputs,
+
+    /**
+     * When the retry of a deferred workflow is due; null if the workflow was running.
+     */
+    Instant dueAt,
+
+    /**
+     * Deferred retries the event used so far.
+     */
+    int attempt
+
+) {
+
+  /**
+   * Applies a journal entry to the workflow it belongs to.
+   *
+   * <p>A start entry for a workflow that never finished is the run that resumes it, so the
+   * outputs of the interrupted run are kept; a start entry for a deferred workflow is its
+   * retry, which starts over. Nodes that escalated have no output and are not recorded.
+   * A deferred workflow stays unfinished until its retry finishes, so a restart re-enqueues
+   * it instead of losing it.
+   *
+   * @param current the workflow so far, or null if the entry starts it
+   * @param entry   the journal entry
+   * @return the workflow after the entry, or null once it finished
+   */
+  public static RecoveredWorkflow apply(final RecoveredWorkflow current,
+      final JournalEntry entry) {
+
+    return switch (entry.type()) {
+
+      case STARTED -> current == null || current.deferred()
+          ? new RecoveredWorkflow(entry.event(), entry.plan(), NodeOutputs.EMPTY, null, 0)
+          : current.toBuilder().plan(entry.plan()).build();
+
+      case NODE_COMPLETED -> current == null || entry.output() == null
+          ? current
+          : current.toBuilder().outputs(current.outputs().with(entry.nodeId(), entry.output()))
+              .build();
+
+      case REPLANNED -> current == null
+          ? null
+          : current.toBuilder().plan(entry.plan()).build();
+
+      case FINISHED -> null;
+
+      case DEFERRED -> new RecoveredWorkflow(entry.event(), null, NodeOutputs.EMPTY,
+          entry.dueAt(), entry.attempt() != null ? entry.attempt() : 1);
+    };
+  }
+
+  /**
+   * Whether the workflow was waiting for a deferred retry rather than running.
+   *
+   * @return true if deferred
+   */
+  public boolean deferred() {
+
+    return dueAt != null;
+  }
+
+  /**
+   * Returns the entries that rebuild this workflow, for compacting the journal.
+   *
+   * @param eventId the event the workflow processes
+   * @return the deferral entry of a deferred workflow, otherwise the start entry followed by
+   *     one entry per completed node
+   */
+  public List<JournalEntry> toEntries(final String eventId) {
+
+    if (deferred()) {
+
+      return List.of(JournalEntry.builder()
+          .type(JournalEntry.EntryType.DEFERRED)
+          .eventId(eventId)
+          .event(event)
+          .dueAt(dueAt)
+          .attempt(attempt)
+          .build());
+    }
+
+    final List<JournalEntry> entries = new ArrayList<>();
+
+    entries.add(JournalEntry.builder()
+        .type(JournalEntry.EntryType.STARTED)
+        .eventId(eventId)
+        .event(event)
+        .plan(plan)
+        .build());
+
+    for (final Map.Entry<String, Object> output : outputs.entrySet()) {
+
+      entries.add(JournalEntry.builder()
+          .type(JournalEntry.EntryType.NODE_COMPLETED)
+          .eventId(eventId)
+          .nodeId(output.getKey())
+          .output(output.getValue())
+          .build());
+    }
+
+    return entries;
+  }
+
+}
@@ -0,0 +1,389 @@
+package com.agentica.workflows.journal;
+
+import com.agentica.core.event.workflow.NodeCompletedEvent;
+import com.agentica.core.event.workflow.WorkflowCompletedEvent;
+import com.agentica.core.event.workflow.WorkflowReplanEvent;
+import com.agentica.core.event.workflow.WorkflowStartedEvent;
+import com.agentica.workflows.config.JournalConfig;
+import com.agentica.workflows.retry.WorkflowDeferred;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Journals workflow domain events to local disk so workflows interrupted by a restart can
+ * be resumed.
+ *
+ * <p>Every started, replanned, deferred and finished workflow and every completed node is
+ * appended to the journal as it is published, before the executor moves on. The journal also
+ * keeps the unfinished workflows in memory; once the file grows past the compaction threshold
+ * it is rewritten to hold only those. Compaction runs on a background thread and only holds
+ * the journal lock to take its snapshot and to swap the files, so the workflow that crossed
+ * the threshold does not pay for it. On startup the journal is replayed, the workflows it
+ * left unfinished, running or deferred, are handed out through {@link #interrupted()}, and
+ * the file is compacted. A failing write is logged and counted but never fails the workflow.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowJournal {
+
+  private static final String FILE_NAME = "workflows.journal";
+
+  private final JournalConfig config;
+
+  private final ObjectMapper objectMapper;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, RecoveredWorkflow> unfinished = new HashMap<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final ExecutorService compactor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private List<RecoveredWorkflow> interrupted = List.of();
+
+  private JournalFile file;
+
+  /**
+   * Entries appended while a background compaction is running; null when none is.
+   */
+  private List<JournalEntry> compactionTail;
+
+  @PostConstruct
+  public void open() throws IOException {
+
+    lock.lock();
+
+    try {
+
+      openLocked();
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  private void openLocked() throws IOException {
+
+    if (!config.isEnabled()) {
+
+      log.info("Workflow journal disabled");
+
+      return;
+    }
+
+    final Path directory = Path.of(config.getDirectory());
+
+    Files.createDirectories(directory);
+
+    final Path path = directory.resolve(FILE_NAME);
+
+    final long startedAt = System.nanoTime();
+
+    final List<JournalEntry> entries = JournalFile.read(path, objectMapper);
+
+    final Map<String, RecoveredWorkflow> replayed = replay(entries);
+
+    final List<RecoveredWorkflow> resumable = new ArrayList<>();
+
+    for (final Map.Entry<String, RecoveredWorkflow> workflow : replayed.entrySet()) {
+
+      if (workflow.getValue().event() == null
+          || workflow.getValue().plan() == null && !workflow.getValue().deferred()) {
+
+        log.warn("Dropping journaled workflow without event or plan, eventId: {}",
+            workflow.getKey());
+
+        continue;
+      }
+
+      unfinished.put(workflow.getKey(), workflow.getValue());
+
+      resumable.add(workflow.getValue());
+    }
+
+    interrupted = List.copyOf(resumable);
+
+    file = new JournalFile(path, objectMapper, config.isFsync());
+
+    file.rewrite(snapshot());
+
+    final long recoveryMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    log.info("Workflow journal opened, path: {}, entries: {}, interrupted: {}, "
+        + "recoveryMs: {}", path, entries.size(), interrupted.size(), recoveryMs);
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+
+    compactor.close();
+
+    lock.lock();
+
+    try {
+
+      if (file != null) {
+
+        file.close();
+
+        file = null;
+      }
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the workflows the previous run of the application left unfinished.
+   */
+  public List<RecoveredWorkflow> interrupted() {
+
+    lock.lock();
+
+    try {
+
+      return interrupted;
+
+    } finally {
+
+      lock.unlock();
+    }
+  }
+
+  @EventListener
+  public void onWorkflowStarted(final WorkflowStartedEvent event) {
+
+    record(JournalEntry.of(event));
+  }
+
+  @EventListener
+  public void onNodeCompleted(final NodeCompletedEvent event) {
+
+    record(JournalEntry.of(event));
+  }
+
+  @EventListener
+  public void onWorkflowReplan(final WorkflowReplanEvent event) {
+
+    record(JournalEntry.of(event));
+  }
+
+  /**
+   * Journals a finished workflow. A deferral is not journaled here: the workflow stays
+   * running in the journal until its {@link WorkflowDeferred} replaces it, so a crash in
+   * between resumes it instead of losing the retry.
+   */
+  @EventListener
+  public void onWorkflowCompleted(final WorkflowCompletedEvent event) {
+
+    if (event.status() == WorkflowCompletedEvent.ExecutionStatus.DEFERRED) {
+
+      return;
+    }
+
+    record(JournalEntry.of(event));
+  }
+
+  @EventListener
+  public void onWorkflowDeferred(final WorkflowDeferred deferred) {
+
+    record(JournalEntry.of(deferred));
+  }
+
+  /**
+   * Rebuilds the unfinished workflows from journal entries.
+   *
+   * @param entries the entries in the order they were written
+   * @return the unfinished workflows by event ID, in the order they started
+   */
+  public static Map<String, RecoveredWorkflow> replay(final List<JournalEntry> entries) {
+
+    final Map<String, RecoveredWorkflow> workflows = new LinkedHashMap<>();
+
+    for (final JournalEntry entry : entries) {
+
+      final RecoveredWorkflow workflow =
+          RecoveredWorkflow.apply(workflows.get(entry.eventId()), entry);
+
+      if (workflow == null) {
+
+        workflows.remove(entry.eventId());
+
+      } else {
+
+        workflows.put(entry.eventId(), workflow);
+      }
+    }
+
+    return workflows;
+  }
+
+  /**
+   * Updates the unfinished workflows and appends the entry under one lock. While a
+   * compaction runs, the entry is also kept for the compacted file, so the swap never drops
+   * an entry that was appended after the snapshot was taken.
+   */
+  private void record(final JournalEntry entry) {
+
+    List<JournalEntry> compaction = null;
+
+    final long startedAt = System.nanoTime();
+
+    lock.lock();
+
+    try {
+
+      if (file == null) {
+
+        return;
+      }
+
+      final RecoveredWorkflow workflow =
+          RecoveredWorkflow.apply(unfinished.get(entry.eventId()), entry);
+
+      if (workflow == null) {
+
+        unfinished.remove(entry.eventId());
+
+      } else {
+
+        unfinished.put(entry.eventId(), workflow);
+      }
+
+      file.append(entry);
+
+      if (compactionTail != null) {
+
+        compactionTail.add(entry);
+
+      } else if (file.size() > config.getCompactBytes()) {
+
+        compaction = snapshot();
+
+        compactionTail = new ArrayList<>();
+      }
+
+    } catch (final IOException e) {
+
+      failures().increment();
+
+      log.error("Failed to journal workflow event, eventId: {}, type: {}, error: {}",
+          entry.eventId(), entry.type(), e.getMessage(), e);
+
+    } finally {
+
+      lock.unlock();
+
+      appends(entry).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    if (compaction != null) {
+
+      final List<JournalEntry> entries = compaction;
+
+      compactor.execute(() -> compact(entries));
+    }
+  }
+
+  /**
+   * Writes the snapshot without holding the lock, then swaps it in together with the
+   * entries appended in the meantime.
+   */
+  private void compact(final List<JournalEntry> entries) {
+
+    try {
+
+      final Path snapshot = file.writeSnapshot(entries);
+
+      lock.lock();
+
+      try {
+
+        if (file == null) {
+
+          return;
+        }
+
+        final long before = file.size();
+
+        file.replace(snapshot, compactionTail);
+
+        log.info("Compacted workflow journal, unfinished: {}, bytesBefore: {}, bytesAfter: {}",
+            unfinished.size(), before, file.size());
+
+      } finally {
+
+        compactionTail = null;
+
+        lock.unlock();
+      }
+
+    } catch (final IOException e) {
+
+      failures().increment();
+
+      log.error("Failed to compact workflow journal, error: {}", e.getMessage(), e);
+
+      lock.lock();
+
+      try {
+
+        compactionTail = null;
+
+      } finally {
+
+        lock.unlock();
+      }
+    }
+  }
+
+  private List<JournalEntry> snapshot() {
+
+    final List<JournalEntry> entries = new ArrayList<>();
+
+    unfinished.forEach((eventId, workflow) -> entries.addAll(workflow.toEntries(eventId)));
+
+    return entries;
+  }
+
+  private Timer appends(final JournalEntry entry) {
+
+    return Timer.builder("agentica.workflow.journal.append")
+        .description("Time to append a workflow event to the journal")
+        .tag("type", entry.type().name())
+        .register(meterRegistry);
+  }
+
+  private Counter failures() {
+
+    return Counter.builder("agentica.workflow.journal.failures")
+        .description("Workflow events that could not be journaled")
+        .register(meterRegistry);
+  }
+
+}
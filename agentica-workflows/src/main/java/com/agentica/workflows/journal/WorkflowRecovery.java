@@ -0,0 +1,54 @@
+package com.agentica.workflows.journal;
+
+import com.agentica.workflows.config.JournalConfig;
+import com.agentica.workflows.event.ActionableEventListener;
+import com.agentica.workflows.retry.DeferredRetryQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumes the workflows the previous run of the application left unfinished, once the
+ * application is ready to process events. Workflows that were waiting for a deferred retry
+ * go back into the retry queue with their original due time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowRecovery {
+
+  private final WorkflowJournal journal;
+
+  private final ActionableEventListener actionableEventListener;
+
+  private final DeferredRetryQueue deferredRetryQueue;
+
+  private final JournalConfig config;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeInterrupted() {
+
+    if (!config.isRecoverOnStartup()) {
+
+      return;
+    }
+
+    for (final RecoveredWorkflow workflow : journal.interrupted()) {
+
+      if (workflow.deferred()) {
+
+        deferredRetryQueue.restore(workflow.event(), workflow.dueAt(), workflow.attempt());
+
+        continue;
+      }
+
+      log.info("Recovering interrupted workflow, eventId: {}, planId: {}, completedNodes: {}",
+          workflow.event().id(), workflow.plan().workflowId(), workflow.outputs().keySet());
+
+      actionableEventListener.resumeInterrupted(workflow);
+    }
+  }
+
+}
@@ -0,0 +1,136 @@
+package com.agentica.workflows.metrics;
+
+import com.agentica.core.enums.AgentType;
+import com.agentica.core.event.workflow.AgentExecutionEvent;
+import com.agentica.core.event.workflow.NodeCompletedEvent;
+import com.agentica.core.event.workflow.NodeEscalatedEvent;
+import com.agentica.core.event.workflow.WorkflowCompletedEvent;
+import com.agentica.core.event.workflow.WorkflowEvent;
+import com.agentica.core.resource.ResourceUsage;
+import com.agentica.workflows.bus.WorkflowEventSubscriber;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records workflow metrics from the domain events the executor already publishes.
+ *
+ * <p>Runs as a subscriber of the workflow event bus, so recording happens off the workflow's
+ * thread. Meters are tagged by agent type, tool, status and outcome only, never by event ID,
+ * which keeps their number bounded however many workflows run.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkflowMetrics implements WorkflowEventSubscriber {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public void onEvent(final WorkflowEvent event) {
+
+    switch (event) {
+      case NodeCompletedEvent completed -> onNodeCompleted(completed);
+      case NodeEscalatedEvent escalated ->
+          nodeLatency(escalated.agentType(), "escalated")
+              .record(escalated.durationMs(), TimeUnit.MILLISECONDS);
+      case WorkflowCompletedEvent completed -> onWorkflowCompleted(completed);
+      case AgentExecutionEvent execution -> onAgentExecution(execution);
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Records node latency and the CPU time and allocation of the node's own work, so a
+   * regression in per-node resource cost shows per agent type. Figures that could not be
+   * measured, as on virtual threads, are skipped so the meters never report a false zero.
+   */
+  private void onNodeCompleted(final NodeCompletedEvent event) {
+
+    final String agent = agentTag(event.agentType());
+
+    nodeLatency(event.agentType(), "completed").record(event.durationMs(), TimeUnit.MILLISECONDS);
+
+    final ResourceUsage resources = event.resources();
+
+    if (resources.isCpuMeasured()) {
+
+      Timer.builder("agentica.workflow.node.cpu")
+          .description("CPU time of workflow nodes' own work, such as prompt building")
+          .tag("agent", agent)
+          .register(meterRegistry)
+          .record(resources.cpuNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    if (resources.isAllocationMeasured()) {
+
+      DistributionSummary.builder("agentica.workflow.node.allocated")
+          .description("Bytes allocated by workflow nodes' own work")
+          .baseUnit("bytes")
+          .tag("agent", agent)
+          .register(meterRegistry)
+          .record(resources.allocatedBytes());
+    }
+  }
+
+  private void onWorkflowCompleted(final WorkflowCompletedEvent event) {
+
+    final String outcome = event.status().name();
+
+    Timer.builder("agentica.workflow.duration")
+        .description("Wall-clock duration of workflow executions")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(event.totalDurationMs(), TimeUnit.MILLISECONDS);
+
+    DistributionSummary.builder("agentica.workflow.replans")
+        .description("Replans per workflow execution")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(event.replanCount());
+  }
+
+  /**
+   * Records tool call latency; tools are the MCP tools of the specialized agents.
+   */
+  private void onAgentExecution(final AgentExecutionEvent event) {
+
+    if (event.phase() != AgentExecutionEvent.ExecutionPhase.TOOL_CALL_COMPLETED
+        || event.toolCalls() == null) {
+
+      return;
+    }
+
+    for (final AgentExecutionEvent.ToolCall toolCall : event.toolCalls()) {
+
+      Timer.builder("agentica.tool.latency")
+          .description("Latency of MCP tool calls made by agents")
+          .tag("agent", agentTag(event.agentType()))
+          .tag("tool", toolCall.toolName() != null ? toolCall.toolName() : "unknown")
+          .tag("outcome", toolCall.success() ? "success" : "error")
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(toolCall.durationMs(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private Timer nodeLatency(final AgentType agentType, final String outcome) {
+
+    return Timer.builder("agentica.workflow.node.latency")
+        .description("Latency of workflow nodes by agent type")
+        .tag("agent", agentTag(agentType))
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static String agentTag(final AgentType agentType) {
+
+    return agentType != null ? agentType.name() : "unknown";
+  }
+
+}
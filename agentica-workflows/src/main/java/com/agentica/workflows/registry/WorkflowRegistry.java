@@ -30,7 +30,7 @@ public class WorkflowRegistry {
      *
      * @param eventId the event ID this workflow is processing
      * @param plan the workflow plan
-     * @param graph the built StateGraph (before compilation)
+     * @param graph the built StateGraph (before compilation), or null on the native engine
      */
     public synchronized void updateLatest(String eventId, WorkflowPlan plan,
                                           StateGraph<AgenticaState> graph) {
@@ -45,6 +45,7 @@ public class WorkflowRegistry {
 
     /**
      * Returns the latest StateGraph for visualization.
+     * Empty when the latest workflow runs on the native engine.
      */
     public Optional<StateGraph<AgenticaState>> getLatestGraph() {
 
@@ -72,7 +73,7 @@ public class WorkflowRegistry {
      */
     public boolean hasWorkflow() {
 
-        return latestGraph != null;
+        return latestPlan != null;
     }
 
 }
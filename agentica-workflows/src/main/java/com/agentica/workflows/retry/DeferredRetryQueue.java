@@ -0,0 +1,190 @@
+package com.agentica.workflows.retry;
+
+import com.agentica.core.domain.Event;
+import com.agentica.infrastructure.event.ActionableEventPublished;
+import com.agentica.workflows.config.DeferredRetryConfig;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds actionable events whose workflow hit an open circuit breaker and re-publishes
+ * them once their retry time has come.
+ *
+ * <p>Retries back off exponentially per event and never start before the blocking circuit
+ * lets calls through again. Deferral is refused once an event used up its attempts or the
+ * queue is full, and the caller then fails the event as before. Every deferral, granted or
+ * refused, is published as a {@link WorkflowDeferred}, so the workflow journal can restore
+ * pending retries after a restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredRetryQueue {
+
+  private final DeferredRetryConfig config;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final DelayQueue<DeferredEvent> queue = new DelayQueue<>();
+
+  private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+  /**
+   * Schedules a retry of the event's workflow.
+   *
+   * @param event   the actionable event
+   * @param retryAt earliest time the blocking dependency accepts calls (may be null)
+   * @return true if deferred, false if the event used up its attempts or the queue is full
+   */
+  public boolean defer(final Event event, final Instant retryAt) {
+
+    final int attempt = attempts.merge(event.id(), 1, Integer::sum);
+
+    if (attempt > config.getMaxAttempts()) {
+
+      attempts.remove(event.id());
+
+      log.warn("Deferred retries exhausted, eventId: {}, attempts: {}",
+          event.id(), config.getMaxAttempts());
+
+      eventPublisher.publishEvent(new WorkflowDeferred(event, null, attempt));
+
+      return false;
+    }
+
+    if (queue.size() >= config.getCapacity()) {
+
+      attempts.remove(event.id());
+
+      log.warn("Deferred retry queue full, eventId: {}, capacity: {}",
+          event.id(), config.getCapacity());
+
+      eventPublisher.publishEvent(new WorkflowDeferred(event, null, attempt));
+
+      return false;
+    }
+
+    final long backoffMs = Math.min(config.getMaxDelayMs(),
+        config.getInitialDelayMs() << Math.min(attempt - 1, 20));
+
+    final long jitterMs = (long) (backoffMs * config.getJitter()
+        * ThreadLocalRandom.current().nextDouble());
+
+    Instant dueAt = Instant.now().plusMillis(backoffMs + jitterMs);
+
+    if (retryAt != null && retryAt.isAfter(dueAt)) {
+
+      dueAt = retryAt.plusMillis(jitterMs);
+    }
+
+    queue.add(new DeferredEvent(event, dueAt));
+
+    log.info("Workflow deferred, eventId: {}, attempt: {}, dueAt: {}", event.id(), attempt, dueAt);
+
+    eventPublisher.publishEvent(new WorkflowDeferred(event, dueAt, attempt));
+
+    return true;
+  }
+
+  /**
+   * Re-enqueues a retry that was pending when the application stopped. A retry whose time
+   * has passed is released on the next poll.
+   *
+   * @param event   the actionable event
+   * @param dueAt   when the retry was due
+   * @param attempt deferred retries the event had used
+   */
+  public void restore(final Event event, final Instant dueAt, final int attempt) {
+
+    attempts.put(event.id(), attempt);
+
+    queue.add(new DeferredEvent(event, dueAt));
+
+    log.info("Deferred workflow restored, eventId: {}, attempt: {}, dueAt: {}",
+        event.id(), attempt, dueAt);
+  }
+
+  /**
+   * Forgets the retry history of an event whose workflow finished.
+   *
+   * @param eventId the event id
+   */
+  public void clear(final String eventId) {
+
+    attempts.remove(eventId);
+  }
+
+  /**
+   * Re-publishes all events whose retry time has come.
+   */
+  @Scheduled(fixedDelayString = "${agentica.workflow.deferred-retry.poll-interval-ms:1000}")
+  public void releaseDue() {
+
+    final List<DeferredEvent> due = new ArrayList<>();
+
+    queue.drainTo(due);
+
+    for (final DeferredEvent deferred : due) {
+
+      log.info("Retrying deferred workflow, eventId: {}, attempt: {}",
+          deferred.event().id(), attempts.getOrDefault(deferred.event().id(), 0));
+
+      eventPublisher.publishEvent(new ActionableEventPublished(this, deferred.event()));
+    }
+  }
+
+  /**
+   * Returns the number of deferred events waiting for their retry.
+   *
+   * @return the queue size
+   */
+  public int size() {
+
+    return queue.size();
+  }
+
+  /**
+   * Returns the earliest retry time of the waiting events.
+   *
+   * @return the next due time, or null if the queue is empty
+   */
+  public Instant nextDueAt() {
+
+    final DeferredEvent next = queue.peek();
+
+    return next != null ? next.dueAt() : null;
+  }
+
+  /**
+   * An event waiting for its retry time.
+   */
+  private record DeferredEvent(Event event, Instant dueAt) implements Delayed {
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+
+      return unit.convert(dueAt.toEpochMilli() - System.currentTimeMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+
+      return Long.compare(getDelay(TimeUnit.MILLISECONDS),
+          other.getDelay(TimeUnit.MILLISECONDS));
+    }
+  }
+
+}
@@ -0,0 +1,25 @@
+package com.agentica.workflows.retry;
+
+import com.agentica.core.domain.Event;
+import java.time.Instant;
+
+/**
+ * Published when an event's workflow is queued for a deferred retry, or refused one, so the
+ * pending retry survives a restart and a refused one is not revived by it.
+ *
+ * @param event   the actionable event
+ * @param dueAt   when the retry is due; null if the deferral was refused
+ * @param attempt deferred retries the event used so far, including this one
+ */
+public record WorkflowDeferred(Event event, Instant dueAt, int attempt) {
+
+  /**
+   * Whether a retry was scheduled.
+   *
+   * @return false if the deferral was refused
+   */
+  public boolean scheduled() {
+
+    return dueAt != null;
+  }
+}
@@ -0,0 +1,92 @@
+package com.agentica.workflows.trace;
+
+import com.agentica.core.trace.Span;
+import com.agentica.core.trace.SpanExporter;
+import com.agentica.core.trace.TraceSettings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends finished spans to a local file, one JSON document per line, for tracing without
+ * a tracing backend. Disabled unless {@code agentica.tracing.file-enabled} is set. A
+ * failing write is logged and the span dropped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSpanExporter implements SpanExporter {
+
+  private static final String FILE_NAME = "spans.jsonl";
+
+  private final TraceSettings settings;
+
+  private final ObjectMapper objectMapper;
+
+  private FileChannel channel;
+
+  @PostConstruct
+  public synchronized void open() throws IOException {
+
+    if (!settings.isEnabled() || !settings.isFileEnabled()) {
+
+      return;
+    }
+
+    final Path directory = Path.of(settings.getFileDirectory());
+
+    Files.createDirectories(directory);
+
+    channel = FileChannel.open(directory.resolve(FILE_NAME), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+    log.info("Span file opened, path: {}", directory.resolve(FILE_NAME));
+  }
+
+  @Override
+  public void export(final Span span) {
+
+    if (channel == null) {
+
+      return;
+    }
+
+    try {
+
+      final byte[] json = objectMapper.writeValueAsBytes(span);
+
+      final ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n');
+
+      synchronized (this) {
+
+        channel.write(line.flip());
+      }
+
+    } catch (final IOException e) {
+
+      log.warn("Failed to write span, traceId: {}, name: {}, error: {}", span.traceId(),
+          span.name(), e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public synchronized void close() throws IOException {
+
+    if (channel != null) {
+
+      channel.close();
+
+      channel = null;
+    }
+  }
+
+}
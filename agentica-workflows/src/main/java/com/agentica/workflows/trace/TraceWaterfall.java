@@ -0,0 +1,112 @@
+package com.agentica.workflows.trace;
+
+import com.agentica.core.trace.Span;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Waterfall view of an event's trace: its spans in start order, each indented under the
+ * span it ran within and placed on a timeline starting at the earliest span.
+ *
+ * @param eventId    the event ID
+ * @param traceId    the trace ID; null if no span was found
+ * @param durationMs time from the earliest span start to the latest span end
+ * @param rows       the spans, parents before their children
+ */
+public record TraceWaterfall(String eventId, String traceId, double durationMs,
+    List<Row> rows) {
+
+  /**
+   * Builds the waterfall of the given spans. Spans whose parent is missing, for example
+   * because the trace is still running, are shown at the top level.
+   *
+   * @param eventId the event ID
+   * @param spans   the finished spans of the trace
+   * @return the waterfall
+   */
+  public static TraceWaterfall of(final String eventId, final List<Span> spans) {
+
+    if (spans.isEmpty()) {
+
+      return new TraceWaterfall(eventId, null, 0, List.of());
+    }
+
+    final Set<String> spanIds = new HashSet<>();
+
+    final Map<String, List<Span>> children = new HashMap<>();
+
+    Instant start = spans.get(0).startedAt();
+
+    long endMicros = 0;
+
+    for (final Span span : spans) {
+
+      spanIds.add(span.spanId());
+
+      if (span.startedAt().isBefore(start)) {
+
+        start = span.startedAt();
+      }
+    }
+
+    for (final Span span : spans) {
+
+      final String parent = spanIds.contains(span.parentSpanId()) ? span.parentSpanId() : null;
+
+      children.computeIfAbsent(parent, key -> new ArrayList<>()).add(span);
+
+      endMicros = Math.max(endMicros, micros(start, span.startedAt()) + span.durationMicros());
+    }
+
+    final List<Row> rows = new ArrayList<>();
+
+    addRows(rows, children, null, 0, start);
+
+    return new TraceWaterfall(eventId, spans.get(0).traceId(), endMicros / 1000.0, rows);
+  }
+
+  private static void addRows(final List<Row> rows, final Map<String, List<Span>> children,
+      final String parentSpanId, final int depth, final Instant start) {
+
+    final List<Span> spans = children.getOrDefault(parentSpanId, List.of());
+
+    spans.sort(Comparator.comparing(Span::startedAt));
+
+    for (final Span span : spans) {
+
+      rows.add(new Row(span.spanId(), span.name(), depth,
+          micros(start, span.startedAt()) / 1000.0, span.durationMicros() / 1000.0,
+          span.error(), span.attributes()));
+
+      addRows(rows, children, span.spanId(), depth + 1, start);
+    }
+  }
+
+  private static long micros(final Instant from, final Instant to) {
+
+    return (to.getEpochSecond() - from.getEpochSecond()) * 1_000_000
+        + (to.getNano() - from.getNano()) / 1_000;
+  }
+
+  /**
+   * A span of the waterfall.
+   *
+   * @param spanId     the span ID
+   * @param name       the span name
+   * @param depth      how deeply the span is nested under the top level
+   * @param offsetMs   time from the start of the trace to the start of the span
+   * @param durationMs the span duration
+   * @param error      why the span failed; null if it succeeded
+   * @param attributes the span attributes
+   */
+  public record Row(String spanId, String name, int depth, double offsetMs, double durationMs,
+      String error, Map<String, String> attributes) {
+  }
+
+}
@@ -28,6 +28,12 @@ public class WorkflowPlanValidator {
 
     private static final String END_NODE = "END";
 
+    /**
+     * Upper bound for branches of one parallel edge, so a single plan cannot fan out
+     * into more concurrent LLM calls than the bulkheads are sized for.
+     */
+    private static final int MAX_PARALLEL_BRANCHES = 8;
+
     private static final Set<AgentType> ALLOWED_AGENT_TYPES = Set.of(
         AgentType.MARKETING,
         AgentType.FACEBOOK,
@@ -219,9 +225,92 @@ public class WorkflowPlanValidator {
 
                 validateConditionalEdge(edge, nodeIds, errors);
             }
+
+            if (edge.type() == EdgeType.PARALLEL) {
+
+                validateParallelEdge(edge, plan, nodeIds, errors);
+            }
         }
     }
 
+    private void validateParallelEdge(WorkflowEdge edge, WorkflowPlan plan, Set<String> nodeIds,
+                                      List<String> errors) {
+
+        if (edge.branches() == null || edge.branches().isEmpty()) {
+
+            errors.add("Parallel edge from '" + edge.from() + "' missing branches");
+            return;
+        }
+
+        if (edge.branches().size() > MAX_PARALLEL_BRANCHES) {
+
+            errors.add("Parallel edge from '" + edge.from() + "' has " + edge.branches().size() +
+                " branches, at most " + MAX_PARALLEL_BRANCHES + " are allowed");
+        }
+
+        Set<String> seenBranches = new HashSet<>();
+
+        for (String branch : edge.branches()) {
+
+            if (!nodeIds.contains(branch)) {
+
+                errors.add("Parallel branch '" + branch + "' references unknown node");
+                continue;
+            }
+
+            if (!seenBranches.add(branch)) {
+
+                errors.add("Parallel edge from '" + edge.from() + "' lists branch '" + branch +
+                    "' twice");
+            }
+
+            if (branch.equals(edge.to())) {
+
+                errors.add("Parallel branch '" + branch + "' cannot also be the join target");
+            }
+
+            // Branches run inside the fan-out and rejoin at its target, so they must not
+            // route anywhere themselves
+            boolean hasOutgoingEdge = plan.edges().stream()
+                .anyMatch(other -> branch.equals(other.from()));
+
+            if (hasOutgoingEdge) {
+
+                errors.add("Parallel branch '" + branch + "' must not have outgoing edges; " +
+                    "branches continue to the parallel edge's 'to' node");
+            }
+
+            // A branch reached any other way would run twice or outside its fan-out
+            for (WorkflowEdge other : plan.edges()) {
+
+                if (other == edge) {
+
+                    continue;
+                }
+
+                if (branch.equals(other.to()) || routesTo(other, branch)) {
+
+                    errors.add("Parallel branch '" + branch + "' must not be the target of " +
+                        "another edge; it only runs from its parallel edge");
+                }
+
+                if (other.type() == EdgeType.PARALLEL && other.branches() != null
+                    && other.branches().contains(branch)) {
+
+                    errors.add("Parallel branch '" + branch + "' is listed by the parallel " +
+                        "edges from '" + edge.from() + "' and '" + other.from() + "'");
+                }
+            }
+        }
+    }
+
+    private static boolean routesTo(WorkflowEdge edge, String nodeId) {
+
+        return edge.condition() != null && edge.condition().routes() != null
+            && edge.condition().routes().stream()
+                .anyMatch(route -> nodeId.equals(route.target()));
+    }
+
     private void validateConditionalEdge(WorkflowEdge edge, Set<String> nodeIds, List<String> errors) {
 
         if (edge.condition() == null) {
@@ -275,6 +364,17 @@ public class WorkflowPlanValidator {
                         }
                     }
 
+                    if (edge.type() == EdgeType.PARALLEL && edge.branches() != null) {
+
+                        for (String branch : edge.branches()) {
+
+                            if (nodeIds.contains(branch) && reachable.add(branch)) {
+
+                                changed = true;
+                            }
+                        }
+                    }
+
                     if (edge.type() == EdgeType.CONDITIONAL && edge.condition() != null &&
                         edge.condition().routes() != null) {
 